@@ -0,0 +1,42 @@
+package com.clinica.auditoria.application.service;
+
+import com.clinica.auditoria.domain.model.ActividadAgregada;
+import com.clinica.auditoria.domain.model.ActividadUsuario;
+import com.clinica.auditoria.domain.model.Granularidad;
+import com.clinica.auditoria.domain.port.in.ConsultarActividadAuditoriaUseCase;
+import com.clinica.auditoria.domain.port.out.ActividadAuditoriaRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ActividadAuditoriaService implements ConsultarActividadAuditoriaUseCase {
+
+    private final ActividadAuditoriaRepositoryPort actividadRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ActividadAgregada> consultarActividad(FiltroActividad filtro) {
+        FiltroActividad normalizado = new FiltroActividad(
+                filtro.granularidad() != null ? filtro.granularidad() : Granularidad.DIA,
+                filtro.agruparPor() != null ? filtro.agruparPor() : Set.of(),
+                filtro.desde(),
+                filtro.hasta(),
+                filtro.action(),
+                filtro.resourceType(),
+                filtro.sourceService());
+        return actividadRepository.consultar(normalizado);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ActividadUsuario> consultarActividadPorUsuario(UUID userId, LocalDate desde, LocalDate hasta) {
+        return actividadRepository.consultarPorUsuario(userId, desde, hasta);
+    }
+}
@@ -1,9 +1,16 @@
 package com.clinica.auditoria.application.service;
 
+import com.clinica.auditoria.domain.model.CursorAuditoria;
+import com.clinica.auditoria.domain.model.PaginaAuditoria;
 import com.clinica.auditoria.domain.model.RegistroAuditoria;
 import com.clinica.auditoria.domain.port.in.ConsultarAuditoriaUseCase;
+import com.clinica.auditoria.domain.port.in.ExportarAuditoriaUseCase;
 import com.clinica.auditoria.domain.port.in.RegistrarAuditoriaUseCase;
+import com.clinica.auditoria.domain.port.out.ActividadAuditoriaRepositoryPort;
+import com.clinica.auditoria.domain.port.out.AuditoriaBatchRepositoryPort;
+import com.clinica.auditoria.domain.port.out.AuditoriaConsultaRepositoryPort;
 import com.clinica.auditoria.domain.port.out.AuditoriaRepositoryPort;
+import com.clinica.auditoria.domain.port.out.EventosRecientesPort;
 import com.clinica.shared.domain.event.AuditableEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,21 +18,128 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class AuditoriaService implements RegistrarAuditoriaUseCase, ConsultarAuditoriaUseCase {
+public class AuditoriaService implements RegistrarAuditoriaUseCase, ConsultarAuditoriaUseCase,
+        ExportarAuditoriaUseCase {
+
+    private static final int LIMITE_MAXIMO_CURSOR = 500;
+    private static final int TAMANIO_PAGINA_EXPORTACION = 1000;
 
     private final AuditoriaRepositoryPort auditoriaRepository;
+    private final AuditoriaBatchRepositoryPort auditoriaBatchRepository;
+    private final AuditoriaConsultaRepositoryPort auditoriaConsultaRepository;
+    private final EventosRecientesPort eventosRecientes;
+    private final ActividadAuditoriaRepositoryPort actividadRepository;
 
     @Override
     @Transactional
-    public RegistroAuditoria registrar(AuditableEvent event) {
-        RegistroAuditoria registro = RegistroAuditoria.builder()
+    public Optional<RegistroAuditoria> registrar(AuditableEvent event) {
+        List<RegistroAuditoria> registrados = registrarLote(List.of(event));
+        if (registrados.isEmpty()) {
+            log.debug("Evento de auditoria duplicado descartado: {}", event.getEventId());
+            return Optional.empty();
+        }
+        RegistroAuditoria saved = registrados.getFirst();
+        log.info("Auditoria registrada: {} - {} - {}", saved.getAction(), saved.getResourceType(), saved.getResourceId());
+        return Optional.of(saved);
+    }
+
+    @Override
+    @Transactional
+    public List<RegistroAuditoria> registrarLote(List<AuditableEvent> events) {
+        Instant receivedAt = Instant.now();
+        Set<UUID> vistos = new HashSet<>();
+        List<AuditableEvent> unicos = events.stream()
+                .filter(event -> vistos.add(event.getEventId()))
+                .toList();
+        if (unicos.size() < events.size()) {
+            eventosRecientes.contarDuplicadosEnLote(events.size() - unicos.size());
+        }
+        List<RegistroAuditoria> candidatos = unicos.stream()
+                .filter(event -> !eventosRecientes.contiene(event.getEventId()))
+                .map(event -> toRegistro(event, receivedAt))
+                .toList();
+
+        if (candidatos.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> insertados = auditoriaBatchRepository.saveAllIfAbsent(candidatos);
+        recordarTrasCommit(insertados);
+
+        List<RegistroAuditoria> registros = candidatos.stream()
+                .filter(registro -> insertados.contains(registro.getEventId()))
+                .toList();
+        actividadRepository.acumular(registros);
+        log.info("Lote de auditoria registrado: {} de {} eventos", registros.size(), events.size());
+        return registros;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<RegistroAuditoria> consultar(FiltroAuditoria filtro, Pageable pageable) {
+        return auditoriaRepository.findByFiltro(filtro, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaAuditoria consultarPorCursor(FiltroAuditoria filtro, String cursor, int limite) {
+        int tamanio = Math.clamp(limite, 1, LIMITE_MAXIMO_CURSOR);
+        CursorAuditoria desde = cursor != null && !cursor.isBlank() ? CursorAuditoria.decodificar(cursor) : null;
+
+        // Se pide un registro extra para saber si existe una pagina siguiente sin ejecutar COUNT
+        List<RegistroAuditoria> registros = auditoriaConsultaRepository.findByFiltroDespuesDe(filtro, desde, tamanio + 1);
+        if (registros.size() <= tamanio) {
+            return new PaginaAuditoria(registros, null);
+        }
+        List<RegistroAuditoria> pagina = registros.subList(0, tamanio);
+        return new PaginaAuditoria(pagina, CursorAuditoria.de(pagina.getLast()).codificar());
+    }
+
+    // Sin transaccion envolvente: cada pagina keyset es una consulta corta y la conexion vuelve al pool
+    // mientras el cliente descarga, por lento que sea
+    @Override
+    public void exportar(FiltroAuditoria filtro, Consumer<RegistroAuditoria> consumidor) {
+        CursorAuditoria desde = null;
+        List<RegistroAuditoria> pagina;
+        do {
+            pagina = auditoriaConsultaRepository.findByFiltroDespuesDe(filtro, desde, TAMANIO_PAGINA_EXPORTACION);
+            pagina.forEach(consumidor);
+            if (!pagina.isEmpty()) {
+                desde = CursorAuditoria.de(pagina.getLast());
+            }
+        } while (pagina.size() == TAMANIO_PAGINA_EXPORTACION);
+    }
+
+    // Solo se recuerdan los eventId confirmados: si la transaccion falla, el reintento no debe descartarse
+    private void recordarTrasCommit(Set<UUID> eventIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventosRecientes.registrar(eventIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventosRecientes.registrar(eventIds);
+            }
+        });
+    }
+
+    private RegistroAuditoria toRegistro(AuditableEvent event, Instant receivedAt) {
+        return RegistroAuditoria.builder()
                 .id(UUID.randomUUID())
                 .eventId(event.getEventId())
                 .occurredOn(event.getOccurredOn())
@@ -39,17 +153,7 @@ public class AuditoriaService implements RegistrarAuditoriaUseCase, ConsultarAud
                 .newValue(event.getNewValue())
                 .sourceIp(event.getSourceIp())
                 .sourceService(event.getSourceService())
-                .receivedAt(Instant.now())
+                .receivedAt(receivedAt)
                 .build();
-
-        RegistroAuditoria saved = auditoriaRepository.save(registro);
-        log.info("Auditoria registrada: {} - {} - {}", saved.getAction(), saved.getResourceType(), saved.getResourceId());
-        return saved;
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public Page<RegistroAuditoria> consultar(FiltroAuditoria filtro, Pageable pageable) {
-        return auditoriaRepository.findByFiltro(filtro, pageable);
     }
 }
@@ -0,0 +1,54 @@
+package com.clinica.auditoria.application.service;
+
+import com.clinica.auditoria.domain.port.in.GestionarParticionesAuditoriaUseCase;
+import com.clinica.auditoria.domain.port.out.ParticionAuditoriaPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParticionAuditoriaService implements GestionarParticionesAuditoriaUseCase {
+
+    private final ParticionAuditoriaPort particionPort;
+
+    @Override
+    public List<YearMonth> prepararParticiones(YearMonth mesActual, int mesesAdelantados) {
+        Set<YearMonth> existentes = particionPort.listarParticiones();
+        List<YearMonth> creadas = new ArrayList<>();
+
+        for (int i = 0; i <= mesesAdelantados; i++) {
+            YearMonth mes = mesActual.plusMonths(i);
+            if (!existentes.contains(mes)) {
+                particionPort.crearParticion(mes);
+                creadas.add(mes);
+                log.info("Particion de auditoria creada: {}", mes);
+            }
+        }
+        return creadas;
+    }
+
+    @Override
+    public List<YearMonth> desvincularParticionesAntiguas(YearMonth mesActual, int retencionMeses) {
+        if (retencionMeses <= 0) {
+            return List.of();
+        }
+        YearMonth limite = mesActual.minusMonths(retencionMeses);
+        List<YearMonth> desvinculadas = particionPort.listarParticiones().stream()
+                .filter(mes -> mes.isBefore(limite))
+                .sorted()
+                .toList();
+
+        desvinculadas.forEach(mes -> {
+            particionPort.desvincularParticion(mes);
+            log.info("Particion de auditoria desvinculada para archivo: {}", mes);
+        });
+        return desvinculadas;
+    }
+}
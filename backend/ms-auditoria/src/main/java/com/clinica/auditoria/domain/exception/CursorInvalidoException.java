@@ -0,0 +1,10 @@
+package com.clinica.auditoria.domain.exception;
+
+import com.clinica.shared.exception.DomainException;
+
+public class CursorInvalidoException extends DomainException {
+
+    public CursorInvalidoException(String cursor) {
+        super("Cursor de paginacion invalido: " + cursor);
+    }
+}
@@ -0,0 +1,15 @@
+package com.clinica.auditoria.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Total de eventos de un periodo. Las dimensiones no agrupadas en la consulta quedan en null.
+ */
+public record ActividadAgregada(
+        Instant periodo,
+        String action,
+        String resourceType,
+        String sourceService,
+        long total
+) {
+}
@@ -0,0 +1,12 @@
+package com.clinica.auditoria.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ActividadUsuario(
+        LocalDate dia,
+        UUID userId,
+        String action,
+        long total
+) {
+}
@@ -0,0 +1,38 @@
+package com.clinica.auditoria.domain.model;
+
+import com.clinica.auditoria.domain.exception.CursorInvalidoException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posicion de continuacion sobre el orden (occurredOn DESC, id DESC).
+ * Se expone al cliente como un token opaco en Base64 URL-safe.
+ */
+public record CursorAuditoria(Instant occurredOn, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    public static CursorAuditoria de(RegistroAuditoria registro) {
+        return new CursorAuditoria(registro.getOccurredOn(), registro.getId());
+    }
+
+    public static CursorAuditoria decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            return new CursorAuditoria(
+                    Instant.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new CursorInvalidoException(token);
+        }
+    }
+
+    public String codificar() {
+        String valor = occurredOn + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,7 @@
+package com.clinica.auditoria.domain.model;
+
+public enum DimensionActividad {
+    ACTION,
+    RESOURCE_TYPE,
+    SOURCE_SERVICE
+}
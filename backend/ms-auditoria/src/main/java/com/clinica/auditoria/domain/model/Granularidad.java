@@ -0,0 +1,20 @@
+package com.clinica.auditoria.domain.model;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+public enum Granularidad {
+
+    HORA(ChronoUnit.HOURS),
+    DIA(ChronoUnit.DAYS);
+
+    private final ChronoUnit unidad;
+
+    Granularidad(ChronoUnit unidad) {
+        this.unidad = unidad;
+    }
+
+    public Instant truncar(Instant instante) {
+        return instante.truncatedTo(unidad);
+    }
+}
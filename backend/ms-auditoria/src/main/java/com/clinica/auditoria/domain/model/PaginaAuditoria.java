@@ -0,0 +1,10 @@
+package com.clinica.auditoria.domain.model;
+
+import java.util.List;
+
+public record PaginaAuditoria(List<RegistroAuditoria> registros, String siguienteCursor) {
+
+    public boolean tieneSiguiente() {
+        return siguienteCursor != null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.clinica.auditoria.domain.port.in;
+
+import com.clinica.auditoria.domain.model.ActividadAgregada;
+import com.clinica.auditoria.domain.model.ActividadUsuario;
+import com.clinica.auditoria.domain.model.DimensionActividad;
+import com.clinica.auditoria.domain.model.Granularidad;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ConsultarActividadAuditoriaUseCase {
+
+    List<ActividadAgregada> consultarActividad(FiltroActividad filtro);
+
+    List<ActividadUsuario> consultarActividadPorUsuario(UUID userId, LocalDate desde, LocalDate hasta);
+
+    record FiltroActividad(
+            Granularidad granularidad,
+            Set<DimensionActividad> agruparPor,
+            Instant desde,
+            Instant hasta,
+            String action,
+            String resourceType,
+            String sourceService
+    ) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.clinica.auditoria.domain.port.in;
 
+import com.clinica.auditoria.domain.model.PaginaAuditoria;
 import com.clinica.auditoria.domain.model.RegistroAuditoria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +12,8 @@ public interface ConsultarAuditoriaUseCase {
 
     Page<RegistroAuditoria> consultar(FiltroAuditoria filtro, Pageable pageable);
 
+    PaginaAuditoria consultarPorCursor(FiltroAuditoria filtro, String cursor, int limite);
+
     record FiltroAuditoria(
             UUID userId,
             UUID resourceId,
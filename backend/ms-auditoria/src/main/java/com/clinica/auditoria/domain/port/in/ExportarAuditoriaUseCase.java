@@ -0,0 +1,11 @@
+package com.clinica.auditoria.domain.port.in;
+
+import com.clinica.auditoria.domain.model.RegistroAuditoria;
+import com.clinica.auditoria.domain.port.in.ConsultarAuditoriaUseCase.FiltroAuditoria;
+
+import java.util.function.Consumer;
+
+public interface ExportarAuditoriaUseCase {
+
+    void exportar(FiltroAuditoria filtro, Consumer<RegistroAuditoria> consumidor);
+}
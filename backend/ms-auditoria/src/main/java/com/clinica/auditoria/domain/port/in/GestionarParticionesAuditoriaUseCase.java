@@ -0,0 +1,11 @@
+package com.clinica.auditoria.domain.port.in;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface GestionarParticionesAuditoriaUseCase {
+
+    List<YearMonth> prepararParticiones(YearMonth mesActual, int mesesAdelantados);
+
+    List<YearMonth> desvincularParticionesAntiguas(YearMonth mesActual, int retencionMeses);
+}
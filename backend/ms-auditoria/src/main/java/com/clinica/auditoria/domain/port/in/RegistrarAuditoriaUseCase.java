@@ -3,7 +3,13 @@ package com.clinica.auditoria.domain.port.in;
 import com.clinica.auditoria.domain.model.RegistroAuditoria;
 import com.clinica.shared.domain.event.AuditableEvent;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface RegistrarAuditoriaUseCase {
 
-    RegistroAuditoria registrar(AuditableEvent event);
+    /** Devuelve vacio si el evento ya estaba registrado. */
+    Optional<RegistroAuditoria> registrar(AuditableEvent event);
+
+    List<RegistroAuditoria> registrarLote(List<AuditableEvent> events);
 }
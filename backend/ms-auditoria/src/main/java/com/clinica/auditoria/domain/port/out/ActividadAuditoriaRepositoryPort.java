@@ -0,0 +1,19 @@
+package com.clinica.auditoria.domain.port.out;
+
+import com.clinica.auditoria.domain.model.ActividadAgregada;
+import com.clinica.auditoria.domain.model.ActividadUsuario;
+import com.clinica.auditoria.domain.model.RegistroAuditoria;
+import com.clinica.auditoria.domain.port.in.ConsultarActividadAuditoriaUseCase.FiltroActividad;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ActividadAuditoriaRepositoryPort {
+
+    void acumular(List<RegistroAuditoria> registros);
+
+    List<ActividadAgregada> consultar(FiltroActividad filtro);
+
+    List<ActividadUsuario> consultarPorUsuario(UUID userId, LocalDate desde, LocalDate hasta);
+}
@@ -0,0 +1,15 @@
+package com.clinica.auditoria.domain.port.out;
+
+import com.clinica.auditoria.domain.model.RegistroAuditoria;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface AuditoriaBatchRepositoryPort {
+
+    /**
+     * Inserta los registros cuyo eventId aun no existe y devuelve los eventId efectivamente insertados.
+     */
+    Set<UUID> saveAllIfAbsent(List<RegistroAuditoria> registros);
+}
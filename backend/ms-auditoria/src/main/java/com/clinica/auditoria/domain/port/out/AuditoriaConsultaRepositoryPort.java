@@ -0,0 +1,16 @@
+package com.clinica.auditoria.domain.port.out;
+
+import com.clinica.auditoria.domain.model.CursorAuditoria;
+import com.clinica.auditoria.domain.model.RegistroAuditoria;
+import com.clinica.auditoria.domain.port.in.ConsultarAuditoriaUseCase.FiltroAuditoria;
+
+import java.util.List;
+
+public interface AuditoriaConsultaRepositoryPort {
+
+    /**
+     * Devuelve hasta {@code limite} registros ordenados por (occurredOn, id) descendente,
+     * posteriores al cursor indicado (o desde el inicio si es null). No ejecuta COUNT.
+     */
+    List<RegistroAuditoria> findByFiltroDespuesDe(FiltroAuditoria filtro, CursorAuditoria cursor, int limite);
+}
@@ -0,0 +1,14 @@
+package com.clinica.auditoria.domain.port.out;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface EventosRecientesPort {
+
+    boolean contiene(UUID eventId);
+
+    void registrar(Collection<UUID> eventIds);
+
+    /** Contabiliza los eventos repetidos dentro de un mismo lote, descartados antes de consultar la cache. */
+    void contarDuplicadosEnLote(int cantidad);
+}
@@ -0,0 +1,13 @@
+package com.clinica.auditoria.domain.port.out;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+public interface ParticionAuditoriaPort {
+
+    Set<YearMonth> listarParticiones();
+
+    void crearParticion(YearMonth mes);
+
+    void desvincularParticion(YearMonth mes);
+}
@@ -0,0 +1,76 @@
+package com.clinica.auditoria.infrastructure.adapter.in.messaging;
+
+import com.clinica.auditoria.domain.port.in.RegistrarAuditoriaUseCase;
+import com.clinica.shared.domain.event.AuditableEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Consume eventos de auditoria en lotes. El contenedor entrega hasta batch-size mensajes
+ * (o lo acumulado al vencer batch-timeout-ms) y solo los confirma cuando el lote se persistio.
+ * Los errores transitorios de base de datos se propagan para que RabbitMQ reencole el lote; los
+ * eventos que fallan por si mismos se envian a la cola de descarte en vez de confirmarse perdidos.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auditoria.ingestion.batch.enabled", havingValue = "true")
+public class AuditoriaBatchEventListener {
+
+    private final RegistrarAuditoriaUseCase registrarAuditoriaUseCase;
+    private final AuditoriaIngestionMetrics metrics;
+    private final RabbitTemplate rabbitTemplate;
+    private final String dlqName;
+
+    public AuditoriaBatchEventListener(RegistrarAuditoriaUseCase registrarAuditoriaUseCase,
+                                       AuditoriaIngestionMetrics metrics,
+                                       RabbitTemplate rabbitTemplate,
+                                       @Value("${auditoria.queue.dlq-name:clinica.auditoria.dlq}") String dlqName) {
+        this.registrarAuditoriaUseCase = registrarAuditoriaUseCase;
+        this.metrics = metrics;
+        this.rabbitTemplate = rabbitTemplate;
+        this.dlqName = dlqName;
+    }
+
+    @RabbitListener(queues = "${auditoria.queue.name:clinica.auditoria.queue}",
+            containerFactory = "auditoriaBatchContainerFactory")
+    public void onAuditableEvents(List<AuditableEvent> events) {
+        log.debug("Lote de auditoria recibido: {} eventos", events.size());
+        long inicio = System.nanoTime();
+        try {
+            registrarAuditoriaUseCase.registrarLote(events);
+        } catch (NonTransientDataAccessException e) {
+            log.warn("Lote de auditoria rechazado ({} eventos), registrando individualmente: {}",
+                    events.size(), e.getMessage());
+            events.forEach(this::registrarIndividual);
+        }
+        metrics.registrarFlush(events.size(), System.nanoTime() - inicio);
+    }
+
+    /**
+     * Si la base no esta disponible la excepcion se propaga y se reencola el lote completo; los
+     * eventos ya guardados se descartan luego como duplicados por eventId.
+     */
+    private void registrarIndividual(AuditableEvent event) {
+        try {
+            registrarAuditoriaUseCase.registrar(event);
+        } catch (TransientDataAccessException | RecoverableDataAccessException
+                 | DataAccessResourceFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Evento de auditoria {} ({}) enviado a {}: {}",
+                    event.getEventId(), event.getEventType(), dlqName, e.getMessage(), e);
+            rabbitTemplate.convertAndSend("", dlqName, event);
+            metrics.registrarDescartado();
+        }
+    }
+}
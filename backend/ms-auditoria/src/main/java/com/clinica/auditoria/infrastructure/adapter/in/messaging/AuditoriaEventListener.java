@@ -5,11 +5,13 @@ import com.clinica.shared.domain.event.AuditableEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "auditoria.ingestion.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class AuditoriaEventListener {
 
     private final RegistrarAuditoriaUseCase registrarAuditoriaUseCase;
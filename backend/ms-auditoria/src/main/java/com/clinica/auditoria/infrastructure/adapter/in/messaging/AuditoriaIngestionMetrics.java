@@ -0,0 +1,89 @@
+package com.clinica.auditoria.infrastructure.adapter.in.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AuditoriaIngestionMetrics {
+
+    private final DistributionSummary batchSize;
+    private final Timer flushLatency;
+    private final Counter descartados;
+    private final AmqpAdmin amqpAdmin;
+    private final String queueName;
+    private final long backlogTtlNanos;
+    private volatile double backlog = Double.NaN;
+    private volatile long backlogLeidoNanos;
+
+    public AuditoriaIngestionMetrics(MeterRegistry meterRegistry,
+                                     AmqpAdmin amqpAdmin,
+                                     @Value("${auditoria.queue.name:clinica.auditoria.queue}") String queueName,
+                                     @Value("${auditoria.ingestion.backlog-ttl:PT15S}") Duration backlogTtl) {
+        this.amqpAdmin = amqpAdmin;
+        this.queueName = queueName;
+        this.backlogTtlNanos = backlogTtl.toNanos();
+        this.backlogLeidoNanos = System.nanoTime() - backlogTtlNanos;
+        this.batchSize = DistributionSummary.builder("auditoria.ingestion.batch.size")
+                .description("Cantidad de eventos por lote persistido")
+                .baseUnit("events")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("auditoria.ingestion.flush")
+                .description("Duracion de la persistencia de un lote de auditoria")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.descartados = Counter.builder("auditoria.ingestion.descartados")
+                .description("Eventos enviados a la cola de descarte")
+                .baseUnit("events")
+                .register(meterRegistry);
+        Gauge.builder("auditoria.ingestion.backlog", this, AuditoriaIngestionMetrics::backlog)
+                .description("Mensajes pendientes en la cola de auditoria")
+                .baseUnit("messages")
+                .register(meterRegistry);
+    }
+
+    public void registrarFlush(int eventos, long duracionNanos) {
+        batchSize.record(eventos);
+        flushLatency.record(duracionNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void registrarDescartado() {
+        descartados.increment();
+    }
+
+    /**
+     * Consulta el broker como mucho una vez por {@code backlog-ttl}, sin importar cuantas veces se
+     * lea la metrica.
+     */
+    private double backlog() {
+        long ahora = System.nanoTime();
+        if (ahora - backlogLeidoNanos < backlogTtlNanos) {
+            return backlog;
+        }
+        synchronized (this) {
+            if (ahora - backlogLeidoNanos >= backlogTtlNanos) {
+                backlog = consultarBacklog();
+                backlogLeidoNanos = ahora;
+            }
+            return backlog;
+        }
+    }
+
+    private double consultarBacklog() {
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(queueName);
+            return info != null ? info.getMessageCount() : Double.NaN;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+}
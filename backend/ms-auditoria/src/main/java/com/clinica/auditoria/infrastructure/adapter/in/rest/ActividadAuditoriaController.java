@@ -0,0 +1,74 @@
+package com.clinica.auditoria.infrastructure.adapter.in.rest;
+
+import com.clinica.auditoria.domain.model.DimensionActividad;
+import com.clinica.auditoria.domain.model.Granularidad;
+import com.clinica.auditoria.domain.port.in.ConsultarActividadAuditoriaUseCase;
+import com.clinica.auditoria.domain.port.in.ConsultarActividadAuditoriaUseCase.FiltroActividad;
+import com.clinica.auditoria.infrastructure.adapter.in.rest.dto.ActividadAgregadaResponse;
+import com.clinica.auditoria.infrastructure.adapter.in.rest.dto.ActividadUsuarioResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/auditoria/actividad")
+@RequiredArgsConstructor
+@Tag(name = "Actividad de auditoria", description = "Agregados de actividad precalculados (solo AUDITOR y ADMIN)")
+public class ActividadAuditoriaController {
+
+    private final ConsultarActividadAuditoriaUseCase consultarActividadUseCase;
+
+    @GetMapping
+    @Operation(summary = "Consultar actividad agregada",
+            description = "Totales de eventos por hora o dia, agrupables por accion, tipo de recurso y servicio de origen")
+    @ApiResponse(responseCode = "200", description = "Series de totales por periodo")
+    @ApiResponse(responseCode = "403", description = "No tiene permisos de auditor")
+    public ResponseEntity<List<ActividadAgregadaResponse>> consultar(
+            @RequestParam(defaultValue = "DIA") Granularidad granularidad,
+            @RequestParam(required = false) Set<DimensionActividad> agruparPor,
+            @RequestParam(required = false) Instant desde,
+            @RequestParam(required = false) Instant hasta,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) String sourceService) {
+
+        FiltroActividad filtro = new FiltroActividad(
+                granularidad, agruparPor, desde, hasta, action, resourceType, sourceService);
+
+        List<ActividadAgregadaResponse> actividad = consultarActividadUseCase.consultarActividad(filtro).stream()
+                .map(a -> new ActividadAgregadaResponse(
+                        a.periodo(), a.action(), a.resourceType(), a.sourceService(), a.total()))
+                .toList();
+
+        return ResponseEntity.ok(actividad);
+    }
+
+    @GetMapping("/usuarios")
+    @Operation(summary = "Consultar acciones por usuario por dia")
+    @ApiResponse(responseCode = "200", description = "Totales diarios por usuario y accion")
+    @ApiResponse(responseCode = "403", description = "No tiene permisos de auditor")
+    public ResponseEntity<List<ActividadUsuarioResponse>> consultarPorUsuario(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) LocalDate desde,
+            @RequestParam(required = false) LocalDate hasta) {
+
+        List<ActividadUsuarioResponse> actividad = consultarActividadUseCase
+                .consultarActividadPorUsuario(userId, desde, hasta).stream()
+                .map(a -> new ActividadUsuarioResponse(a.dia(), a.userId(), a.action(), a.total()))
+                .toList();
+
+        return ResponseEntity.ok(actividad);
+    }
+}
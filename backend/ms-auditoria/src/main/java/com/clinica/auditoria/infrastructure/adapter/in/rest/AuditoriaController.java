@@ -1,21 +1,32 @@
 package com.clinica.auditoria.infrastructure.adapter.in.rest;
 
+import com.clinica.auditoria.domain.model.PaginaAuditoria;
 import com.clinica.auditoria.domain.model.RegistroAuditoria;
 import com.clinica.auditoria.domain.port.in.ConsultarAuditoriaUseCase;
 import com.clinica.auditoria.domain.port.in.ConsultarAuditoriaUseCase.FiltroAuditoria;
+import com.clinica.auditoria.domain.port.in.ExportarAuditoriaUseCase;
+import com.clinica.auditoria.infrastructure.adapter.in.rest.dto.PaginaAuditoriaResponse;
 import com.clinica.auditoria.infrastructure.adapter.in.rest.dto.RegistroAuditoriaResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -26,6 +37,9 @@ import java.util.UUID;
 public class AuditoriaController {
 
     private final ConsultarAuditoriaUseCase consultarAuditoriaUseCase;
+    private final ExportarAuditoriaUseCase exportarAuditoriaUseCase;
+    private final ObjectMapper objectMapper;
+    private final TimeoutExportacionInterceptor timeoutExportacion;
 
     @GetMapping
     @Operation(summary = "Consultar registros de auditoria",
@@ -51,6 +65,72 @@ public class AuditoriaController {
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Consultar registros de auditoria por cursor",
+            description = "Paginacion keyset ordenada por fecha descendente. No calcula el total de registros; "
+                    + "usar nextCursor de la respuesta para obtener la pagina siguiente")
+    @ApiResponse(responseCode = "200", description = "Pagina de registros con cursor de continuacion")
+    @ApiResponse(responseCode = "400", description = "Cursor invalido")
+    @ApiResponse(responseCode = "403", description = "No tiene permisos de auditor")
+    public ResponseEntity<PaginaAuditoriaResponse> consultarPorCursor(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) UUID resourceId,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Instant desde,
+            @RequestParam(required = false) Instant hasta,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+
+        FiltroAuditoria filtro = new FiltroAuditoria(
+                userId, resourceId, resourceType, action, desde, hasta);
+
+        PaginaAuditoria pagina = consultarAuditoriaUseCase.consultarPorCursor(filtro, cursor, size);
+
+        return ResponseEntity.ok(new PaginaAuditoriaResponse(
+                pagina.registros().stream().map(this::toResponse).toList(),
+                pagina.siguienteCursor()));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar registros de auditoria",
+            description = "Transmite todos los registros del filtro como NDJSON o CSV sin paginar. "
+                    + "La respuesta se comprime con gzip si el cliente envia Accept-Encoding: gzip")
+    @ApiResponse(responseCode = "200", description = "Flujo de registros en el formato solicitado")
+    @ApiResponse(responseCode = "403", description = "No tiene permisos de auditor")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) UUID resourceId,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Instant desde,
+            @RequestParam(required = false) Instant hasta,
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacionAuditoria formato,
+            NativeWebRequest request) {
+
+        FiltroAuditoria filtro = new FiltroAuditoria(
+                userId, resourceId, resourceType, action, desde, hasta);
+        timeoutExportacion.aplicarA(request);
+
+        StreamingResponseBody body = outputStream -> {
+            BufferedWriter writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            RegistroAuditoriaExportWriter exportWriter =
+                    new RegistroAuditoriaExportWriter(formato, objectMapper, writer);
+            exportWriter.escribirEncabezado();
+            exportarAuditoriaUseCase.exportar(filtro, registro -> exportWriter.escribir(toResponse(registro)));
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("auditoria." + formato.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     private RegistroAuditoriaResponse toResponse(RegistroAuditoria registro) {
         return new RegistroAuditoriaResponse(
                 registro.getId(),
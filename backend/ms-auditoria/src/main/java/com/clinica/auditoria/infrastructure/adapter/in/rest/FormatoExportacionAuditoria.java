@@ -0,0 +1,25 @@
+package com.clinica.auditoria.infrastructure.adapter.in.rest;
+
+import org.springframework.http.MediaType;
+
+public enum FormatoExportacionAuditoria {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    FormatoExportacionAuditoria(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,71 @@
+package com.clinica.auditoria.infrastructure.adapter.in.rest;
+
+import com.clinica.auditoria.infrastructure.adapter.in.rest.dto.RegistroAuditoriaResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Escribe registros de auditoria de a uno sobre el writer de la respuesta.
+ * No retiene filas: la memoria usada es independiente del tamano del rango exportado.
+ */
+class RegistroAuditoriaExportWriter {
+
+    private static final String CSV_HEADER = String.join(",",
+            "id", "eventId", "occurredOn", "eventType", "userId", "userEmail", "action", "resourceType",
+            "resourceId", "previousValue", "newValue", "sourceIp", "sourceService", "receivedAt");
+
+    private final FormatoExportacionAuditoria formato;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    RegistroAuditoriaExportWriter(FormatoExportacionAuditoria formato, ObjectMapper objectMapper, Writer writer) {
+        this.formato = formato;
+        this.objectMapper = objectMapper;
+        this.writer = writer;
+    }
+
+    void escribirEncabezado() throws IOException {
+        if (formato == FormatoExportacionAuditoria.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    void escribir(RegistroAuditoriaResponse registro) {
+        try {
+            writer.write(formato == FormatoExportacionAuditoria.CSV ? toCsv(registro) : toJson(registro));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toJson(RegistroAuditoriaResponse registro) throws IOException {
+        return objectMapper.writeValueAsString(registro);
+    }
+
+    private String toCsv(RegistroAuditoriaResponse r) {
+        return Stream.of(r.id(), r.eventId(), r.occurredOn(), r.eventType(), r.userId(), r.userEmail(),
+                        r.action(), r.resourceType(), r.resourceId(), r.previousValue(), r.newValue(),
+                        r.sourceIp(), r.sourceService(), r.receivedAt())
+                .map(valor -> escaparCsv(Objects.toString(valor, "")))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String escaparCsv(String valor) {
+        // Un valor que empieza como formula se ejecutaria al abrir el CSV en una hoja de calculo
+        if (!valor.isEmpty() && "=+-@\t\r".indexOf(valor.charAt(0)) >= 0) {
+            valor = "'" + valor;
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,37 @@
+package com.clinica.auditoria.infrastructure.adapter.in.rest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Amplia el timeout asincrono solo para la peticion de exportacion que lo registra;
+ * el resto de endpoints conserva el timeout por defecto.
+ */
+@Component
+class TimeoutExportacionInterceptor implements CallableProcessingInterceptor {
+
+    private final Duration timeout;
+
+    TimeoutExportacionInterceptor(@Value("${auditoria.export.timeout:30m}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    void aplicarA(NativeWebRequest request) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(TimeoutExportacionInterceptor.class, this);
+    }
+
+    // Se ejecuta antes de iniciar el procesamiento asincrono, cuando el timeout aun puede cambiarse
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncRequest) {
+            asyncRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.clinica.auditoria.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Total de eventos por periodo; las dimensiones no agrupadas vienen en null")
+public record ActividadAgregadaResponse(
+        Instant periodo,
+        String action,
+        String resourceType,
+        String sourceService,
+        long total
+) {
+}
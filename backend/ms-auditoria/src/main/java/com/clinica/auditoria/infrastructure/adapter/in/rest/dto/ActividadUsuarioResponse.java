@@ -0,0 +1,15 @@
+package com.clinica.auditoria.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "Acciones de un usuario en un dia")
+public record ActividadUsuarioResponse(
+        LocalDate dia,
+        UUID userId,
+        String action,
+        long total
+) {
+}
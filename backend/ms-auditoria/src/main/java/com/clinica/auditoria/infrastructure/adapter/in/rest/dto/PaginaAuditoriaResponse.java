@@ -0,0 +1,13 @@
+package com.clinica.auditoria.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Pagina de registros de auditoria con cursor de continuacion")
+public record PaginaAuditoriaResponse(
+        List<RegistroAuditoriaResponse> content,
+        @Schema(description = "Token opaco para la pagina siguiente; null si no hay mas registros")
+        String nextCursor
+) {
+}
@@ -0,0 +1,46 @@
+package com.clinica.auditoria.infrastructure.adapter.in.scheduler;
+
+import com.clinica.auditoria.domain.port.in.GestionarParticionesAuditoriaUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+@Slf4j
+@Component
+public class ParticionAuditoriaScheduler {
+
+    private final GestionarParticionesAuditoriaUseCase gestionarParticionesUseCase;
+    private final int mesesAdelantados;
+    private final int retencionMeses;
+
+    public ParticionAuditoriaScheduler(
+            GestionarParticionesAuditoriaUseCase gestionarParticionesUseCase,
+            @Value("${auditoria.particiones.meses-adelantados:3}") int mesesAdelantados,
+            @Value("${auditoria.particiones.retencion-meses:0}") int retencionMeses) {
+        this.gestionarParticionesUseCase = gestionarParticionesUseCase;
+        this.mesesAdelantados = mesesAdelantados;
+        this.retencionMeses = retencionMeses;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alIniciar() {
+        mantenerParticiones();
+    }
+
+    @Scheduled(cron = "${auditoria.particiones.cron:0 0 3 * * *}", zone = "UTC")
+    public void mantenerParticiones() {
+        YearMonth mesActual = YearMonth.now(ZoneOffset.UTC);
+        try {
+            gestionarParticionesUseCase.prepararParticiones(mesActual, mesesAdelantados);
+            gestionarParticionesUseCase.desvincularParticionesAntiguas(mesActual, retencionMeses);
+        } catch (Exception e) {
+            log.error("Error manteniendo particiones de auditoria: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.clinica.auditoria.infrastructure.adapter.out.cache;
+
+import com.clinica.auditoria.domain.port.out.EventosRecientesPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * LRU acotado de eventId ya persistidos. Filtra redeliveries sin llegar a la base de datos;
+ * si un id fue desalojado, la restriccion unica sigue garantizando la idempotencia.
+ */
+@Component
+public class LruEventosRecientesAdapter implements EventosRecientesPort {
+
+    private final Map<UUID, Boolean> recientes;
+    private final Counter duplicadosMemoria;
+    private final Counter duplicadosLote;
+
+    public LruEventosRecientesAdapter(@Value("${auditoria.dedupe.cache-size:100000}") int capacidad,
+                                      MeterRegistry meterRegistry) {
+        this.recientes = new LinkedHashMap<>(capacidad, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > capacidad;
+            }
+        };
+        this.duplicadosMemoria = Counter.builder("auditoria.dedupe.hits")
+                .description("Eventos de auditoria descartados por estar duplicados")
+                .tag("origen", "memoria")
+                .register(meterRegistry);
+        this.duplicadosLote = Counter.builder("auditoria.dedupe.hits")
+                .description("Eventos de auditoria descartados por estar duplicados")
+                .tag("origen", "lote")
+                .register(meterRegistry);
+        Gauge.builder("auditoria.dedupe.cache.size", this, LruEventosRecientesAdapter::tamanio)
+                .description("EventIds recientes retenidos en memoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized boolean contiene(UUID eventId) {
+        boolean duplicado = recientes.get(eventId) != null;
+        if (duplicado) {
+            duplicadosMemoria.increment();
+        }
+        return duplicado;
+    }
+
+    @Override
+    public synchronized void registrar(Collection<UUID> eventIds) {
+        eventIds.forEach(id -> recientes.put(id, Boolean.TRUE));
+    }
+
+    @Override
+    public void contarDuplicadosEnLote(int cantidad) {
+        duplicadosLote.increment(cantidad);
+    }
+
+    private synchronized int tamanio() {
+        return recientes.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.clinica.auditoria.infrastructure.adapter.out.persistence;
+
+import com.clinica.auditoria.domain.port.in.ConsultarAuditoriaUseCase.FiltroAuditoria;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Traduce un FiltroAuditoria a un WHERE parametrizado. El rango de fechas se compara
+ * directamente contra occurred_on para que PostgreSQL pode las particiones mensuales.
+ */
+final class FiltroAuditoriaSql {
+
+    private final StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+    private final List<Object> parametros = new ArrayList<>();
+
+    FiltroAuditoriaSql(FiltroAuditoria filtro) {
+        if (filtro.userId() != null) {
+            agregar("user_id = ?", filtro.userId());
+        }
+        if (filtro.resourceId() != null) {
+            agregar("resource_id = ?", filtro.resourceId());
+        }
+        if (filtro.resourceType() != null) {
+            agregar("resource_type = ?", filtro.resourceType());
+        }
+        if (filtro.action() != null) {
+            agregar("action = ?", filtro.action());
+        }
+        if (filtro.desde() != null) {
+            agregar("occurred_on >= ?", Timestamp.from(filtro.desde()));
+        }
+        if (filtro.hasta() != null) {
+            agregar("occurred_on <= ?", Timestamp.from(filtro.hasta()));
+        }
+    }
+
+    void agregar(String condicion, Object... valores) {
+        where.append(" AND ").append(condicion);
+        parametros.addAll(List.of(valores));
+    }
+
+    String where() {
+        return where.toString();
+    }
+
+    Object[] parametros(Object... adicionales) {
+        List<Object> todos = new ArrayList<>(parametros);
+        todos.addAll(List.of(adicionales));
+        return todos.toArray();
+    }
+}
@@ -0,0 +1,182 @@
+package com.clinica.auditoria.infrastructure.adapter.out.persistence;
+
+import com.clinica.auditoria.domain.model.ActividadAgregada;
+import com.clinica.auditoria.domain.model.ActividadUsuario;
+import com.clinica.auditoria.domain.model.DimensionActividad;
+import com.clinica.auditoria.domain.model.Granularidad;
+import com.clinica.auditoria.domain.model.RegistroAuditoria;
+import com.clinica.auditoria.domain.port.in.ConsultarActividadAuditoriaUseCase.FiltroActividad;
+import com.clinica.auditoria.domain.port.out.ActividadAuditoriaRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcActividadAuditoriaAdapter implements ActividadAuditoriaRepositoryPort {
+
+    private static final String UPSERT_ACTIVIDAD_SQL = """
+            INSERT INTO auditoria_actividad_rollup
+                (granularidad, periodo, action, resource_type, source_service, total)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (granularidad, periodo, action, resource_type, source_service)
+            DO UPDATE SET total = auditoria_actividad_rollup.total + EXCLUDED.total
+            """;
+
+    private static final String UPSERT_USUARIO_SQL = """
+            INSERT INTO auditoria_actividad_usuario_diaria (dia, user_id, action, total)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (dia, user_id, action)
+            DO UPDATE SET total = auditoria_actividad_usuario_diaria.total + EXCLUDED.total
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private record ClaveActividad(Granularidad granularidad, Instant periodo, String action,
+                                  String resourceType, String sourceService) {
+    }
+
+    private record ClaveUsuario(LocalDate dia, UUID userId, String action) {
+    }
+
+    @Override
+    public void acumular(List<RegistroAuditoria> registros) {
+        if (registros.isEmpty()) {
+            return;
+        }
+        Map<ClaveActividad, Long> actividad = new HashMap<>();
+        Map<ClaveUsuario, Long> usuarios = new HashMap<>();
+
+        for (RegistroAuditoria registro : registros) {
+            for (Granularidad granularidad : Granularidad.values()) {
+                actividad.merge(new ClaveActividad(granularidad, granularidad.truncar(registro.getOccurredOn()),
+                        registro.getAction(), registro.getResourceType(), registro.getSourceService()), 1L, Long::sum);
+            }
+            if (registro.getUserId() != null) {
+                usuarios.merge(new ClaveUsuario(LocalDate.ofInstant(registro.getOccurredOn(), ZoneOffset.UTC),
+                        registro.getUserId(), registro.getAction()), 1L, Long::sum);
+            }
+        }
+
+        // Orden estable de claves: lotes concurrentes bloquean las filas en el mismo orden y no se interbloquean
+        List<Map.Entry<ClaveActividad, Long>> filasActividad = actividad.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().toString()))
+                .toList();
+        List<Map.Entry<ClaveUsuario, Long>> filasUsuario = usuarios.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().toString()))
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPSERT_ACTIVIDAD_SQL, filasActividad, filasActividad.size(), (ps, entry) -> {
+            ClaveActividad clave = entry.getKey();
+            ps.setString(1, clave.granularidad().name());
+            ps.setObject(2, enUtc(clave.periodo()));
+            ps.setString(3, clave.action());
+            ps.setString(4, clave.resourceType());
+            ps.setString(5, clave.sourceService());
+            ps.setLong(6, entry.getValue());
+        });
+        jdbcTemplate.batchUpdate(UPSERT_USUARIO_SQL, filasUsuario, filasUsuario.size(), (ps, entry) -> {
+            ClaveUsuario clave = entry.getKey();
+            ps.setDate(1, Date.valueOf(clave.dia()));
+            ps.setObject(2, clave.userId());
+            ps.setString(3, clave.action());
+            ps.setLong(4, entry.getValue());
+        });
+    }
+
+    @Override
+    public List<ActividadAgregada> consultar(FiltroActividad filtro) {
+        EnumSet<DimensionActividad> dimensiones = filtro.agruparPor().isEmpty()
+                ? EnumSet.noneOf(DimensionActividad.class)
+                : EnumSet.copyOf(filtro.agruparPor());
+        StringBuilder columnas = new StringBuilder("periodo");
+        dimensiones.forEach(dimension -> columnas.append(", ").append(columna(dimension)));
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(columnas)
+                .append(", SUM(total) AS total FROM auditoria_actividad_rollup WHERE granularidad = ?");
+        List<Object> parametros = new ArrayList<>();
+        parametros.add(filtro.granularidad().name());
+        if (filtro.desde() != null) {
+            sql.append(" AND periodo >= ?");
+            parametros.add(enUtc(filtro.granularidad().truncar(filtro.desde())));
+        }
+        if (filtro.hasta() != null) {
+            sql.append(" AND periodo <= ?");
+            parametros.add(enUtc(filtro.hasta()));
+        }
+        if (filtro.action() != null) {
+            sql.append(" AND action = ?");
+            parametros.add(filtro.action());
+        }
+        if (filtro.resourceType() != null) {
+            sql.append(" AND resource_type = ?");
+            parametros.add(filtro.resourceType());
+        }
+        if (filtro.sourceService() != null) {
+            sql.append(" AND source_service = ?");
+            parametros.add(filtro.sourceService());
+        }
+        sql.append(" GROUP BY ").append(columnas).append(" ORDER BY ").append(columnas);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new ActividadAgregada(
+                rs.getObject("periodo", OffsetDateTime.class).toInstant(),
+                dimensiones.contains(DimensionActividad.ACTION) ? rs.getString("action") : null,
+                dimensiones.contains(DimensionActividad.RESOURCE_TYPE) ? rs.getString("resource_type") : null,
+                dimensiones.contains(DimensionActividad.SOURCE_SERVICE) ? rs.getString("source_service") : null,
+                rs.getLong("total")), parametros.toArray());
+    }
+
+    @Override
+    public List<ActividadUsuario> consultarPorUsuario(UUID userId, LocalDate desde, LocalDate hasta) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT dia, user_id, action, total FROM auditoria_actividad_usuario_diaria WHERE 1 = 1");
+        List<Object> parametros = new ArrayList<>();
+        if (userId != null) {
+            sql.append(" AND user_id = ?");
+            parametros.add(userId);
+        }
+        if (desde != null) {
+            sql.append(" AND dia >= ?");
+            parametros.add(Date.valueOf(desde));
+        }
+        if (hasta != null) {
+            sql.append(" AND dia <= ?");
+            parametros.add(Date.valueOf(hasta));
+        }
+        sql.append(" ORDER BY dia, user_id, action");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new ActividadUsuario(
+                rs.getDate("dia").toLocalDate(),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("action"),
+                rs.getLong("total")), parametros.toArray());
+    }
+
+    /**
+     * periodo es TIMESTAMPTZ y los buckets se calculan en UTC; java.sql.Timestamp usaria la zona de la JVM.
+     */
+    private static OffsetDateTime enUtc(Instant instante) {
+        return instante.atOffset(ZoneOffset.UTC);
+    }
+
+    private static String columna(DimensionActividad dimension) {
+        return switch (dimension) {
+            case ACTION -> "action";
+            case RESOURCE_TYPE -> "resource_type";
+            case SOURCE_SERVICE -> "source_service";
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.clinica.auditoria.infrastructure.adapter.out.persistence;
+
+import com.clinica.auditoria.domain.model.RegistroAuditoria;
+import com.clinica.auditoria.domain.port.out.AuditoriaBatchRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class JdbcAuditoriaBatchRepositoryAdapter implements AuditoriaBatchRepositoryPort {
+
+    // Un unico INSERT multi-fila: cada columna viaja como un array y unnest las recompone en filas
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO registros_auditoria (
+                id, event_id, occurred_on, event_type, user_id, user_email, action,
+                resource_type, resource_id, previous_value, new_value, source_ip,
+                source_service, received_at)
+            SELECT * FROM unnest(
+                ?::uuid[], ?::uuid[], ?::timestamp[], ?::varchar[], ?::uuid[], ?::varchar[], ?::varchar[],
+                ?::varchar[], ?::uuid[], ?::text[], ?::text[], ?::varchar[],
+                ?::varchar[], ?::timestamp[])
+            ON CONFLICT (event_id, occurred_on) DO NOTHING
+            RETURNING event_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter duplicadosBaseDatos;
+
+    public JdbcAuditoriaBatchRepositoryAdapter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.duplicadosBaseDatos = Counter.builder("auditoria.dedupe.hits")
+                .description("Eventos de auditoria descartados por estar duplicados")
+                .tag("origen", "base_datos")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Set<UUID> saveAllIfAbsent(List<RegistroAuditoria> registros) {
+        if (registros.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> insertados = new HashSet<>();
+        jdbcTemplate.query(connection -> prepararInsert(connection, registros), (ResultSet rs) -> {
+            insertados.add(rs.getObject(1, UUID.class));
+        });
+        duplicadosBaseDatos.increment(registros.size() - insertados.size());
+        return insertados;
+    }
+
+    private PreparedStatement prepararInsert(Connection connection, List<RegistroAuditoria> registros)
+            throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(INSERT_IF_ABSENT_SQL);
+        ps.setArray(1, array(connection, "uuid", registros, RegistroAuditoria::getId));
+        ps.setArray(2, array(connection, "uuid", registros, RegistroAuditoria::getEventId));
+        ps.setArray(3, array(connection, "timestamp", registros, r -> toTimestamp(r.getOccurredOn())));
+        ps.setArray(4, array(connection, "varchar", registros, RegistroAuditoria::getEventType));
+        ps.setArray(5, array(connection, "uuid", registros, RegistroAuditoria::getUserId));
+        ps.setArray(6, array(connection, "varchar", registros, RegistroAuditoria::getUserEmail));
+        ps.setArray(7, array(connection, "varchar", registros, RegistroAuditoria::getAction));
+        ps.setArray(8, array(connection, "varchar", registros, RegistroAuditoria::getResourceType));
+        ps.setArray(9, array(connection, "uuid", registros, RegistroAuditoria::getResourceId));
+        ps.setArray(10, array(connection, "text", registros, RegistroAuditoria::getPreviousValue));
+        ps.setArray(11, array(connection, "text", registros, RegistroAuditoria::getNewValue));
+        ps.setArray(12, array(connection, "varchar", registros, RegistroAuditoria::getSourceIp));
+        ps.setArray(13, array(connection, "varchar", registros, RegistroAuditoria::getSourceService));
+        ps.setArray(14, array(connection, "timestamp", registros, r -> toTimestamp(r.getReceivedAt())));
+        return ps;
+    }
+
+    private Array array(Connection connection, String tipo, List<RegistroAuditoria> registros,
+                        Function<RegistroAuditoria, Object> campo) throws SQLException {
+        return connection.createArrayOf(tipo, registros.stream().map(campo).toArray());
+    }
+
+    private Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+}
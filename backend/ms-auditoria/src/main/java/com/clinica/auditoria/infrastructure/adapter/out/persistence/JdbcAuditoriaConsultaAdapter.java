@@ -0,0 +1,34 @@
+package com.clinica.auditoria.infrastructure.adapter.out.persistence;
+
+import com.clinica.auditoria.domain.model.CursorAuditoria;
+import com.clinica.auditoria.domain.model.RegistroAuditoria;
+import com.clinica.auditoria.domain.port.in.ConsultarAuditoriaUseCase.FiltroAuditoria;
+import com.clinica.auditoria.domain.port.out.AuditoriaConsultaRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcAuditoriaConsultaAdapter implements AuditoriaConsultaRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<RegistroAuditoria> findByFiltroDespuesDe(FiltroAuditoria filtro, CursorAuditoria cursor, int limite) {
+        FiltroAuditoriaSql sql = new FiltroAuditoriaSql(filtro);
+        if (cursor != null) {
+            // Comparacion de fila: usa idx_auditoria_occurred_on_id sin recorrer las filas anteriores
+            sql.agregar("(occurred_on, id) < (?, ?)", Timestamp.from(cursor.occurredOn()), cursor.id());
+        }
+
+        return jdbcTemplate.query(
+                "SELECT " + RegistroAuditoriaRowMapper.COLUMNAS + " FROM registros_auditoria" + sql.where()
+                        + " ORDER BY occurred_on DESC, id DESC LIMIT ?",
+                RegistroAuditoriaRowMapper.INSTANCE,
+                sql.parametros(limite));
+    }
+}
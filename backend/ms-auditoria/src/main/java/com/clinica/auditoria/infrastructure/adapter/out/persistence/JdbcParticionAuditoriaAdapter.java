@@ -0,0 +1,64 @@
+package com.clinica.auditoria.infrastructure.adapter.out.persistence;
+
+import com.clinica.auditoria.domain.port.out.ParticionAuditoriaPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcParticionAuditoriaAdapter implements ParticionAuditoriaPort {
+
+    private static final String TABLA = "registros_auditoria";
+    private static final String PREFIJO = TABLA + "_";
+    private static final DateTimeFormatter SUFIJO = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LISTAR_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<YearMonth> listarParticiones() {
+        Set<YearMonth> meses = new HashSet<>();
+        jdbcTemplate.queryForList(LISTAR_SQL, String.class, TABLA).forEach(nombre -> {
+            if (nombre.startsWith(PREFIJO)) {
+                try {
+                    meses.add(YearMonth.parse(nombre.substring(PREFIJO.length()), SUFIJO));
+                } catch (DateTimeParseException e) {
+                    // particion DEFAULT u otra que no sigue la convencion mensual
+                }
+            }
+        });
+        return meses;
+    }
+
+    @Override
+    public void crearParticion(YearMonth mes) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                nombreParticion(mes), TABLA, mes.atDay(1), mes.plusMonths(1).atDay(1)));
+    }
+
+    @Override
+    public void desvincularParticion(YearMonth mes) {
+        // La tabla queda como tabla independiente para archivarla (pg_dump, tablespace frio) o eliminarla
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE %s DETACH PARTITION %s", TABLA, nombreParticion(mes)));
+    }
+
+    private String nombreParticion(YearMonth mes) {
+        return PREFIJO + mes.format(SUFIJO);
+    }
+}
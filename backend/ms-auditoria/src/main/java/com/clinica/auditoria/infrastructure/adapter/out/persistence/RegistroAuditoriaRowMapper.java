@@ -0,0 +1,43 @@
+package com.clinica.auditoria.infrastructure.adapter.out.persistence;
+
+import com.clinica.auditoria.domain.model.RegistroAuditoria;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+class RegistroAuditoriaRowMapper implements RowMapper<RegistroAuditoria> {
+
+    static final String COLUMNAS = """
+            id, event_id, occurred_on, event_type, user_id, user_email, action, resource_type,
+            resource_id, previous_value, new_value, source_ip, source_service, received_at""";
+
+    static final RegistroAuditoriaRowMapper INSTANCE = new RegistroAuditoriaRowMapper();
+
+    @Override
+    public RegistroAuditoria mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return RegistroAuditoria.builder()
+                .id(rs.getObject("id", UUID.class))
+                .eventId(rs.getObject("event_id", UUID.class))
+                .occurredOn(toInstant(rs.getTimestamp("occurred_on")))
+                .eventType(rs.getString("event_type"))
+                .userId(rs.getObject("user_id", UUID.class))
+                .userEmail(rs.getString("user_email"))
+                .action(rs.getString("action"))
+                .resourceType(rs.getString("resource_type"))
+                .resourceId(rs.getObject("resource_id", UUID.class))
+                .previousValue(rs.getString("previous_value"))
+                .newValue(rs.getString("new_value"))
+                .sourceIp(rs.getString("source_ip"))
+                .sourceService(rs.getString("source_service"))
+                .receivedAt(toInstant(rs.getTimestamp("received_at")))
+                .build();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -2,9 +2,13 @@ package com.clinica.auditoria.infrastructure.config;
 
 import com.clinica.shared.config.RabbitMQConfig;
 import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,11 +19,31 @@ public class AuditoriaRabbitConfig {
     @Value("${auditoria.queue.name:clinica.auditoria.queue}")
     private String queueName;
 
+    @Value("${auditoria.queue.dlq-name:clinica.auditoria.dlq}")
+    private String dlqName;
+
+    @Value("${auditoria.ingestion.batch.size:200}")
+    private int batchSize;
+
+    @Value("${auditoria.ingestion.batch.timeout-ms:500}")
+    private long batchTimeoutMs;
+
+    @Value("${auditoria.ingestion.batch.prefetch:400}")
+    private int prefetch;
+
     @Bean
     public Queue auditoriaQueue() {
         return new Queue(queueName, true);
     }
 
+    /**
+     * Eventos que no pudieron registrarse ni individualmente; se revisan y reinyectan a mano.
+     */
+    @Bean
+    public Queue auditoriaDlq() {
+        return new Queue(dlqName, true);
+    }
+
     @Bean
     public Binding bindingAuth(Queue auditoriaQueue, TopicExchange clinicaEventsExchange) {
         return BindingBuilder.bind(auditoriaQueue)
@@ -47,4 +71,20 @@ public class AuditoriaRabbitConfig {
                 .to(clinicaEventsExchange)
                 .with("exportacion.#");
     }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory auditoriaBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(batchTimeoutMs);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setDefaultRequeueRejected(true);
+        return factory;
+    }
 }
@@ -0,0 +1,13 @@
+-- Eliminar duplicados previos (redeliveries de RabbitMQ) conservando el primer registro recibido
+GRANT DELETE ON registros_auditoria TO clinica;
+
+DELETE FROM registros_auditoria a
+USING registros_auditoria b
+WHERE a.event_id = b.event_id
+  AND (a.received_at, a.id) > (b.received_at, b.id);
+
+REVOKE DELETE ON registros_auditoria FROM clinica;
+
+-- Idempotencia: un evento solo puede registrarse una vez
+ALTER TABLE registros_auditoria
+    ADD CONSTRAINT uk_auditoria_event_id UNIQUE (event_id);
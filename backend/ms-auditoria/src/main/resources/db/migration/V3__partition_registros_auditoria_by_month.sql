@@ -0,0 +1,72 @@
+-- Particionado mensual por occurred_on: cada particion mantiene indices pequenos
+-- y las consultas con rango de fechas solo recorren los meses involucrados
+ALTER TABLE registros_auditoria RENAME TO registros_auditoria_legacy;
+ALTER TABLE registros_auditoria_legacy DROP CONSTRAINT uk_auditoria_event_id;
+ALTER TABLE registros_auditoria_legacy RENAME CONSTRAINT registros_auditoria_pkey TO registros_auditoria_legacy_pkey;
+DROP INDEX idx_auditoria_user_id;
+DROP INDEX idx_auditoria_resource_id;
+DROP INDEX idx_auditoria_resource_type;
+DROP INDEX idx_auditoria_action;
+DROP INDEX idx_auditoria_occurred_on;
+DROP INDEX idx_auditoria_event_type;
+
+CREATE TABLE registros_auditoria (
+    id                  UUID         NOT NULL DEFAULT gen_random_uuid(),
+    event_id            UUID         NOT NULL,
+    occurred_on         TIMESTAMP    NOT NULL,
+    event_type          VARCHAR(100) NOT NULL,
+    user_id             UUID,
+    user_email          VARCHAR(255),
+    action              VARCHAR(50)  NOT NULL,
+    resource_type       VARCHAR(50)  NOT NULL,
+    resource_id         UUID,
+    previous_value      TEXT,
+    new_value           TEXT,
+    source_ip           VARCHAR(45),
+    source_service      VARCHAR(50)  NOT NULL,
+    received_at         TIMESTAMP    NOT NULL DEFAULT now(),
+    -- En tablas particionadas las claves unicas deben incluir la columna de particion.
+    -- Un redelivery conserva el occurred_on original, por lo que la idempotencia se mantiene.
+    CONSTRAINT registros_auditoria_pkey PRIMARY KEY (id, occurred_on),
+    CONSTRAINT uk_auditoria_event_id UNIQUE (event_id, occurred_on)
+) PARTITION BY RANGE (occurred_on);
+
+-- Red de seguridad para eventos fuera de las particiones creadas (relojes desfasados)
+CREATE TABLE registros_auditoria_default PARTITION OF registros_auditoria DEFAULT;
+
+-- Particiones para los datos existentes y los proximos meses
+DO $$
+DECLARE
+    mes   DATE;
+    hasta DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(min(occurred_on), now()))::date INTO mes
+    FROM registros_auditoria_legacy;
+    hasta := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+
+    WHILE mes <= hasta LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF registros_auditoria FOR VALUES FROM (%L) TO (%L)',
+                       'registros_auditoria_' || to_char(mes, 'YYYY_MM'),
+                       mes,
+                       (mes + INTERVAL '1 month')::date);
+        mes := (mes + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO registros_auditoria
+SELECT id, event_id, occurred_on, event_type, user_id, user_email, action, resource_type,
+       resource_id, previous_value, new_value, source_ip, source_service, received_at
+FROM registros_auditoria_legacy;
+
+DROP TABLE registros_auditoria_legacy;
+
+-- Indices para consultas frecuentes (se propagan a cada particion)
+CREATE INDEX idx_auditoria_user_id ON registros_auditoria(user_id);
+CREATE INDEX idx_auditoria_resource_id ON registros_auditoria(resource_id);
+CREATE INDEX idx_auditoria_resource_type ON registros_auditoria(resource_type);
+CREATE INDEX idx_auditoria_action ON registros_auditoria(action);
+CREATE INDEX idx_auditoria_occurred_on ON registros_auditoria(occurred_on DESC);
+CREATE INDEX idx_auditoria_event_type ON registros_auditoria(event_type);
+
+-- Proteger contra UPDATE y DELETE: tabla append-only
+REVOKE UPDATE, DELETE ON registros_auditoria FROM clinica;
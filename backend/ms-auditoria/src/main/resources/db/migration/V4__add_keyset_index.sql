@@ -0,0 +1,5 @@
+-- Indice compuesto para la paginacion keyset (occurred_on DESC, id DESC).
+-- Reemplaza a idx_auditoria_occurred_on, que queda cubierto como prefijo.
+CREATE INDEX idx_auditoria_occurred_on_id ON registros_auditoria(occurred_on DESC, id DESC);
+
+DROP INDEX idx_auditoria_occurred_on;
@@ -0,0 +1,38 @@
+-- Agregados incrementales de actividad para los tableros de cumplimiento.
+-- Se actualizan en la misma transaccion que inserta los registros de auditoria.
+CREATE TABLE auditoria_actividad_rollup (
+    granularidad    VARCHAR(10)  NOT NULL,
+    periodo         TIMESTAMP    NOT NULL,
+    action          VARCHAR(50)  NOT NULL,
+    resource_type   VARCHAR(50)  NOT NULL,
+    source_service  VARCHAR(50)  NOT NULL,
+    total           BIGINT       NOT NULL,
+    CONSTRAINT pk_actividad_rollup PRIMARY KEY (granularidad, periodo, action, resource_type, source_service)
+);
+
+CREATE TABLE auditoria_actividad_usuario_diaria (
+    dia             DATE         NOT NULL,
+    user_id         UUID         NOT NULL,
+    action          VARCHAR(50)  NOT NULL,
+    total           BIGINT       NOT NULL,
+    CONSTRAINT pk_actividad_usuario_diaria PRIMARY KEY (dia, user_id, action)
+);
+
+CREATE INDEX idx_actividad_usuario_user_id ON auditoria_actividad_usuario_diaria(user_id, dia);
+
+-- Carga inicial a partir de los registros existentes
+INSERT INTO auditoria_actividad_rollup (granularidad, periodo, action, resource_type, source_service, total)
+SELECT 'HORA', date_trunc('hour', occurred_on), action, resource_type, source_service, count(*)
+FROM registros_auditoria
+GROUP BY 2, 3, 4, 5;
+
+INSERT INTO auditoria_actividad_rollup (granularidad, periodo, action, resource_type, source_service, total)
+SELECT 'DIA', date_trunc('day', occurred_on), action, resource_type, source_service, count(*)
+FROM registros_auditoria
+GROUP BY 2, 3, 4, 5;
+
+INSERT INTO auditoria_actividad_usuario_diaria (dia, user_id, action, total)
+SELECT occurred_on::date, user_id, action, count(*)
+FROM registros_auditoria
+WHERE user_id IS NOT NULL
+GROUP BY 1, 2, 3;
@@ -0,0 +1,30 @@
+-- Los agregados de actividad se calculan en UTC. periodo pasa a TIMESTAMPTZ para que su valor no
+-- dependa de la zona de la JVM, y los agregados se reconstruyen desde registros_auditoria con
+-- buckets UTC, como los calcula JdbcActividadAuditoriaAdapter.
+-- occurred_on es TIMESTAMP escrito en la zona de la JVM; el driver JDBC fija esa zona como TimeZone
+-- de la sesion, asi que el cast a TIMESTAMPTZ recupera el instante original.
+-- Solo se reconstruye desde el primer dia presente en registros_auditoria: los agregados anteriores
+-- provienen de particiones ya desvinculadas y se conservan.
+ALTER TABLE auditoria_actividad_rollup ALTER COLUMN periodo TYPE TIMESTAMPTZ;
+
+DELETE FROM auditoria_actividad_rollup
+WHERE periodo >= (SELECT date_trunc('day', min(occurred_on)::timestamptz, 'UTC') FROM registros_auditoria);
+
+DELETE FROM auditoria_actividad_usuario_diaria
+WHERE dia >= (SELECT (min(occurred_on)::timestamptz AT TIME ZONE 'UTC')::date FROM registros_auditoria);
+
+INSERT INTO auditoria_actividad_rollup (granularidad, periodo, action, resource_type, source_service, total)
+SELECT 'HORA', date_trunc('hour', occurred_on::timestamptz, 'UTC'), action, resource_type, source_service, count(*)
+FROM registros_auditoria
+GROUP BY 2, 3, 4, 5;
+
+INSERT INTO auditoria_actividad_rollup (granularidad, periodo, action, resource_type, source_service, total)
+SELECT 'DIA', date_trunc('day', occurred_on::timestamptz, 'UTC'), action, resource_type, source_service, count(*)
+FROM registros_auditoria
+GROUP BY 2, 3, 4, 5;
+
+INSERT INTO auditoria_actividad_usuario_diaria (dia, user_id, action, total)
+SELECT (occurred_on::timestamptz AT TIME ZONE 'UTC')::date, user_id, action, count(*)
+FROM registros_auditoria
+WHERE user_id IS NOT NULL
+GROUP BY 1, 2, 3;
@@ -0,0 +1,59 @@
+package com.clinica.auditoria.application.service;
+
+import com.clinica.auditoria.domain.model.ActividadAgregada;
+import com.clinica.auditoria.domain.model.DimensionActividad;
+import com.clinica.auditoria.domain.model.Granularidad;
+import com.clinica.auditoria.domain.port.in.ConsultarActividadAuditoriaUseCase.FiltroActividad;
+import com.clinica.auditoria.domain.port.out.ActividadAuditoriaRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActividadAuditoriaServiceTest {
+
+    @Mock
+    private ActividadAuditoriaRepositoryPort actividadRepository;
+
+    @InjectMocks
+    private ActividadAuditoriaService actividadService;
+
+    @Test
+    @DisplayName("Debe consultar los agregados con granularidad diaria por defecto")
+    void debeUsarGranularidadDiariaPorDefecto() {
+        FiltroActividad filtro = new FiltroActividad(null, null, null, null, null, null, null);
+        ActividadAgregada agregado = new ActividadAgregada(
+                Instant.parse("2026-10-18T00:00:00Z"), null, null, null, 42);
+        when(actividadRepository.consultar(any())).thenReturn(List.of(agregado));
+
+        List<ActividadAgregada> result = actividadService.consultarActividad(filtro);
+
+        ArgumentCaptor<FiltroActividad> captor = ArgumentCaptor.forClass(FiltroActividad.class);
+        verify(actividadRepository).consultar(captor.capture());
+        assertEquals(Granularidad.DIA, captor.getValue().granularidad());
+        assertTrue(captor.getValue().agruparPor().isEmpty());
+        assertEquals(List.of(agregado), result);
+    }
+
+    @Test
+    @DisplayName("Debe respetar la granularidad y dimensiones solicitadas")
+    void debeRespetarFiltroSolicitado() {
+        FiltroActividad filtro = new FiltroActividad(Granularidad.HORA, Set.of(DimensionActividad.RESOURCE_TYPE),
+                Instant.parse("2026-10-01T00:00:00Z"), null, "LOGIN", null, "ms-auth");
+
+        actividadService.consultarActividad(filtro);
+
+        verify(actividadRepository).consultar(filtro);
+    }
+}
@@ -1,8 +1,14 @@
 package com.clinica.auditoria.application.service;
 
+import com.clinica.auditoria.domain.model.CursorAuditoria;
+import com.clinica.auditoria.domain.model.PaginaAuditoria;
 import com.clinica.auditoria.domain.model.RegistroAuditoria;
 import com.clinica.auditoria.domain.port.in.ConsultarAuditoriaUseCase.FiltroAuditoria;
+import com.clinica.auditoria.domain.port.out.ActividadAuditoriaRepositoryPort;
+import com.clinica.auditoria.domain.port.out.AuditoriaBatchRepositoryPort;
+import com.clinica.auditoria.domain.port.out.AuditoriaConsultaRepositoryPort;
 import com.clinica.auditoria.domain.port.out.AuditoriaRepositoryPort;
+import com.clinica.auditoria.domain.port.out.EventosRecientesPort;
 import com.clinica.shared.domain.event.AuditableEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,11 +22,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +43,18 @@ class AuditoriaServiceTest {
     @Mock
     private AuditoriaRepositoryPort auditoriaRepository;
 
+    @Mock
+    private AuditoriaBatchRepositoryPort auditoriaBatchRepository;
+
+    @Mock
+    private EventosRecientesPort eventosRecientes;
+
+    @Mock
+    private AuditoriaConsultaRepositoryPort auditoriaConsultaRepository;
+
+    @Mock
+    private ActividadAuditoriaRepositoryPort actividadRepository;
+
     @InjectMocks
     private AuditoriaService auditoriaService;
 
@@ -48,10 +74,10 @@ class AuditoriaServiceTest {
                 "ms-auth"
         );
 
-        when(auditoriaRepository.save(any(RegistroAuditoria.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
+        when(auditoriaBatchRepository.saveAllIfAbsent(anyList()))
+                .thenReturn(Set.of(event.getEventId()));
 
-        RegistroAuditoria result = auditoriaService.registrar(event);
+        RegistroAuditoria result = auditoriaService.registrar(event).orElseThrow();
 
         assertNotNull(result.getId());
         assertEquals(event.getEventId(), result.getEventId());
@@ -59,7 +85,8 @@ class AuditoriaServiceTest {
         assertEquals("USUARIO", result.getResourceType());
         assertEquals("ms-auth", result.getSourceService());
         assertNotNull(result.getReceivedAt());
-        verify(auditoriaRepository).save(any(RegistroAuditoria.class));
+        verify(auditoriaBatchRepository).saveAllIfAbsent(anyList());
+        verify(eventosRecientes).registrar(Set.of(event.getEventId()));
     }
 
     @Test
@@ -127,10 +154,10 @@ class AuditoriaServiceTest {
                 "ms-historia-clinica"
         );
 
-        when(auditoriaRepository.save(any(RegistroAuditoria.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
+        when(auditoriaBatchRepository.saveAllIfAbsent(anyList()))
+                .thenReturn(Set.of(event.getEventId()));
 
-        RegistroAuditoria result = auditoriaService.registrar(event);
+        RegistroAuditoria result = auditoriaService.registrar(event).orElseThrow();
 
         assertEquals(event.getEventId(), result.getEventId());
         assertEquals(event.getOccurredOn(), result.getOccurredOn());
@@ -145,4 +172,152 @@ class AuditoriaServiceTest {
         assertEquals("10.0.0.5", result.getSourceIp());
         assertEquals("ms-historia-clinica", result.getSourceService());
     }
+
+    @Test
+    @DisplayName("Debe registrar un lote de eventos en una sola escritura")
+    void debeRegistrarLote() {
+        AuditableEvent login = AuditableEvent.create(
+                "auth.usuario.login", UUID.randomUUID(), "maria@clinica.com",
+                "LOGIN", "USUARIO", UUID.randomUUID(), null, null, "192.168.1.1", "ms-auth");
+        AuditableEvent creado = AuditableEvent.create(
+                "historia.paciente.creado", UUID.randomUUID(), "obstetra@clinica.com",
+                "CREATE", "PACIENTE", UUID.randomUUID(), null, "{}", "10.0.0.5", "ms-historia-clinica");
+
+        when(auditoriaBatchRepository.saveAllIfAbsent(anyList()))
+                .thenReturn(Set.of(login.getEventId(), creado.getEventId()));
+
+        List<RegistroAuditoria> result = auditoriaService.registrarLote(List.of(login, creado));
+
+        assertEquals(2, result.size());
+        assertEquals(login.getEventId(), result.get(0).getEventId());
+        assertEquals(creado.getEventId(), result.get(1).getEventId());
+        assertNotNull(result.get(0).getId());
+        assertEquals(result.get(0).getReceivedAt(), result.get(1).getReceivedAt());
+        verify(auditoriaBatchRepository).saveAllIfAbsent(result);
+        verify(actividadRepository).acumular(result);
+        verify(auditoriaRepository, never()).save(any(RegistroAuditoria.class));
+    }
+
+    @Test
+    @DisplayName("Debe descartar sin tocar la base de datos un evento ya visto en memoria")
+    void debeDescartarDuplicadoEnMemoria() {
+        AuditableEvent event = AuditableEvent.create(
+                "auth.usuario.login", UUID.randomUUID(), "maria@clinica.com",
+                "LOGIN", "USUARIO", UUID.randomUUID(), null, null, "192.168.1.1", "ms-auth");
+        when(eventosRecientes.contiene(event.getEventId())).thenReturn(true);
+
+        Optional<RegistroAuditoria> result = auditoriaService.registrar(event);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(auditoriaBatchRepository);
+    }
+
+    @Test
+    @DisplayName("Debe omitir los eventos que la base de datos ya tenia registrados")
+    void debeOmitirDuplicadosEnBaseDeDatos() {
+        AuditableEvent nuevo = AuditableEvent.create(
+                "historia.paciente.creado", UUID.randomUUID(), "obstetra@clinica.com",
+                "CREATE", "PACIENTE", UUID.randomUUID(), null, "{}", "10.0.0.5", "ms-historia-clinica");
+        AuditableEvent redelivery = AuditableEvent.create(
+                "auth.usuario.login", UUID.randomUUID(), "maria@clinica.com",
+                "LOGIN", "USUARIO", UUID.randomUUID(), null, null, "192.168.1.1", "ms-auth");
+        when(auditoriaBatchRepository.saveAllIfAbsent(anyList()))
+                .thenReturn(Set.of(nuevo.getEventId()));
+
+        List<RegistroAuditoria> result = auditoriaService.registrarLote(List.of(nuevo, redelivery, nuevo));
+
+        assertEquals(1, result.size());
+        assertEquals(nuevo.getEventId(), result.getFirst().getEventId());
+        verify(auditoriaBatchRepository).saveAllIfAbsent(argThat(registros -> registros.size() == 2));
+        verify(eventosRecientes).contarDuplicadosEnLote(1);
+        verify(eventosRecientes).registrar(Set.of(nuevo.getEventId()));
+        verify(actividadRepository).acumular(result);
+    }
+
+    @Test
+    @DisplayName("Debe devolver cursor de continuacion cuando hay mas registros")
+    void debeConsultarPorCursorConPaginaSiguiente() {
+        FiltroAuditoria filtro = new FiltroAuditoria(null, null, "USUARIO", null, null, null);
+        RegistroAuditoria primero = registroEn(Instant.parse("2026-10-18T10:00:00Z"));
+        RegistroAuditoria segundo = registroEn(Instant.parse("2026-10-18T09:00:00Z"));
+        RegistroAuditoria extra = registroEn(Instant.parse("2026-10-18T08:00:00Z"));
+        when(auditoriaConsultaRepository.findByFiltroDespuesDe(eq(filtro), isNull(), eq(3)))
+                .thenReturn(List.of(primero, segundo, extra));
+
+        PaginaAuditoria result = auditoriaService.consultarPorCursor(filtro, null, 2);
+
+        assertEquals(List.of(primero, segundo), result.registros());
+        assertTrue(result.tieneSiguiente());
+        assertEquals(CursorAuditoria.de(segundo), CursorAuditoria.decodificar(result.siguienteCursor()));
+        verify(auditoriaRepository, never()).findByFiltro(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe continuar desde el cursor recibido y terminar en la ultima pagina")
+    void debeConsultarDesdeCursor() {
+        FiltroAuditoria filtro = new FiltroAuditoria(null, null, null, null, null, null);
+        CursorAuditoria cursor = CursorAuditoria.de(registroEn(Instant.parse("2026-10-18T09:00:00Z")));
+        RegistroAuditoria ultimo = registroEn(Instant.parse("2026-10-18T08:00:00Z"));
+        when(auditoriaConsultaRepository.findByFiltroDespuesDe(filtro, cursor, 21))
+                .thenReturn(List.of(ultimo));
+
+        PaginaAuditoria result = auditoriaService.consultarPorCursor(filtro, cursor.codificar(), 20);
+
+        assertEquals(List.of(ultimo), result.registros());
+        assertFalse(result.tieneSiguiente());
+    }
+
+    @Test
+    @DisplayName("Debe exportar entregando cada registro del filtro al consumidor")
+    void debeExportarRegistros() {
+        FiltroAuditoria filtro = new FiltroAuditoria(null, null, null, "LOGIN", null, null);
+        RegistroAuditoria primero = registroEn(Instant.parse("2026-10-18T10:00:00Z"));
+        RegistroAuditoria segundo = registroEn(Instant.parse("2026-10-18T09:00:00Z"));
+        when(auditoriaConsultaRepository.findByFiltroDespuesDe(eq(filtro), isNull(), anyInt()))
+                .thenReturn(List.of(primero, segundo));
+
+        List<RegistroAuditoria> exportados = new ArrayList<>();
+        auditoriaService.exportar(filtro, exportados::add);
+
+        assertEquals(List.of(primero, segundo), exportados);
+        verify(auditoriaConsultaRepository).findByFiltroDespuesDe(eq(filtro), isNull(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debe exportar pagina a pagina continuando desde el ultimo registro entregado")
+    void debeExportarPorPaginas() {
+        FiltroAuditoria filtro = new FiltroAuditoria(null, null, null, null, null, null);
+        Instant base = Instant.parse("2026-10-18T10:00:00Z");
+        List<RegistroAuditoria> primeraPagina = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            primeraPagina.add(registroEn(base.minusSeconds(i)));
+        }
+        RegistroAuditoria ultimo = registroEn(base.minusSeconds(5000));
+        RegistroAuditoria frontera = primeraPagina.getLast();
+        when(auditoriaConsultaRepository.findByFiltroDespuesDe(eq(filtro), isNull(), eq(1000)))
+                .thenReturn(primeraPagina);
+        when(auditoriaConsultaRepository.findByFiltroDespuesDe(eq(filtro),
+                argThat(cursor -> cursor != null && cursor.id().equals(frontera.getId())), eq(1000)))
+                .thenReturn(List.of(ultimo));
+
+        List<RegistroAuditoria> exportados = new ArrayList<>();
+        auditoriaService.exportar(filtro, exportados::add);
+
+        assertEquals(1001, exportados.size());
+        assertEquals(ultimo, exportados.getLast());
+        verify(auditoriaConsultaRepository, times(2)).findByFiltroDespuesDe(eq(filtro), any(), eq(1000));
+    }
+
+    private RegistroAuditoria registroEn(Instant occurredOn) {
+        return RegistroAuditoria.builder()
+                .id(UUID.randomUUID())
+                .eventId(UUID.randomUUID())
+                .occurredOn(occurredOn)
+                .eventType("auth.usuario.login")
+                .action("LOGIN")
+                .resourceType("USUARIO")
+                .sourceService("ms-auth")
+                .receivedAt(occurredOn)
+                .build();
+    }
 }
@@ -0,0 +1,65 @@
+package com.clinica.auditoria.application.service;
+
+import com.clinica.auditoria.domain.port.out.ParticionAuditoriaPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticionAuditoriaServiceTest {
+
+    private static final YearMonth OCTUBRE = YearMonth.of(2026, 10);
+
+    @Mock
+    private ParticionAuditoriaPort particionPort;
+
+    @InjectMocks
+    private ParticionAuditoriaService particionService;
+
+    @Test
+    @DisplayName("Debe crear solo las particiones futuras que faltan")
+    void debeCrearParticionesFaltantes() {
+        when(particionPort.listarParticiones()).thenReturn(Set.of(OCTUBRE, OCTUBRE.plusMonths(1)));
+
+        List<YearMonth> creadas = particionService.prepararParticiones(OCTUBRE, 3);
+
+        assertEquals(List.of(YearMonth.of(2026, 12), YearMonth.of(2027, 1)), creadas);
+        verify(particionPort).crearParticion(YearMonth.of(2026, 12));
+        verify(particionPort).crearParticion(YearMonth.of(2027, 1));
+        verify(particionPort, times(2)).crearParticion(any());
+    }
+
+    @Test
+    @DisplayName("Debe desvincular las particiones anteriores al periodo de retencion")
+    void debeDesvincularParticionesAntiguas() {
+        when(particionPort.listarParticiones()).thenReturn(Set.of(
+                YearMonth.of(2025, 8), YearMonth.of(2025, 9), YearMonth.of(2025, 10), OCTUBRE));
+
+        List<YearMonth> desvinculadas = particionService.desvincularParticionesAntiguas(OCTUBRE, 12);
+
+        assertEquals(List.of(YearMonth.of(2025, 8), YearMonth.of(2025, 9)), desvinculadas);
+        verify(particionPort).desvincularParticion(YearMonth.of(2025, 8));
+        verify(particionPort).desvincularParticion(YearMonth.of(2025, 9));
+        verify(particionPort, never()).desvincularParticion(YearMonth.of(2025, 10));
+    }
+
+    @Test
+    @DisplayName("No debe desvincular particiones si la retencion esta deshabilitada")
+    void noDebeDesvincularSinRetencion() {
+        List<YearMonth> desvinculadas = particionService.desvincularParticionesAntiguas(OCTUBRE, 0);
+
+        assertTrue(desvinculadas.isEmpty());
+        verifyNoInteractions(particionPort);
+    }
+}
@@ -0,0 +1,33 @@
+package com.clinica.auditoria.domain.model;
+
+import com.clinica.auditoria.domain.exception.CursorInvalidoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorAuditoriaTest {
+
+    @Test
+    @DisplayName("Cursor codificado debe decodificarse a la misma posicion")
+    void cursorDebeSerReversible() {
+        CursorAuditoria cursor = new CursorAuditoria(
+                Instant.parse("2026-10-18T10:15:30.123456Z"), UUID.randomUUID());
+
+        String token = cursor.codificar();
+
+        assertThat(token).doesNotContain("|", "+", "/", "=");
+        assertThat(CursorAuditoria.decodificar(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Cursor manipulado debe rechazarse como invalido")
+    void cursorInvalidoDebeLanzarExcepcion() {
+        assertThatThrownBy(() -> CursorAuditoria.decodificar("no-es-un-cursor"))
+                .isInstanceOf(CursorInvalidoException.class);
+    }
+}
@@ -0,0 +1,60 @@
+-- Benchmark: paginacion OFFSET + COUNT (Spring Data Page) vs keyset por (occurred_on, id)
+--
+-- Ejecutar contra una base de auditoria desechable (docker compose up postgres-auditoria
+-- y arrancar ms-auditoria una vez para aplicar las migraciones):
+--
+--   psql -h localhost -p 5435 -U clinica -d db_auditoria -f paginacion-keyset-vs-offset.sql
+--
+-- Comparar "Execution Time" de cada bloque. La pagina profunda equivale a ?page=50000&size=20.
+
+\timing on
+
+-- 1.2M registros repartidos en los ultimos 12 meses
+INSERT INTO registros_auditoria (event_id, occurred_on, event_type, user_id, user_email, action,
+                                 resource_type, resource_id, source_service, received_at)
+SELECT gen_random_uuid(),
+       now() - (random() * INTERVAL '365 days'),
+       'historia.clinica.actualizada',
+       ('00000000-0000-0000-0000-' || lpad((n % 50)::text, 12, '0'))::uuid,
+       'obstetra' || (n % 50) || '@clinica.com',
+       (ARRAY ['CREATE', 'UPDATE', 'READ', 'LOGIN'])[1 + n % 4],
+       (ARRAY ['HISTORIA_CLINICA', 'PACIENTE', 'USUARIO'])[1 + n % 3],
+       gen_random_uuid(),
+       'ms-historia-clinica',
+       now()
+FROM generate_series(1, 1200000) AS n;
+
+ANALYZE registros_auditoria;
+
+-- ==================== OFFSET (modo actual) ====================
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM registros_auditoria;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM registros_auditoria
+ORDER BY occurred_on DESC, id DESC
+OFFSET 1000000 LIMIT 20;
+
+-- ==================== KEYSET (modo cursor) ====================
+
+-- Cursor equivalente a la misma posicion profunda
+SELECT occurred_on AS cursor_occurred_on, id AS cursor_id
+FROM registros_auditoria
+ORDER BY occurred_on DESC, id DESC
+OFFSET 999999 LIMIT 1 \gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM registros_auditoria
+WHERE (occurred_on, id) < (:'cursor_occurred_on', :'cursor_id')
+ORDER BY occurred_on DESC, id DESC
+LIMIT 21;
+
+-- Keyset con filtro de fechas: solo se recorren las particiones del rango
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM registros_auditoria
+WHERE occurred_on >= now() - INTERVAL '30 days'
+  AND occurred_on <= now()
+  AND (occurred_on, id) < (:'cursor_occurred_on', :'cursor_id')
+ORDER BY occurred_on DESC, id DESC
+LIMIT 21;
@@ -0,0 +1,9 @@
+-- Outbox transaccional: los eventos se escriben en la misma transaccion que los datos
+-- y OutboxRelay los publica en RabbitMQ de forma asincrona
+CREATE TABLE outbox_eventos (
+    id                  BIGSERIAL    PRIMARY KEY,
+    event_id            UUID         NOT NULL,
+    event_type          VARCHAR(100) NOT NULL,
+    payload             TEXT         NOT NULL,
+    created_at          TIMESTAMP    NOT NULL DEFAULT now()
+);
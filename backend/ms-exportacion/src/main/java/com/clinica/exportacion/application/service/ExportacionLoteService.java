@@ -0,0 +1,285 @@
+package com.clinica.exportacion.application.service;
+
+import com.clinica.exportacion.domain.exception.ExportacionException;
+import com.clinica.exportacion.domain.exception.ExportacionSaturadaException;
+import com.clinica.exportacion.domain.model.DatosHistoriaClinica;
+import com.clinica.exportacion.domain.model.ExportJob;
+import com.clinica.exportacion.domain.model.FiltroLote;
+import com.clinica.exportacion.domain.model.ProgresoLote;
+import com.clinica.exportacion.domain.port.in.GenerarExportacionLoteUseCase;
+import com.clinica.exportacion.domain.port.in.ProcesarExportacionLoteUseCase;
+import com.clinica.exportacion.domain.port.out.ArtefactoStorePort;
+import com.clinica.exportacion.domain.port.out.CredencialServicioPort;
+import com.clinica.exportacion.domain.port.out.ExportJobColaPort;
+import com.clinica.exportacion.domain.port.out.ExportJobLoteRepositoryPort;
+import com.clinica.exportacion.domain.port.out.ExportacionEventPublisherPort;
+import com.clinica.exportacion.domain.port.out.HistoriaClinicaLoteClientPort;
+import com.clinica.exportacion.domain.port.out.PdfGeneratorPort;
+import com.clinica.exportacion.domain.port.out.PdfRenderCachePort;
+import com.clinica.shared.domain.event.AuditableEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Exportaciones en lote: renderiza varias historias en paralelo con un pool acotado y las escribe
+ * en streaming en un unico ZIP. Las historias se procesan por bloques, de modo que en memoria solo
+ * hay a la vez los PDFs del bloque en curso, y el progreso se persiste al cerrar cada bloque.
+ */
+@Slf4j
+@Service
+public class ExportacionLoteService implements GenerarExportacionLoteUseCase, ProcesarExportacionLoteUseCase {
+
+    private static final String ESTADO_FINALIZADA = "FINALIZADA";
+    private static final String ENTRADA_ERRORES = "errores.txt";
+
+    private final ExportJobLoteRepositoryPort exportJobLoteRepository;
+    private final ExportJobColaPort exportJobCola;
+    private final HistoriaClinicaLoteClientPort historiaClinicaLoteClient;
+    private final PdfGeneratorPort pdfGenerator;
+    private final PdfRenderCachePort pdfRenderCache;
+    private final ArtefactoStorePort artefactoStore;
+    private final CredencialServicioPort credencialServicio;
+    private final ExportacionEventPublisherPort eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int paralelismo;
+    private final int tamanoBloque;
+    private final int maxItems;
+
+    public ExportacionLoteService(ExportJobLoteRepositoryPort exportJobLoteRepository,
+                                  ExportJobColaPort exportJobCola,
+                                  HistoriaClinicaLoteClientPort historiaClinicaLoteClient,
+                                  PdfGeneratorPort pdfGenerator,
+                                  PdfRenderCachePort pdfRenderCache,
+                                  ArtefactoStorePort artefactoStore,
+                                  CredencialServicioPort credencialServicio,
+                                  ExportacionEventPublisherPort eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${exportacion.lote.paralelismo:4}") int paralelismo,
+                                  @Value("${exportacion.lote.tamano-bloque:20}") int tamanoBloque,
+                                  @Value("${exportacion.lote.max-items:200}") int maxItems) {
+        this.exportJobLoteRepository = exportJobLoteRepository;
+        this.exportJobCola = exportJobCola;
+        this.historiaClinicaLoteClient = historiaClinicaLoteClient;
+        this.pdfGenerator = pdfGenerator;
+        this.pdfRenderCache = pdfRenderCache;
+        this.artefactoStore = artefactoStore;
+        this.credencialServicio = credencialServicio;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.paralelismo = paralelismo;
+        this.tamanoBloque = tamanoBloque;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    @Transactional
+    public ExportJob generarLote(GenerarExportacionLoteUseCase.Command command) {
+        FiltroLote filtro = new FiltroLote(command.historiaClinicaIds(), command.pacienteId(),
+                command.desde(), command.hasta());
+        if (filtro.vacio()) {
+            throw new ExportacionException("Debe indicar historias o un filtro por paciente o fechas");
+        }
+        if (filtro.historiaClinicaIds().size() > maxItems) {
+            throw new ExportacionException("Una exportacion en lote admite como maximo " + maxItems + " historias");
+        }
+        if (filtro.desde() != null && filtro.hasta() != null && filtro.desde().isAfter(filtro.hasta())) {
+            throw new ExportacionException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+        if (exportJobCola.saturada()) {
+            throw new ExportacionSaturadaException();
+        }
+
+        ExportJob job = exportJobLoteRepository.encolar(ExportJob.crearLote(command.obstetraId()), filtro);
+        log.info("Exportacion en lote {} encolada", job.getId());
+        return job;
+    }
+
+    @Override
+    public void procesarLote(ExportJob job) {
+        String jwtToken = credencialServicio.tokenPara(job.getObstetraId());
+        List<UUID> ids;
+        try {
+            FiltroLote filtro = exportJobLoteRepository.buscarFiltro(job.getId())
+                    .orElseThrow(() -> new ExportacionException("Filtro de lote no encontrado"));
+            ids = filtro.porIds()
+                    ? filtro.historiaClinicaIds()
+                    : historiaClinicaLoteClient.listarIds(filtro.pacienteId(), filtro.desde(), filtro.hasta(), jwtToken);
+        } catch (Exception e) {
+            liberarConError(job, e);
+            return;
+        }
+
+        if (ids.isEmpty() || ids.size() > maxItems) {
+            job.aplicarProgreso(ProgresoLote.inicial(ids.size()));
+            job.marcarError(ids.isEmpty()
+                    ? "El filtro no selecciono ninguna historia"
+                    : "El filtro selecciono " + ids.size() + " historias; el maximo es " + maxItems);
+            exportJobLoteRepository.completar(job);
+            return;
+        }
+
+        AtomicReference<ProgresoLote> progreso = new AtomicReference<>(ProgresoLote.inicial(ids.size()));
+        try {
+            registrarProgreso(job, progreso.get());
+            artefactoStore.guardar(claveArtefacto(job), out -> escribirZip(job, ids, jwtToken, progreso, out));
+        } catch (ReclamoPerdidoException e) {
+            log.warn("El lote {} dejo de pertenecer a este worker; se abandona sin reemplazar el ZIP", job.getId());
+            return;
+        } catch (Exception e) {
+            liberarConError(job, e);
+            return;
+        }
+
+        job.aplicarProgreso(progreso.get());
+        if (progreso.get().itemsFallidos() == ids.size()) {
+            liberarConError(job, new ExportacionException("No se pudo exportar ninguna historia del lote"));
+            return;
+        }
+
+        job.marcarCompletado(claveArtefacto(job));
+        Boolean completado = transactionTemplate.execute(status -> {
+            if (!exportJobLoteRepository.completar(job)) {
+                return false;
+            }
+            eventPublisher.publish(AuditableEvent.create(
+                    "exportacion.lote.generado",
+                    job.getObstetraId(),
+                    null,
+                    "exportacion.lote.generado",
+                    "ExportJob",
+                    job.getId(),
+                    null,
+                    job.getArchivoUrl(),
+                    null,
+                    "ms-exportacion"
+            ));
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(completado)) {
+            log.warn("El lote {} ya no estaba en proceso al terminar; lo retomo otro worker", job.getId());
+            return;
+        }
+        log.info("Lote {} generado: {} historias, {} con error", job.getId(),
+                progreso.get().itemsProcesados(), progreso.get().itemsFallidos());
+    }
+
+    private void escribirZip(ExportJob job, List<UUID> ids, String jwtToken,
+                             AtomicReference<ProgresoLote> progreso, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        List<String> errores = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(paralelismo, Thread.ofVirtual().factory())) {
+            for (int inicio = 0; inicio < ids.size(); inicio += tamanoBloque) {
+                List<UUID> bloque = ids.subList(inicio, Math.min(inicio + tamanoBloque, ids.size()));
+                int erroresPrevios = errores.size();
+
+                for (Map.Entry<UUID, Future<byte[]>> render : renderizarBloque(bloque, job.getObstetraId(), jwtToken, executor).entrySet()) {
+                    try {
+                        byte[] pdf = render.getValue().get();
+                        zip.putNextEntry(new ZipEntry("historia-clinica-" + render.getKey() + ".pdf"));
+                        zip.write(pdf);
+                        zip.closeEntry();
+                    } catch (ExecutionException e) {
+                        errores.add(render.getKey() + ": " + e.getCause().getMessage());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new ExportacionException("Exportacion en lote interrumpida");
+                    }
+                }
+
+                int fallidos = errores.size() - erroresPrevios;
+                registrarProgreso(job, progreso.updateAndGet(p -> p.registrar(bloque.size() - fallidos, fallidos)));
+            }
+        }
+
+        if (!errores.isEmpty()) {
+            zip.putNextEntry(new ZipEntry(ENTRADA_ERRORES));
+            zip.write(String.join("\n", errores).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
+
+    /**
+     * Lanza el render del bloque en el pool. Todas las historias del bloque se obtienen con una
+     * sola llamada, que aplica el control de acceso y da estado y version vigentes; la cache solo
+     * evita el render de las FINALIZADAS de la misma version.
+     */
+    private Map<UUID, Future<byte[]>> renderizarBloque(List<UUID> bloque, UUID obstetraId, String jwtToken,
+                                                       ExecutorService executor) {
+        Map<UUID, DatosHistoriaClinica> datos;
+        Exception errorConsulta = null;
+        try {
+            datos = historiaClinicaLoteClient.obtenerCompletas(bloque, jwtToken).stream()
+                    .collect(Collectors.toMap(DatosHistoriaClinica::getId, Function.identity(), (a, b) -> a));
+        } catch (Exception e) {
+            datos = Map.of();
+            errorConsulta = e;
+        }
+
+        Map<UUID, Future<byte[]>> renders = new LinkedHashMap<>();
+        for (UUID id : bloque) {
+            DatosHistoriaClinica historia = datos.get(id);
+            Exception error = errorConsulta;
+            renders.put(id, executor.submit(() -> {
+                if (historia == null) {
+                    throw error != null ? error : new ExportacionException("Historia no encontrada");
+                }
+                if (!ESTADO_FINALIZADA.equals(historia.getEstado())) {
+                    pdfRenderCache.invalidar(id);
+                    return pdfGenerator.generar(historia);
+                }
+                Optional<byte[]> cacheado = pdfRenderCache.buscar(id, historia.getVersion(), obstetraId);
+                if (cacheado.isPresent()) {
+                    return cacheado.get();
+                }
+                byte[] pdf = pdfGenerator.generar(historia);
+                pdfRenderCache.guardar(id, historia.getVersion(), obstetraId, pdf);
+                return pdf;
+            }));
+        }
+        return renders;
+    }
+
+    // El progreso es tambien el latido del reclamo: si no se pudo guardar, otro worker retomo el lote
+    private void registrarProgreso(ExportJob job, ProgresoLote progreso) {
+        if (!exportJobLoteRepository.actualizarProgreso(job, progreso)) {
+            throw new ReclamoPerdidoException();
+        }
+    }
+
+    private void liberarConError(ExportJob job, Exception e) {
+        boolean reintentara = exportJobCola.liberarConError(job, e.getMessage());
+        log.error("Error generando lote {} (reintento: {}): {}", job.getId(), reintentara, e.getMessage(), e);
+    }
+
+    private static String claveArtefacto(ExportJob job) {
+        return "export-" + job.getId() + ".zip";
+    }
+
+    private static final class ReclamoPerdidoException extends RuntimeException {
+    }
+}
@@ -1,16 +1,28 @@
 package com.clinica.exportacion.application.service;
 
 import com.clinica.exportacion.domain.exception.ExportacionException;
+import com.clinica.exportacion.domain.exception.ExportacionSaturadaException;
+import com.clinica.exportacion.domain.model.Artefacto;
 import com.clinica.exportacion.domain.model.DatosHistoriaClinica;
+import com.clinica.exportacion.domain.model.EstadoExportacion;
 import com.clinica.exportacion.domain.model.ExportJob;
+import com.clinica.exportacion.domain.model.ProgresoLote;
+import com.clinica.exportacion.domain.model.TipoExportacion;
 import com.clinica.exportacion.domain.port.in.DescargarPdfUseCase;
 import com.clinica.exportacion.domain.port.in.GenerarExportacionUseCase;
+import com.clinica.exportacion.domain.port.in.InvalidarRenderPdfUseCase;
 import com.clinica.exportacion.domain.port.in.ListarExportacionesUseCase;
 import com.clinica.exportacion.domain.port.in.ObtenerExportacionUseCase;
+import com.clinica.exportacion.domain.port.in.ProcesarExportacionUseCase;
+import com.clinica.exportacion.domain.port.out.ArtefactoStorePort;
+import com.clinica.exportacion.domain.port.out.CredencialServicioPort;
+import com.clinica.exportacion.domain.port.out.ExportJobColaPort;
+import com.clinica.exportacion.domain.port.out.ExportJobLoteRepositoryPort;
 import com.clinica.exportacion.domain.port.out.ExportJobRepositoryPort;
 import com.clinica.exportacion.domain.port.out.ExportacionEventPublisherPort;
 import com.clinica.exportacion.domain.port.out.HistoriaClinicaClientPort;
 import com.clinica.exportacion.domain.port.out.PdfGeneratorPort;
+import com.clinica.exportacion.domain.port.out.PdfRenderCachePort;
 import com.clinica.shared.domain.event.AuditableEvent;
 import com.clinica.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -19,41 +31,68 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExportacionService implements GenerarExportacionUseCase, ObtenerExportacionUseCase,
-        ListarExportacionesUseCase, DescargarPdfUseCase {
+        ListarExportacionesUseCase, DescargarPdfUseCase, ProcesarExportacionUseCase, InvalidarRenderPdfUseCase {
+
+    private static final String ESTADO_FINALIZADA = "FINALIZADA";
 
     private final ExportJobRepositoryPort exportJobRepository;
     private final PdfGeneratorPort pdfGenerator;
     private final HistoriaClinicaClientPort historiaClinicaClient;
     private final ExportacionEventPublisherPort eventPublisher;
+    private final ExportJobColaPort exportJobCola;
+    private final CredencialServicioPort credencialServicio;
+    private final TransactionTemplate transactionTemplate;
+    private final ArtefactoStorePort artefactoStore;
+    private final PdfRenderCachePort pdfRenderCache;
+    private final ExportJobLoteRepositoryPort exportJobLoteRepository;
 
     @Override
     @Transactional
     public ExportJob generar(GenerarExportacionUseCase.Command command) {
-        ExportJob job = ExportJob.crear(command.historiaClinicaId(), command.obstetraId(), command.formato());
-        job.marcarProcesando();
-        job = exportJobRepository.save(job);
-
-        try {
-            DatosHistoriaClinica datos = historiaClinicaClient.obtenerHistoriaCompleta(
-                    command.historiaClinicaId(), command.jwtToken());
-
-            byte[] pdfBytes = pdfGenerator.generar(datos);
+        if (exportJobCola.saturada()) {
+            throw new ExportacionSaturadaException();
+        }
 
-            job.marcarCompletado("export-" + job.getId() + ".pdf");
-            job = exportJobRepository.save(job);
+        ExportJob job = exportJobRepository.save(
+                ExportJob.crear(command.historiaClinicaId(), command.obstetraId(), command.formato()));
+        log.info("Exportacion {} encolada para historia {}", job.getId(), command.historiaClinicaId());
+        return job;
+    }
 
-            log.info("PDF generado exitosamente para historia {} - job {}", command.historiaClinicaId(), job.getId());
+    @Override
+    public void procesar(ExportJob job) {
+        try {
+            renderizarArtefacto(claveArtefacto(job), job.getHistoriaClinicaId(), job.getObstetraId(),
+                    credencialServicio.tokenPara(job.getObstetraId()));
+        } catch (Exception e) {
+            boolean reintentara = exportJobCola.liberarConError(job, e.getMessage());
+            log.error("Error generando PDF para historia {} - job {} (reintento: {}): {}",
+                    job.getHistoriaClinicaId(), job.getId(), reintentara, e.getMessage(), e);
+            return;
+        }
 
+        job.marcarCompletado(claveArtefacto(job));
+        Boolean completado = transactionTemplate.execute(status -> {
+            if (!exportJobCola.completar(job)) {
+                return false;
+            }
             eventPublisher.publish(AuditableEvent.create(
                     "exportacion.pdf.generado",
-                    command.obstetraId(),
+                    job.getObstetraId(),
                     null,
                     "exportacion.pdf.generado",
                     "ExportJob",
@@ -63,42 +102,113 @@ public class ExportacionService implements GenerarExportacionUseCase, ObtenerExp
                     null,
                     "ms-exportacion"
             ));
+            return true;
+        });
 
-            return job;
-        } catch (Exception e) {
-            log.error("Error generando PDF para historia {}: {}", command.historiaClinicaId(), e.getMessage(), e);
-            job.marcarError(e.getMessage());
-            exportJobRepository.save(job);
-            throw new ExportacionException("Error generando PDF: " + e.getMessage(), e);
+        if (!Boolean.TRUE.equals(completado)) {
+            log.warn("El job {} ya no estaba en proceso al terminar; lo retomo otro worker", job.getId());
+            return;
         }
+        log.info("PDF generado exitosamente para historia {} - job {}", job.getHistoriaClinicaId(), job.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public ExportJob obtener(UUID exportJobId, UUID obstetraId) {
-        return exportJobRepository.findById(exportJobId)
-                .filter(job -> job.getObstetraId().equals(obstetraId))
-                .orElseThrow(() -> new ResourceNotFoundException("ExportJob", exportJobId));
+        ExportJob job = buscarDelObstetra(exportJobId, obstetraId);
+        exportJobLoteRepository.buscarProgresos(List.of(job.getId()))
+                .values().forEach(job::aplicarProgreso);
+        return job;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ExportJob> listarPorObstetra(UUID obstetraId, Pageable pageable) {
-        return exportJobRepository.findByObstetraId(obstetraId, pageable);
+        Page<ExportJob> page = exportJobRepository.findByObstetraId(obstetraId, pageable);
+        Map<UUID, ProgresoLote> progresos = exportJobLoteRepository.buscarProgresos(
+                page.getContent().stream().map(ExportJob::getId).toList());
+        page.forEach(job -> {
+            ProgresoLote progreso = progresos.get(job.getId());
+            if (progreso != null) {
+                job.aplicarProgreso(progreso);
+            }
+        });
+        return page;
     }
 
+    /**
+     * Sin transaccion: si el artefacto fue depurado, la regeneracion consulta ms-historia-clinica y
+     * renderiza el PDF, y no debe retener una conexion del pool mientras tanto.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public byte[] descargar(UUID exportJobId, UUID obstetraId, String jwtToken) {
-        ExportJob job = obtener(exportJobId, obstetraId);
+    public Artefacto descargar(UUID exportJobId, UUID obstetraId, String jwtToken) {
+        ExportJob job = buscarDelObstetra(exportJobId, obstetraId);
 
-        if (job.getEstado() != com.clinica.exportacion.domain.model.EstadoExportacion.COMPLETADO) {
+        if (job.getEstado() != EstadoExportacion.COMPLETADO) {
             throw new ExportacionException("La exportacion aun no esta completada");
         }
 
-        DatosHistoriaClinica datos = historiaClinicaClient.obtenerHistoriaCompleta(
-                job.getHistoriaClinicaId(), jwtToken);
+        return artefactoStore.buscar(job.getArchivoUrl())
+                .orElseGet(() -> regenerarArtefacto(job, jwtToken));
+    }
+
+    @Override
+    public void transferir(Artefacto artefacto, long desde, long longitud, WritableByteChannel destino)
+            throws IOException {
+        artefactoStore.transferir(artefacto, desde, longitud, destino);
+    }
+
+    /**
+     * Reconstruye un artefacto depurado por la politica de retencion.
+     */
+    private Artefacto regenerarArtefacto(ExportJob job, String jwtToken) {
+        if (job.getTipo() == TipoExportacion.LOTE) {
+            throw new ExportacionException("El archivo del lote ya no esta disponible; solicite una nueva exportacion");
+        }
+        log.info("Artefacto {} no disponible, regenerando PDF del job {}", job.getArchivoUrl(), job.getId());
+        return renderizarArtefacto(job.getArchivoUrl(), job.getHistoriaClinicaId(), job.getObstetraId(), jwtToken);
+    }
+
+    @Override
+    public void invalidar(UUID historiaClinicaId) {
+        pdfRenderCache.invalidar(historiaClinicaId);
+    }
+
+    /**
+     * Escribe el PDF en el almacen de artefactos en streaming. La historia se consulta siempre, lo
+     * que vuelve a aplicar el control de acceso y da estado y version vigentes; la cache solo evita
+     * el render de una historia FINALIZADA de la misma version. Las historias finalizadas se cachean
+     * luego copiando el artefacto, sin pasar el documento por el heap.
+     */
+    private Artefacto renderizarArtefacto(String clave, UUID historiaClinicaId, UUID obstetraId, String jwtToken) {
+        DatosHistoriaClinica datos = historiaClinicaClient.obtenerHistoriaCompleta(historiaClinicaId, jwtToken);
+        boolean finalizada = ESTADO_FINALIZADA.equals(datos.getEstado());
+        if (!finalizada) {
+            pdfRenderCache.invalidar(historiaClinicaId);
+        }
+
+        AtomicBoolean renderizada = new AtomicBoolean();
+        Artefacto artefacto = artefactoStore.guardar(clave, out -> {
+            if (!finalizada || !pdfRenderCache.copiar(historiaClinicaId, datos.getVersion(), obstetraId, out)) {
+                pdfGenerator.generar(datos, out);
+                renderizada.set(true);
+            }
+        });
+
+        if (finalizada && renderizada.get()) {
+            pdfRenderCache.guardar(historiaClinicaId, datos.getVersion(), obstetraId,
+                    out -> artefactoStore.transferir(artefacto, 0, artefacto.tamano(), Channels.newChannel(out)));
+        }
+        return artefacto;
+    }
+
+    private ExportJob buscarDelObstetra(UUID exportJobId, UUID obstetraId) {
+        return exportJobRepository.findById(exportJobId)
+                .filter(encontrado -> encontrado.getObstetraId().equals(obstetraId))
+                .orElseThrow(() -> new ResourceNotFoundException("ExportJob", exportJobId));
+    }
 
-        return pdfGenerator.generar(datos);
+    private static String claveArtefacto(ExportJob job) {
+        return "export-" + job.getId() + ".pdf";
     }
 }
@@ -0,0 +1,27 @@
+package com.clinica.exportacion.application.service;
+
+import com.clinica.exportacion.domain.port.in.DepurarArtefactosUseCase;
+import com.clinica.exportacion.domain.port.out.ArtefactoStorePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetencionArtefactosService implements DepurarArtefactosUseCase {
+
+    private final ArtefactoStorePort artefactoStore;
+
+    @Override
+    public int depurar(Duration retencion) {
+        int eliminados = artefactoStore.eliminarAnterioresA(Instant.now().minus(retencion));
+        if (eliminados > 0) {
+            log.info("Depurados {} artefactos con mas de {} de antiguedad", eliminados, retencion);
+        }
+        return eliminados;
+    }
+}
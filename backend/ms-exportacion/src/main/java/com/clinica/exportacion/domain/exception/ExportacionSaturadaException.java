@@ -0,0 +1,8 @@
+package com.clinica.exportacion.domain.exception;
+
+public class ExportacionSaturadaException extends ExportacionException {
+
+    public ExportacionSaturadaException() {
+        super("Hay demasiadas exportaciones en cola, intente nuevamente en unos minutos");
+    }
+}
@@ -0,0 +1,14 @@
+package com.clinica.exportacion.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Archivo generado y persistido en el almacen de artefactos.
+ */
+public record Artefacto(
+        String clave,
+        long tamano,
+        String etag,
+        Instant modificadoAt
+) {
+}
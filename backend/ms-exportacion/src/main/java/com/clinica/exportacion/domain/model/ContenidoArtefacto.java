@@ -0,0 +1,14 @@
+package com.clinica.exportacion.domain.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Escribe un contenido en streaming sobre el destino que provee un almacen, sin materializarlo
+ * completo en memoria.
+ */
+@FunctionalInterface
+public interface ContenidoArtefacto {
+
+    void escribirEn(OutputStream out) throws IOException;
+}
@@ -21,6 +21,12 @@ public class ExportJob {
     private String errorMensaje;
     private Instant createdAt;
     private Instant completedAt;
+    /** Intento con el que el worker reclamo el job; identifica su reclamo frente a uno posterior. */
+    private int intentos;
+
+    @Builder.Default
+    private TipoExportacion tipo = TipoExportacion.INDIVIDUAL;
+    private ProgresoLote progreso;
 
     public static ExportJob crear(UUID historiaClinicaId, UUID obstetraId, FormatoExportacion formato) {
         return ExportJob.builder()
@@ -33,6 +39,22 @@ public class ExportJob {
                 .build();
     }
 
+    public static ExportJob crearLote(UUID obstetraId) {
+        return ExportJob.builder()
+                .id(UUID.randomUUID())
+                .obstetraId(obstetraId)
+                .formato(FormatoExportacion.ZIP)
+                .tipo(TipoExportacion.LOTE)
+                .estado(EstadoExportacion.PENDIENTE)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    public void aplicarProgreso(ProgresoLote progreso) {
+        this.tipo = TipoExportacion.LOTE;
+        this.progreso = progreso;
+    }
+
     public void marcarProcesando() {
         this.estado = EstadoExportacion.PROCESANDO;
     }
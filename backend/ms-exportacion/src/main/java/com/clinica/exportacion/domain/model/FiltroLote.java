@@ -0,0 +1,29 @@
+package com.clinica.exportacion.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seleccion de historias de una exportacion en lote: una lista explicita de ids o,
+ * si esta vacia, las historias del obstetra filtradas por paciente y rango de creacion.
+ */
+public record FiltroLote(
+        List<UUID> historiaClinicaIds,
+        UUID pacienteId,
+        LocalDate desde,
+        LocalDate hasta
+) {
+
+    public FiltroLote {
+        historiaClinicaIds = historiaClinicaIds != null ? List.copyOf(historiaClinicaIds) : List.of();
+    }
+
+    public boolean porIds() {
+        return !historiaClinicaIds.isEmpty();
+    }
+
+    public boolean vacio() {
+        return !porIds() && pacienteId == null && desde == null && hasta == null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.clinica.exportacion.domain.model;
 
 public enum FormatoExportacion {
-    PDF
+    PDF,
+    ZIP
 }
@@ -0,0 +1,16 @@
+package com.clinica.exportacion.domain.model;
+
+public record ProgresoLote(
+        int totalItems,
+        int itemsProcesados,
+        int itemsFallidos
+) {
+
+    public static ProgresoLote inicial(int totalItems) {
+        return new ProgresoLote(totalItems, 0, 0);
+    }
+
+    public ProgresoLote registrar(int procesados, int fallidos) {
+        return new ProgresoLote(totalItems, itemsProcesados + procesados, itemsFallidos + fallidos);
+    }
+}
@@ -0,0 +1,6 @@
+package com.clinica.exportacion.domain.model;
+
+public enum TipoExportacion {
+    INDIVIDUAL,
+    LOTE
+}
@@ -0,0 +1,8 @@
+package com.clinica.exportacion.domain.port.in;
+
+import java.time.Duration;
+
+public interface DepurarArtefactosUseCase {
+
+    int depurar(Duration retencion);
+}
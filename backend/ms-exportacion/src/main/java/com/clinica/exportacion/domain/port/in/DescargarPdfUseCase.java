@@ -1,8 +1,14 @@
 package com.clinica.exportacion.domain.port.in;
 
+import com.clinica.exportacion.domain.model.Artefacto;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 import java.util.UUID;
 
 public interface DescargarPdfUseCase {
 
-    byte[] descargar(UUID exportJobId, UUID obstetraId, String jwtToken);
+    Artefacto descargar(UUID exportJobId, UUID obstetraId, String jwtToken);
+
+    void transferir(Artefacto artefacto, long desde, long longitud, WritableByteChannel destino) throws IOException;
 }
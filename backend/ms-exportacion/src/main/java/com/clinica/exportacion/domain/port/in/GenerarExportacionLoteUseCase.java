@@ -0,0 +1,21 @@
+package com.clinica.exportacion.domain.port.in;
+
+import com.clinica.exportacion.domain.model.ExportJob;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface GenerarExportacionLoteUseCase {
+
+    ExportJob generarLote(Command command);
+
+    record Command(
+            UUID obstetraId,
+            List<UUID> historiaClinicaIds,
+            UUID pacienteId,
+            LocalDate desde,
+            LocalDate hasta
+    ) {
+    }
+}
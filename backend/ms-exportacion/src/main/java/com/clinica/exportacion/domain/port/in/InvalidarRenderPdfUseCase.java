@@ -0,0 +1,8 @@
+package com.clinica.exportacion.domain.port.in;
+
+import java.util.UUID;
+
+public interface InvalidarRenderPdfUseCase {
+
+    void invalidar(UUID historiaClinicaId);
+}
@@ -0,0 +1,8 @@
+package com.clinica.exportacion.domain.port.in;
+
+import com.clinica.exportacion.domain.model.ExportJob;
+
+public interface ProcesarExportacionLoteUseCase {
+
+    void procesarLote(ExportJob job);
+}
@@ -0,0 +1,30 @@
+package com.clinica.exportacion.domain.port.out;
+
+import com.clinica.exportacion.domain.model.Artefacto;
+import com.clinica.exportacion.domain.model.ContenidoArtefacto;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.Optional;
+
+public interface ArtefactoStorePort {
+
+    /**
+     * Escribe el artefacto en streaming; solo queda visible si {@code contenido} termina sin error.
+     */
+    Artefacto guardar(String clave, ContenidoArtefacto contenido);
+
+    default Artefacto guardar(String clave, byte[] contenido) {
+        return guardar(clave, out -> out.write(contenido));
+    }
+
+    Optional<Artefacto> buscar(String clave);
+
+    /**
+     * Copia {@code longitud} bytes del artefacto a partir de {@code desde} hacia el canal destino.
+     */
+    void transferir(Artefacto artefacto, long desde, long longitud, WritableByteChannel destino) throws IOException;
+
+    int eliminarAnterioresA(Instant limite);
+}
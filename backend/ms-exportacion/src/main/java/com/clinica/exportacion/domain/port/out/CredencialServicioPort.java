@@ -0,0 +1,12 @@
+package com.clinica.exportacion.domain.port.out;
+
+import java.util.UUID;
+
+/**
+ * Emite credenciales para llamar a otros servicios en nombre de un obstetra
+ * cuando ya no se dispone del token de la peticion original.
+ */
+public interface CredencialServicioPort {
+
+    String tokenPara(UUID obstetraId);
+}
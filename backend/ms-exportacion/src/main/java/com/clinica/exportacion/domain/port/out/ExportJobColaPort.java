@@ -0,0 +1,39 @@
+package com.clinica.exportacion.domain.port.out;
+
+import com.clinica.exportacion.domain.model.ExportJob;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface ExportJobColaPort {
+
+    /**
+     * Indica si la cola supero el maximo de jobs pendientes y no debe aceptar nuevos.
+     */
+    boolean saturada();
+
+    /**
+     * Marca como PROCESANDO hasta {@code limite} jobs pendientes y los devuelve.
+     */
+    List<ExportJob> reclamar(int limite);
+
+    /**
+     * Marca COMPLETADO el job si sigue PROCESANDO con el mismo reclamo; devuelve false si otro
+     * worker ya lo tomo o lo completo, por ejemplo tras {@link #recuperarVencidos}.
+     */
+    boolean completar(ExportJob job);
+
+    /**
+     * Devuelve el job a la cola con backoff o lo marca en ERROR si agoto los reintentos. No hace
+     * nada si el job ya no pertenece a este reclamo.
+     *
+     * @return true si el job se volvera a intentar
+     */
+    boolean liberarConError(ExportJob job, String mensaje);
+
+    /**
+     * Devuelve a la cola los jobs PROCESANDO cuyo worker no termino dentro del plazo, o los marca
+     * en ERROR si ya agotaron los reintentos.
+     */
+    int recuperarVencidos(Duration plazo);
+}
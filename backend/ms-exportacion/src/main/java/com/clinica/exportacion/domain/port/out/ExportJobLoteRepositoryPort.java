@@ -0,0 +1,34 @@
+package com.clinica.exportacion.domain.port.out;
+
+import com.clinica.exportacion.domain.model.ExportJob;
+import com.clinica.exportacion.domain.model.FiltroLote;
+import com.clinica.exportacion.domain.model.ProgresoLote;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ExportJobLoteRepositoryPort {
+
+    ExportJob encolar(ExportJob job, FiltroLote filtro);
+
+    Optional<FiltroLote> buscarFiltro(UUID exportJobId);
+
+    /**
+     * Devuelve el progreso de los jobs de tipo LOTE entre los ids indicados.
+     */
+    Map<UUID, ProgresoLote> buscarProgresos(Collection<UUID> exportJobIds);
+
+    /**
+     * Guarda el progreso y renueva {@code iniciado_at} como latido del worker, para que un lote
+     * largo no se recupere como vencido. Devuelve false si el job ya no pertenece a este reclamo.
+     */
+    boolean actualizarProgreso(ExportJob job, ProgresoLote progreso);
+
+    /**
+     * Guarda el resultado del lote si sigue PROCESANDO con el mismo reclamo; devuelve false si
+     * otro worker ya lo tomo.
+     */
+    boolean completar(ExportJob job);
+}
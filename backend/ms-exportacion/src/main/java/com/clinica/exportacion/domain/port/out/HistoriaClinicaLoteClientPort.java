@@ -0,0 +1,21 @@
+package com.clinica.exportacion.domain.port.out;
+
+import com.clinica.exportacion.domain.model.DatosHistoriaClinica;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface HistoriaClinicaLoteClientPort {
+
+    /**
+     * Ids de las historias del obstetra autenticado, opcionalmente de un paciente y creadas
+     * entre {@code desde} y {@code hasta} inclusive.
+     */
+    List<UUID> listarIds(UUID pacienteId, LocalDate desde, LocalDate hasta, String jwtToken);
+
+    /**
+     * Obtiene varias historias con su paciente en una sola llamada; las no encontradas se omiten.
+     */
+    List<DatosHistoriaClinica> obtenerCompletas(List<UUID> ids, String jwtToken);
+}
@@ -0,0 +1,19 @@
+package com.clinica.exportacion.domain.port.out;
+
+import com.clinica.exportacion.domain.model.DatosHistoriaClinica;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PdfGeneratorPort {
+
+    byte[] generar(DatosHistoriaClinica datos);
+
+    /**
+     * Renderiza el PDF directamente sobre {@code destino}; a diferencia de {@link #generar(DatosHistoriaClinica)}
+     * el documento no se materializa en el heap. No cierra el destino.
+     */
+    default void generar(DatosHistoriaClinica datos, OutputStream destino) throws IOException {
+        destino.write(generar(datos));
+    }
+}
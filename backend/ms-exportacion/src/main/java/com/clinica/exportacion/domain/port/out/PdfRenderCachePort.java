@@ -0,0 +1,37 @@
+package com.clinica.exportacion.domain.port.out;
+
+import com.clinica.exportacion.domain.model.ContenidoArtefacto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache de PDFs de historias FINALIZADAS. Una historia finalizada no se modifica (las
+ * correcciones crean una nueva version con otro id), por lo que su PDF no caduca salvo anulacion.
+ * La cache solo ahorra el render: quien la consulta ya obtuvo la historia de ms-historia-clinica,
+ * con su control de acceso, y pasa la version vigente.
+ */
+public interface PdfRenderCachePort {
+
+    /**
+     * Devuelve el PDF cacheado solo si fue renderizado para el mismo obstetra y la misma version;
+     * una entrada de otra version se descarta.
+     */
+    Optional<byte[]> buscar(UUID historiaClinicaId, int version, UUID obstetraId);
+
+    /**
+     * Variante de {@link #buscar} que copia el PDF cacheado sobre {@code destino}; devuelve
+     * {@code false} sin escribir nada si no hay entrada para el obstetra y la version.
+     */
+    boolean copiar(UUID historiaClinicaId, int version, UUID obstetraId, OutputStream destino) throws IOException;
+
+    void guardar(UUID historiaClinicaId, int version, UUID obstetraId, ContenidoArtefacto pdf);
+
+    default void guardar(UUID historiaClinicaId, int version, UUID obstetraId, byte[] pdf) {
+        guardar(historiaClinicaId, version, obstetraId, out -> out.write(pdf));
+    }
+
+    void invalidar(UUID historiaClinicaId);
+}
@@ -0,0 +1,28 @@
+package com.clinica.exportacion.infrastructure.adapter.in.messaging;
+
+import com.clinica.exportacion.domain.port.in.InvalidarRenderPdfUseCase;
+import com.clinica.shared.domain.event.AuditableEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Descarta el PDF cacheado de una historia finalizada cuando se anula.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoriaAnuladaListener {
+
+    private final InvalidarRenderPdfUseCase invalidarRenderPdfUseCase;
+
+    @RabbitListener(queues = "#{exportacionPdfCacheQueue.name}")
+    public void onHistoriaAnulada(AuditableEvent event) {
+        if (event.getResourceId() == null) {
+            return;
+        }
+        log.debug("Invalidando PDF cacheado de la historia {}", event.getResourceId());
+        invalidarRenderPdfUseCase.invalidar(event.getResourceId());
+    }
+}
@@ -1,11 +1,14 @@
 package com.clinica.exportacion.infrastructure.adapter.in.rest;
 
+import com.clinica.exportacion.domain.model.Artefacto;
 import com.clinica.exportacion.domain.model.ExportJob;
 import com.clinica.exportacion.domain.port.in.DescargarPdfUseCase;
+import com.clinica.exportacion.domain.port.in.GenerarExportacionLoteUseCase;
 import com.clinica.exportacion.domain.port.in.GenerarExportacionUseCase;
 import com.clinica.exportacion.domain.port.in.ListarExportacionesUseCase;
 import com.clinica.exportacion.domain.port.in.ObtenerExportacionUseCase;
 import com.clinica.exportacion.infrastructure.adapter.in.rest.dto.ExportJobResponse;
+import com.clinica.exportacion.infrastructure.adapter.in.rest.dto.GenerarExportacionLoteRequest;
 import com.clinica.exportacion.infrastructure.adapter.in.rest.dto.GenerarExportacionRequest;
 import com.clinica.shared.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,28 +18,40 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ETag;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/exportaciones")
 @RequiredArgsConstructor
-@Tag(name = "Exportaciones", description = "Generacion y descarga de PDFs de historias clinicas")
+@Tag(name = "Exportaciones", description = "Generacion y descarga de PDFs de historias clinicas, individuales o en lote")
 public class ExportacionController {
 
+    private static final MediaType MEDIA_TYPE_ZIP = MediaType.parseMediaType("application/zip");
+
     private final GenerarExportacionUseCase generarExportacionUseCase;
     private final ObtenerExportacionUseCase obtenerExportacionUseCase;
     private final ListarExportacionesUseCase listarExportacionesUseCase;
     private final DescargarPdfUseCase descargarPdfUseCase;
+    private final GenerarExportacionLoteUseCase generarExportacionLoteUseCase;
 
     @PostMapping
-    @Operation(summary = "Generar exportacion PDF de una historia clinica")
-    @ApiResponse(responseCode = "200", description = "Exportacion generada exitosamente")
+    @Operation(summary = "Solicitar exportacion PDF de una historia clinica",
+            description = "Encola la exportacion y responde de inmediato; el estado se consulta en GET /{id}")
+    @ApiResponse(responseCode = "202", description = "Exportacion encolada")
+    @ApiResponse(responseCode = "503", description = "Cola de exportaciones saturada")
     public ResponseEntity<ExportJobResponse> generar(
             @Valid @RequestBody GenerarExportacionRequest request,
             @AuthenticationPrincipal AuthenticatedUser user,
@@ -53,7 +68,33 @@ public class ExportacionController {
         );
 
         ExportJob job = generarExportacionUseCase.generar(command);
-        return ResponseEntity.ok(toResponse(job));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/exportaciones/" + job.getId()))
+                .body(toResponse(job));
+    }
+
+    @PostMapping("/lotes")
+    @Operation(summary = "Solicitar exportacion en lote de varias historias clinicas",
+            description = "Encola un ZIP con el PDF de cada historia indicada o seleccionada por paciente y fechas; "
+                    + "el progreso se consulta en GET /{id}")
+    @ApiResponse(responseCode = "202", description = "Exportacion en lote encolada")
+    @ApiResponse(responseCode = "503", description = "Cola de exportaciones saturada")
+    public ResponseEntity<ExportJobResponse> generarLote(
+            @Valid @RequestBody GenerarExportacionLoteRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        GenerarExportacionLoteUseCase.Command command = new GenerarExportacionLoteUseCase.Command(
+                user.userId(),
+                request.historiaClinicaIds(),
+                request.pacienteId(),
+                request.desde(),
+                request.hasta()
+        );
+
+        ExportJob job = generarExportacionLoteUseCase.generarLote(command);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/exportaciones/" + job.getId()))
+                .body(toResponse(job));
     }
 
     @GetMapping("/{id}")
@@ -81,22 +122,83 @@ public class ExportacionController {
     }
 
     @GetMapping("/{id}/descargar")
-    @Operation(summary = "Descargar PDF de una exportacion completada")
+    @Operation(summary = "Descargar el PDF o ZIP de una exportacion completada",
+            description = "Soporta descargas parciales con Range/If-Range y validacion condicional con If-None-Match")
     @ApiResponse(responseCode = "200", description = "PDF descargado")
-    public ResponseEntity<byte[]> descargar(
+    @ApiResponse(responseCode = "206", description = "Rango del PDF descargado")
+    @ApiResponse(responseCode = "304", description = "El PDF no cambio")
+    public ResponseEntity<StreamingResponseBody> descargar(
             @PathVariable UUID id,
             @AuthenticationPrincipal AuthenticatedUser user,
-            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader) {
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
 
         String jwtToken = authHeader != null && authHeader.startsWith("Bearer ")
                 ? authHeader.substring(7) : null;
-        byte[] pdfBytes = descargarPdfUseCase.descargar(id, user.userId(), jwtToken);
+        Artefacto artefacto = descargarPdfUseCase.descargar(id, user.userId(), jwtToken);
+
+        if (coincideEtag(ifNoneMatch, artefacto.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(artefacto.etag()).build();
+        }
+
+        long tamano = artefacto.tamano();
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok();
+        long desde = 0;
+        long longitud = tamano;
+
+        if (range != null && (ifRange == null || ifRange.equals(artefacto.etag()))) {
+            List<HttpRange> rangos;
+            try {
+                rangos = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                rangos = List.of();
+            }
+            if (rangos.size() == 1) {
+                HttpRange rango = rangos.get(0);
+                desde = rango.getRangeStart(tamano);
+                if (desde >= tamano) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes */" + tamano)
+                            .build();
+                }
+                long hasta = rango.getRangeEnd(tamano);
+                longitud = hasta - desde + 1;
+                respuesta = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes " + desde + "-" + hasta + "/" + tamano);
+            }
+        }
+
+        boolean zip = artefacto.clave().endsWith(".zip");
+        long inicio = desde;
+        long cantidad = longitud;
+        StreamingResponseBody cuerpo = out ->
+                descargarPdfUseCase.transferir(artefacto, inicio, cantidad, Channels.newChannel(out));
+
+        return respuesta
+                .header(HttpHeaders.CONTENT_DISPOSITION, zip
+                        ? "attachment; filename=historias-clinicas-" + id + ".zip"
+                        : "attachment; filename=historia-clinica-" + id + ".pdf")
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag(artefacto.etag())
+                .lastModified(artefacto.modificadoAt())
+                .contentType(zip ? MEDIA_TYPE_ZIP : MediaType.APPLICATION_PDF)
+                .contentLength(longitud)
+                .body(cuerpo);
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=historia-clinica-" + id + ".pdf")
-                .contentType(MediaType.APPLICATION_PDF)
-                .contentLength(pdfBytes.length)
-                .body(pdfBytes);
+    /**
+     * If-None-Match usa comparacion debil (RFC 9110 13.1.2): acepta {@code *}, listas de ETags y
+     * validadores {@code W/}.
+     */
+    private static boolean coincideEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String actual = ETag.parse(etag).stream().findFirst().map(ETag::tag).orElse(etag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidato -> candidato.isWildcard() || candidato.tag().equals(actual));
     }
 
     private ExportJobResponse toResponse(ExportJob job) {
@@ -108,7 +210,11 @@ public class ExportacionController {
                 job.getArchivoUrl(),
                 job.getErrorMensaje(),
                 job.getCreatedAt(),
-                job.getCompletedAt()
+                job.getCompletedAt(),
+                job.getTipo(),
+                job.getProgreso() != null ? job.getProgreso().totalItems() : null,
+                job.getProgreso() != null ? job.getProgreso().itemsProcesados() : null,
+                job.getProgreso() != null ? job.getProgreso().itemsFallidos() : null
         );
     }
 }
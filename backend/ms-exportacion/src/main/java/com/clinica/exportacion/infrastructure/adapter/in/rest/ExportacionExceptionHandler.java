@@ -0,0 +1,32 @@
+package com.clinica.exportacion.infrastructure.adapter.in.rest;
+
+import com.clinica.exportacion.domain.exception.ExportacionSaturadaException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.net.URI;
+import java.time.Instant;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice
+public class ExportacionExceptionHandler {
+
+    private static final String RETRY_AFTER_SEGUNDOS = "30";
+
+    @ExceptionHandler(ExportacionSaturadaException.class)
+    public ResponseEntity<ProblemDetail> handleSaturada(ExportacionSaturadaException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        problem.setTitle("Cola de exportaciones saturada");
+        problem.setType(URI.create("https://api.clinica.com/errors/exportacion-saturada"));
+        problem.setProperty("timestamp", Instant.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SEGUNDOS)
+                .body(problem);
+    }
+}
@@ -2,6 +2,7 @@ package com.clinica.exportacion.infrastructure.adapter.in.rest.dto;
 
 import com.clinica.exportacion.domain.model.EstadoExportacion;
 import com.clinica.exportacion.domain.model.FormatoExportacion;
+import com.clinica.exportacion.domain.model.TipoExportacion;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.Instant;
@@ -16,6 +17,10 @@ public record ExportJobResponse(
         String archivoUrl,
         String errorMensaje,
         Instant createdAt,
-        Instant completedAt
+        Instant completedAt,
+        TipoExportacion tipo,
+        Integer totalItems,
+        Integer itemsProcesados,
+        Integer itemsFallidos
 ) {
 }
@@ -0,0 +1,25 @@
+package com.clinica.exportacion.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Solicitud de exportacion en lote; se usan los IDs si se indican, si no el filtro")
+public record GenerarExportacionLoteRequest(
+
+        @Schema(description = "IDs de las historias clinicas a exportar; el maximo lo fija exportacion.lote.max-items")
+        List<@NotNull UUID> historiaClinicaIds,
+
+        @Schema(description = "Exportar las historias de este paciente")
+        UUID pacienteId,
+
+        @Schema(description = "Fecha de creacion minima (inclusive)", example = "2024-01-01")
+        LocalDate desde,
+
+        @Schema(description = "Fecha de creacion maxima (inclusive)", example = "2024-12-31")
+        LocalDate hasta
+) {
+}
@@ -0,0 +1,33 @@
+package com.clinica.exportacion.infrastructure.adapter.in.scheduler;
+
+import com.clinica.exportacion.domain.port.in.DepurarArtefactosUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class RetencionArtefactosScheduler {
+
+    private final DepurarArtefactosUseCase depurarArtefactosUseCase;
+    private final Duration retencion;
+
+    public RetencionArtefactosScheduler(
+            DepurarArtefactosUseCase depurarArtefactosUseCase,
+            @Value("${exportacion.artefactos.retencion:P30D}") Duration retencion) {
+        this.depurarArtefactosUseCase = depurarArtefactosUseCase;
+        this.retencion = retencion;
+    }
+
+    @Scheduled(cron = "${exportacion.artefactos.depuracion-cron:0 30 3 * * *}", zone = "UTC")
+    public void depurar() {
+        try {
+            depurarArtefactosUseCase.depurar(retencion);
+        } catch (Exception e) {
+            log.error("Error depurando artefactos de exportacion: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.clinica.exportacion.infrastructure.adapter.in.worker;
+
+import com.clinica.exportacion.domain.model.ExportJob;
+import com.clinica.exportacion.domain.model.TipoExportacion;
+import com.clinica.exportacion.domain.port.in.ProcesarExportacionLoteUseCase;
+import com.clinica.exportacion.domain.port.in.ProcesarExportacionUseCase;
+import com.clinica.exportacion.domain.port.out.ExportJobColaPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consume la cola de exportaciones con un pool acotado de hilos virtuales. Solo reclama tantos
+ * jobs como permisos libres tenga, de modo que el resto permanece en la tabla disponible para
+ * otras instancias.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exportacion.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class ExportacionWorker {
+
+    private final ProcesarExportacionUseCase procesarExportacionUseCase;
+    private final ProcesarExportacionLoteUseCase procesarExportacionLoteUseCase;
+    private final ExportJobColaPort exportJobCola;
+    private final Duration plazoProcesamiento;
+    private final Semaphore permisos;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ExportacionWorker(ProcesarExportacionUseCase procesarExportacionUseCase,
+                             ProcesarExportacionLoteUseCase procesarExportacionLoteUseCase,
+                             ExportJobColaPort exportJobCola,
+                             MeterRegistry meterRegistry,
+                             @Value("${exportacion.worker.concurrencia:4}") int concurrencia,
+                             @Value("${exportacion.worker.plazo-procesamiento:PT5M}") Duration plazoProcesamiento) {
+        this.procesarExportacionUseCase = procesarExportacionUseCase;
+        this.procesarExportacionLoteUseCase = procesarExportacionLoteUseCase;
+        this.exportJobCola = exportJobCola;
+        this.plazoProcesamiento = plazoProcesamiento;
+        this.permisos = new Semaphore(concurrencia);
+        Gauge.builder("exportacion.worker.activos", permisos, p -> concurrencia - p.availablePermits())
+                .description("Exportaciones en procesamiento en esta instancia")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${exportacion.worker.intervalo-ms:1000}")
+    public void sondear() {
+        int libres = permisos.availablePermits();
+        if (libres == 0 || executor.isShutdown()) {
+            return;
+        }
+
+        List<ExportJob> jobs;
+        try {
+            jobs = exportJobCola.reclamar(libres);
+        } catch (Exception e) {
+            log.warn("No se pudo reclamar exportaciones pendientes: {}", e.getMessage());
+            return;
+        }
+
+        for (ExportJob job : jobs) {
+            permisos.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    if (job.getTipo() == TipoExportacion.LOTE) {
+                        procesarExportacionLoteUseCase.procesarLote(job);
+                    } else {
+                        procesarExportacionUseCase.procesar(job);
+                    }
+                } catch (Exception e) {
+                    log.error("Error inesperado procesando exportacion {}: {}", job.getId(), e.getMessage(), e);
+                } finally {
+                    permisos.release();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${exportacion.worker.recuperacion-ms:60000}")
+    public void recuperarVencidos() {
+        try {
+            int recuperados = exportJobCola.recuperarVencidos(plazoProcesamiento);
+            if (recuperados > 0) {
+                log.warn("{} exportaciones vencidas devueltas a la cola", recuperados);
+            }
+        } catch (Exception e) {
+            log.warn("No se pudieron recuperar exportaciones vencidas: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Exportaciones en curso interrumpidas al detener el worker");
+            executor.shutdownNow();
+        }
+    }
+}
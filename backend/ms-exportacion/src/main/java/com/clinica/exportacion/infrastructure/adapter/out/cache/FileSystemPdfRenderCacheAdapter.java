@@ -0,0 +1,232 @@
+package com.clinica.exportacion.infrastructure.adapter.out.cache;
+
+import com.clinica.exportacion.domain.model.ContenidoArtefacto;
+import com.clinica.exportacion.domain.port.out.PdfRenderCachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Cache en disco local acotado por tamano total. Cada archivo se nombra
+ * {@code historiaId_version_obstetraId.pdf}, asi el indice se reconstruye al arrancar; cuando
+ * se supera el limite se desalojan los PDFs menos usados recientemente.
+ */
+@Slf4j
+@Component
+public class FileSystemPdfRenderCacheAdapter implements PdfRenderCachePort {
+
+    private static final String EXTENSION = ".pdf";
+
+    private record Entrada(int version, UUID obstetraId, Path archivo, long tamano) {
+    }
+
+    private final Path directorio;
+    private final long maxBytes;
+    private final Map<UUID, Entrada> entradas = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytesTotales;
+    private final Counter aciertos;
+    private final Counter fallos;
+
+    public FileSystemPdfRenderCacheAdapter(@Value("${exportacion.pdf-cache.dir}") Path directorio,
+                                           @Value("${exportacion.pdf-cache.max-size:512MB}") DataSize maxSize,
+                                           MeterRegistry meterRegistry) throws IOException {
+        this.directorio = Files.createDirectories(directorio.toAbsolutePath().normalize());
+        this.maxBytes = maxSize.toBytes();
+        this.aciertos = Counter.builder("exportacion.pdf.cache")
+                .description("Consultas a la cache de PDFs renderizados")
+                .tag("resultado", "hit")
+                .register(meterRegistry);
+        this.fallos = Counter.builder("exportacion.pdf.cache")
+                .description("Consultas a la cache de PDFs renderizados")
+                .tag("resultado", "miss")
+                .register(meterRegistry);
+        Gauge.builder("exportacion.pdf.cache.bytes", this, FileSystemPdfRenderCacheAdapter::tamanio)
+                .description("Bytes ocupados por la cache de PDFs")
+                .register(meterRegistry);
+        cargarIndice();
+    }
+
+    @Override
+    public Optional<byte[]> buscar(UUID historiaClinicaId, int version, UUID obstetraId) {
+        Entrada entrada = entradaPara(historiaClinicaId, version, obstetraId);
+        if (entrada != null) {
+            try {
+                byte[] pdf = Files.readAllBytes(entrada.archivo());
+                aciertos.increment();
+                return Optional.of(pdf);
+            } catch (NoSuchFileException e) {
+                quitar(historiaClinicaId, entrada);
+            } catch (IOException e) {
+                log.warn("No se pudo leer el PDF cacheado de la historia {}: {}", historiaClinicaId, e.getMessage());
+            }
+        }
+        fallos.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean copiar(UUID historiaClinicaId, int version, UUID obstetraId, OutputStream destino)
+            throws IOException {
+        Entrada entrada = entradaPara(historiaClinicaId, version, obstetraId);
+        if (entrada != null) {
+            try (InputStream in = Files.newInputStream(entrada.archivo())) {
+                in.transferTo(destino);
+                aciertos.increment();
+                return true;
+            } catch (NoSuchFileException e) {
+                quitar(historiaClinicaId, entrada);
+            }
+        }
+        fallos.increment();
+        return false;
+    }
+
+    @Override
+    public void guardar(UUID historiaClinicaId, int version, UUID obstetraId, ContenidoArtefacto pdf) {
+        Path archivo = directorio.resolve(historiaClinicaId + "_" + version + "_" + obstetraId + EXTENSION);
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + "." + System.nanoTime() + ".tmp");
+        long tamano;
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporal))) {
+                pdf.escribirEn(out);
+            }
+            tamano = Files.size(temporal);
+            if (tamano > maxBytes) {
+                eliminar(temporal);
+                return;
+            }
+            Files.move(temporal, archivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("No se pudo cachear el PDF de la historia {}: {}", historiaClinicaId, e.getMessage());
+            eliminar(temporal);
+            return;
+        }
+        synchronized (this) {
+            Entrada anterior = entradas.put(historiaClinicaId, new Entrada(version, obstetraId, archivo, tamano));
+            if (anterior != null) {
+                bytesTotales -= anterior.tamano();
+                if (!anterior.archivo().equals(archivo)) {
+                    eliminar(anterior.archivo());
+                }
+            }
+            bytesTotales += tamano;
+            desalojar();
+        }
+    }
+
+    @Override
+    public void invalidar(UUID historiaClinicaId) {
+        Entrada entrada;
+        synchronized (this) {
+            entrada = entradas.remove(historiaClinicaId);
+            if (entrada != null) {
+                bytesTotales -= entrada.tamano();
+            }
+        }
+        if (entrada != null) {
+            eliminar(entrada.archivo());
+        }
+    }
+
+    private Entrada entradaPara(UUID historiaClinicaId, int version, UUID obstetraId) {
+        Entrada entrada;
+        synchronized (this) {
+            entrada = entradas.get(historiaClinicaId);
+        }
+        if (entrada == null) {
+            return null;
+        }
+        if (entrada.version() != version) {
+            if (quitar(historiaClinicaId, entrada)) {
+                eliminar(entrada.archivo());
+            }
+            return null;
+        }
+        return entrada.obstetraId().equals(obstetraId) ? entrada : null;
+    }
+
+    private synchronized boolean quitar(UUID historiaClinicaId, Entrada entrada) {
+        if (entradas.remove(historiaClinicaId, entrada)) {
+            bytesTotales -= entrada.tamano();
+            return true;
+        }
+        return false;
+    }
+
+    private void desalojar() {
+        Iterator<Map.Entry<UUID, Entrada>> it = entradas.entrySet().iterator();
+        while (bytesTotales > maxBytes && it.hasNext()) {
+            Entrada eldest = it.next().getValue();
+            it.remove();
+            bytesTotales -= eldest.tamano();
+            eliminar(eldest.archivo());
+        }
+    }
+
+    private synchronized void cargarIndice() throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            archivos.filter(p -> p.getFileName().toString().endsWith(EXTENSION))
+                    .sorted(Comparator.comparingLong(FileSystemPdfRenderCacheAdapter::modificado))
+                    .forEach(this::indexar);
+        }
+        desalojar();
+        log.info("Cache de PDFs cargada: {} entradas, {} bytes", entradas.size(), bytesTotales);
+    }
+
+    private void indexar(Path archivo) {
+        String nombre = archivo.getFileName().toString();
+        String[] partes = nombre.substring(0, nombre.length() - EXTENSION.length()).split("_");
+        try {
+            Entrada entrada = new Entrada(Integer.parseInt(partes[1]), UUID.fromString(partes[2]),
+                    archivo, Files.size(archivo));
+            Entrada anterior = entradas.put(UUID.fromString(partes[0]), entrada);
+            if (anterior != null) {
+                bytesTotales -= anterior.tamano();
+                eliminar(anterior.archivo());
+            }
+            bytesTotales += entrada.tamano();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Archivo ajeno a la cache de PDFs ignorado: {}", nombre);
+        }
+    }
+
+    private synchronized long tamanio() {
+        return bytesTotales;
+    }
+
+    private static long modificado(Path archivo) {
+        try {
+            return Files.getLastModifiedTime(archivo).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void eliminar(Path archivo) {
+        try {
+            Files.deleteIfExists(archivo);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar {} de la cache de PDFs: {}", archivo.getFileName(), e.getMessage());
+        }
+    }
+}
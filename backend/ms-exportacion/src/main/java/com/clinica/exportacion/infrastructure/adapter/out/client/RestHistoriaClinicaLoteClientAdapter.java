@@ -0,0 +1,178 @@
+package com.clinica.exportacion.infrastructure.adapter.out.client;
+
+import com.clinica.exportacion.domain.exception.ExportacionException;
+import com.clinica.exportacion.domain.model.DatosHistoriaClinica;
+import com.clinica.exportacion.domain.port.out.HistoriaClinicaLoteClientPort;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cliente de ms-historia-clinica para exportaciones en lote: las historias se obtienen en bloque
+ * con POST /api/historias-clinicas/completas en lugar de una llamada por historia.
+ */
+@Slf4j
+@Component
+public class RestHistoriaClinicaLoteClientAdapter implements HistoriaClinicaLoteClientPort {
+
+    private static final int TAMANO_PAGINA = 100;
+    private static final int MAX_PAGINAS = 50;
+
+    private final RestTemplate restTemplate;
+    private final String historiaClinicaUrl;
+
+    public RestHistoriaClinicaLoteClientAdapter(RestTemplate restTemplate,
+                                                @Value("${exportacion.historia-clinica-url}") String historiaClinicaUrl) {
+        this.restTemplate = restTemplate;
+        this.historiaClinicaUrl = historiaClinicaUrl;
+    }
+
+    @Override
+    @CircuitBreaker(name = "historiaClinica")
+    public List<UUID> listarIds(UUID pacienteId, LocalDate desde, LocalDate hasta, String jwtToken) {
+        Instant inicio = desde != null ? desde.atStartOfDay(ZoneOffset.UTC).toInstant() : null;
+        Instant fin = hasta != null ? hasta.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant() : null;
+
+        List<UUID> ids = new ArrayList<>();
+        for (int pagina = 0; pagina < MAX_PAGINAS; pagina++) {
+            UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(historiaClinicaUrl)
+                    .path("/api/historias-clinicas")
+                    .queryParam("page", pagina)
+                    .queryParam("size", TAMANO_PAGINA);
+            if (pacienteId != null) {
+                uri.queryParam("pacienteId", pacienteId);
+            }
+
+            PaginaHistorias respuesta = restTemplate.exchange(uri.toUriString(), HttpMethod.GET,
+                    new HttpEntity<>(cabeceras(jwtToken)), PaginaHistorias.class).getBody();
+            if (respuesta == null || respuesta.content() == null) {
+                break;
+            }
+
+            for (ResumenHistoria historia : respuesta.content()) {
+                Instant creada = historia.createdAt();
+                if ((inicio == null || !creada.isBefore(inicio)) && (fin == null || creada.isBefore(fin))) {
+                    ids.add(historia.id());
+                }
+            }
+            if (respuesta.last()) {
+                return ids;
+            }
+        }
+
+        log.warn("Listado de historias truncado a {} paginas para exportacion en lote", MAX_PAGINAS);
+        return ids;
+    }
+
+    @Override
+    @CircuitBreaker(name = "historiaClinica")
+    public List<DatosHistoriaClinica> obtenerCompletas(List<UUID> ids, String jwtToken) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        HttpHeaders headers = cabeceras(jwtToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HistoriasCompletas respuesta = restTemplate.postForObject(
+                historiaClinicaUrl + "/api/historias-clinicas/completas",
+                new HttpEntity<>(Map.of("ids", ids), headers),
+                HistoriasCompletas.class);
+        if (respuesta == null || respuesta.historias() == null) {
+            throw new ExportacionException("Respuesta vacia de historia clinica");
+        }
+
+        return respuesta.historias().stream()
+                .map(RestHistoriaClinicaLoteClientAdapter::toDatos)
+                .toList();
+    }
+
+    private static HttpHeaders cabeceras(String jwtToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtToken);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return headers;
+    }
+
+    private static DatosHistoriaClinica toDatos(HistoriaCompleta completa) {
+        Historia historia = completa.historia();
+        Paciente paciente = completa.paciente();
+        return DatosHistoriaClinica.builder()
+                .id(historia.id())
+                .version(historia.version())
+                .estado(historia.estado())
+                .notasGenerales(historia.notasGenerales())
+                .createdAt(historia.createdAt())
+                .pacienteNombre(paciente.nombre())
+                .pacienteApellido(paciente.apellido())
+                .pacienteDni(paciente.dni())
+                .pacienteFechaNacimiento(paciente.fechaNacimiento())
+                .pacienteTelefono(paciente.telefono())
+                .pacienteDireccion(paciente.direccion())
+                .secciones(historia.secciones() == null ? List.of() : historia.secciones().stream()
+                        .map(s -> new DatosHistoriaClinica.Seccion(s.tipo(), s.contenido(), s.orden()))
+                        .toList())
+                .eventos(historia.eventos() == null ? List.of() : historia.eventos().stream()
+                        .map(e -> new DatosHistoriaClinica.Evento(
+                                e.tipo(), e.fecha(), e.semanaGestacional(), e.observaciones()))
+                        .toList())
+                .medicamentos(historia.medicamentos() == null ? List.of() : historia.medicamentos().stream()
+                        .map(m -> new DatosHistoriaClinica.Medicamento(
+                                m.nombre(), m.dosis(), m.via(), m.frecuencia(), m.duracion()))
+                        .toList())
+                .build();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record PaginaHistorias(List<ResumenHistoria> content, boolean last) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ResumenHistoria(UUID id, Instant createdAt) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record HistoriasCompletas(List<HistoriaCompleta> historias, List<UUID> noEncontradas) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record HistoriaCompleta(Historia historia, Paciente paciente) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Historia(UUID id, int version, String estado, String notasGenerales, Instant createdAt,
+                    List<Seccion> secciones, List<Evento> eventos, List<Medicamento> medicamentos) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Seccion(String tipo, String contenido, int orden) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Evento(String tipo, Instant fecha, Integer semanaGestacional, String observaciones) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Medicamento(String nombre, String dosis, String via, String frecuencia, String duracion) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Paciente(String dni, String nombre, String apellido, LocalDate fechaNacimiento,
+                    String telefono, String direccion) {
+    }
+}
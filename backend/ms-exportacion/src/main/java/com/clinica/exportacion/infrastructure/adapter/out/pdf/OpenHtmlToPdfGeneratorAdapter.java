@@ -0,0 +1,172 @@
+package com.clinica.exportacion.infrastructure.adapter.out.pdf;
+
+import com.clinica.exportacion.domain.exception.ExportacionException;
+import com.clinica.exportacion.domain.model.DatosHistoriaClinica;
+import com.clinica.exportacion.domain.port.out.PdfGeneratorPort;
+import com.openhtmltopdf.extend.FSCacheEx;
+import com.openhtmltopdf.extend.FSCacheValue;
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
+import com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Renderiza la plantilla historia-clinica con openhtmltopdf escribiendo el PDF directamente
+ * sobre el destino. El documento PDFBox usa un buffer en memoria acotado que desborda a archivos
+ * temporales, de modo que el heap por exportacion no crece con la cantidad de secciones.
+ * <p>
+ * Los recursos costosos se preparan una sola vez: las fuentes TTF se leen a memoria al arrancar,
+ * las metricas de fuentes se comparten entre renders en una cache thread-safe y, al quedar lista
+ * la aplicacion, se renderiza una historia sintetica para cargar plantilla, parser y fuentes
+ * antes de la primera exportacion real.
+ */
+@Slf4j
+@Primary
+@Component
+public class OpenHtmlToPdfGeneratorAdapter implements PdfGeneratorPort {
+
+    private static final String PLANTILLA = "historia-clinica";
+    private static final Locale LOCALE = Locale.forLanguageTag("es-PE");
+
+    private record Fuente(String familia, int peso, BaseRendererBuilder.FontStyle estilo, byte[] contenido) {
+    }
+
+    private final ITemplateEngine templateEngine;
+    private final long memoriaMaxima;
+    private final boolean precalentar;
+    private final List<Fuente> fuentes;
+    private final FSCacheEx<String, FSCacheValue> metricasFuentes = new FSDefaultCacheStore();
+
+    public OpenHtmlToPdfGeneratorAdapter(ITemplateEngine templateEngine,
+                                         @Value("${exportacion.pdf.memoria-max:8MB}") DataSize memoriaMaxima,
+                                         @Value("${exportacion.pdf.fuentes-dir:}") String fuentesDir,
+                                         @Value("${exportacion.pdf.precalentar:true}") boolean precalentar)
+            throws IOException {
+        this.templateEngine = templateEngine;
+        this.memoriaMaxima = memoriaMaxima.toBytes();
+        this.precalentar = precalentar;
+        this.fuentes = fuentesDir.isBlank() ? List.of() : cargarFuentes(Path.of(fuentesDir));
+    }
+
+    @Override
+    public byte[] generar(DatosHistoriaClinica datos) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        try {
+            generar(datos, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public void generar(DatosHistoriaClinica datos, OutputStream destino) throws IOException {
+        String html = templateEngine.process(PLANTILLA, new Context(LOCALE, Map.of("historia", datos)));
+        try (PDDocument documento = new PDDocument(MemoryUsageSetting.setupMixed(memoriaMaxima))) {
+            PdfRendererBuilder builder = new PdfRendererBuilder()
+                    .useFastMode()
+                    .useCacheStore(PdfRendererBuilder.CacheStore.PDF_FONT_METRICS, metricasFuentes)
+                    .usePDDocument(documento);
+            for (Fuente fuente : fuentes) {
+                builder.useFont(() -> new ByteArrayInputStream(fuente.contenido()), fuente.familia(),
+                        fuente.peso(), fuente.estilo(), true);
+            }
+            builder.withHtmlContent(html, null)
+                    .toStream(destino)
+                    .run();
+        } catch (RuntimeException e) {
+            throw new ExportacionException("Error al renderizar el PDF de la historia " + datos.getId(), e);
+        }
+    }
+
+    /**
+     * Se ejecuta antes de que la aplicacion se declare lista para recibir trafico, por lo que
+     * el costo de la primera carga no lo paga una exportacion real.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precalentar() {
+        if (!precalentar) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        try {
+            generar(historiaSintetica(), OutputStream.nullOutputStream());
+            log.info("Renderizador PDF precalentado en {} ms", (System.nanoTime() - inicio) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("No se pudo precalentar el renderizador PDF: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lee los TTF del directorio; la familia se toma del nombre de archivo hasta el primer guion
+     * y el peso/estilo de los sufijos Bold/Italic (p. ej. LiberationSans-BoldItalic.ttf).
+     */
+    private static List<Fuente> cargarFuentes(Path directorio) throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            List<Fuente> fuentes = archivos
+                    .filter(archivo -> archivo.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".ttf"))
+                    .sorted()
+                    .map(OpenHtmlToPdfGeneratorAdapter::leerFuente)
+                    .toList();
+            log.info("{} fuentes cargadas desde {}", fuentes.size(), directorio);
+            return fuentes;
+        }
+    }
+
+    private static Fuente leerFuente(Path archivo) {
+        String nombre = archivo.getFileName().toString();
+        String base = nombre.substring(0, nombre.length() - ".ttf".length());
+        int guion = base.indexOf('-');
+        String familia = guion > 0 ? base.substring(0, guion) : base;
+        String variante = guion > 0 ? base.substring(guion + 1).toLowerCase(Locale.ROOT) : "";
+        try {
+            return new Fuente(familia,
+                    variante.contains("bold") ? 700 : 400,
+                    variante.contains("italic") || variante.contains("oblique")
+                            ? BaseRendererBuilder.FontStyle.ITALIC : BaseRendererBuilder.FontStyle.NORMAL,
+                    Files.readAllBytes(archivo));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la fuente " + nombre, e);
+        }
+    }
+
+    private static DatosHistoriaClinica historiaSintetica() {
+        return DatosHistoriaClinica.builder()
+                .id(UUID.randomUUID())
+                .version(1)
+                .estado("BORRADOR")
+                .notasGenerales("Precalentamiento")
+                .createdAt(Instant.now())
+                .pacienteNombre("Precalentamiento")
+                .pacienteApellido("Renderizador")
+                .pacienteDni("00000000")
+                .secciones(List.of(new DatosHistoriaClinica.Seccion("EVOLUCION", "Render sintetico de arranque", 1)))
+                .eventos(List.of(new DatosHistoriaClinica.Evento("Control", Instant.now(), 20, "-")))
+                .medicamentos(List.of(new DatosHistoriaClinica.Medicamento("-", "-", "-", "-", "-")))
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.clinica.exportacion.infrastructure.adapter.out.persistence;
+
+import com.clinica.exportacion.domain.model.EstadoExportacion;
+import com.clinica.exportacion.domain.model.ExportJob;
+import com.clinica.exportacion.domain.model.FormatoExportacion;
+import com.clinica.exportacion.domain.model.TipoExportacion;
+import com.clinica.exportacion.domain.port.out.ExportJobColaPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cola de exportaciones sobre la tabla export_jobs. El reclamo usa FOR UPDATE SKIP LOCKED,
+ * por lo que varias instancias pueden consumir la misma tabla sin tomar dos veces un job.
+ * Completar y liberar exigen el mismo {@code intentos} del reclamo: un worker cuyo job fue
+ * recuperado por vencido y reclamado por otro ya no puede modificarlo.
+ */
+@Component
+public class JdbcExportJobColaAdapter implements ExportJobColaPort {
+
+    private static final String CONTAR_PENDIENTES_SQL =
+            "SELECT count(*) FROM export_jobs WHERE estado = 'PENDIENTE'";
+
+    private static final String RECLAMAR_SQL = """
+            UPDATE export_jobs j
+            SET estado = 'PROCESANDO', intentos = j.intentos + 1, iniciado_at = now()
+            FROM (
+                SELECT id FROM export_jobs
+                WHERE estado = 'PENDIENTE' AND proximo_intento_at <= now()
+                ORDER BY proximo_intento_at, created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) pendientes
+            WHERE j.id = pendientes.id
+            RETURNING j.id, j.historia_clinica_id, j.obstetra_id, j.formato, j.estado,
+                      j.archivo_url, j.error_mensaje, j.created_at, j.completed_at, j.tipo, j.intentos
+            """;
+
+    private static final String COMPLETAR_SQL = """
+            UPDATE export_jobs
+            SET estado = 'COMPLETADO', archivo_url = ?, error_mensaje = NULL, completed_at = ?, iniciado_at = NULL
+            WHERE id = ? AND estado = 'PROCESANDO' AND intentos = ?
+            """;
+
+    private static final String LIBERAR_CON_ERROR_SQL = """
+            UPDATE export_jobs
+            SET estado = CASE WHEN intentos >= ? THEN 'ERROR' ELSE 'PENDIENTE' END,
+                error_mensaje = ?,
+                proximo_intento_at = now() + make_interval(secs => ? * power(2, intentos - 1)),
+                completed_at = CASE WHEN intentos >= ? THEN now() END,
+                iniciado_at = NULL
+            WHERE id = ? AND estado = 'PROCESANDO' AND intentos = ?
+            RETURNING estado
+            """;
+
+    private static final String RECUPERAR_VENCIDOS_SQL = """
+            UPDATE export_jobs
+            SET estado = CASE WHEN intentos >= ? THEN 'ERROR' ELSE 'PENDIENTE' END,
+                error_mensaje = CASE WHEN intentos >= ? THEN 'Procesamiento interrumpido' ELSE error_mensaje END,
+                completed_at = CASE WHEN intentos >= ? THEN now() END,
+                iniciado_at = NULL,
+                proximo_intento_at = now()
+            WHERE estado = 'PROCESANDO' AND iniciado_at < ?
+            """;
+
+    private static final RowMapper<ExportJob> ROW_MAPPER = (rs, rowNum) -> ExportJob.builder()
+            .id(rs.getObject("id", UUID.class))
+            .historiaClinicaId(rs.getObject("historia_clinica_id", UUID.class))
+            .obstetraId(rs.getObject("obstetra_id", UUID.class))
+            .formato(FormatoExportacion.valueOf(rs.getString("formato")))
+            .estado(EstadoExportacion.valueOf(rs.getString("estado")))
+            .archivoUrl(rs.getString("archivo_url"))
+            .errorMensaje(rs.getString("error_mensaje"))
+            .createdAt(toInstant(rs.getTimestamp("created_at")))
+            .completedAt(toInstant(rs.getTimestamp("completed_at")))
+            .tipo(TipoExportacion.valueOf(rs.getString("tipo")))
+            .intentos(rs.getInt("intentos"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxPendientes;
+    private final int maxIntentos;
+    private final long backoffInicialSegundos;
+
+    public JdbcExportJobColaAdapter(JdbcTemplate jdbcTemplate,
+                                    @Value("${exportacion.worker.max-pendientes:500}") int maxPendientes,
+                                    @Value("${exportacion.worker.max-intentos:3}") int maxIntentos,
+                                    @Value("${exportacion.worker.backoff-inicial:PT10S}") Duration backoffInicial) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPendientes = maxPendientes;
+        this.maxIntentos = maxIntentos;
+        this.backoffInicialSegundos = backoffInicial.toSeconds();
+    }
+
+    @Override
+    public boolean saturada() {
+        Long pendientes = jdbcTemplate.queryForObject(CONTAR_PENDIENTES_SQL, Long.class);
+        return pendientes != null && pendientes >= maxPendientes;
+    }
+
+    @Override
+    public List<ExportJob> reclamar(int limite) {
+        if (limite <= 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(RECLAMAR_SQL, ROW_MAPPER, limite);
+    }
+
+    @Override
+    public boolean completar(ExportJob job) {
+        return jdbcTemplate.update(COMPLETAR_SQL,
+                job.getArchivoUrl(),
+                Timestamp.from(job.getCompletedAt()),
+                job.getId(),
+                job.getIntentos()) == 1;
+    }
+
+    @Override
+    public boolean liberarConError(ExportJob job, String mensaje) {
+        List<String> estados = jdbcTemplate.queryForList(LIBERAR_CON_ERROR_SQL, String.class,
+                maxIntentos, truncar(mensaje), backoffInicialSegundos, maxIntentos, job.getId(), job.getIntentos());
+        return !estados.isEmpty() && EstadoExportacion.PENDIENTE.name().equals(estados.get(0));
+    }
+
+    @Override
+    public int recuperarVencidos(Duration plazo) {
+        return jdbcTemplate.update(RECUPERAR_VENCIDOS_SQL,
+                maxIntentos, maxIntentos, maxIntentos, Timestamp.from(Instant.now().minus(plazo)));
+    }
+
+    private static String truncar(String mensaje) {
+        if (mensaje == null) {
+            return null;
+        }
+        return mensaje.length() > 1000 ? mensaje.substring(0, 1000) : mensaje;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -0,0 +1,148 @@
+package com.clinica.exportacion.infrastructure.adapter.out.persistence;
+
+import com.clinica.exportacion.domain.model.ExportJob;
+import com.clinica.exportacion.domain.model.FiltroLote;
+import com.clinica.exportacion.domain.model.ProgresoLote;
+import com.clinica.exportacion.domain.port.out.ExportJobLoteRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Columnas de lote de export_jobs (filtro y progreso), accedidas por JDBC para no depender
+ * del mapeo JPA de los jobs individuales.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcExportJobLoteRepositoryAdapter implements ExportJobLoteRepositoryPort {
+
+    private static final String ENCOLAR_SQL = """
+            INSERT INTO export_jobs (id, obstetra_id, formato, estado, tipo, created_at,
+                                     filtro_historia_ids, filtro_paciente_id, filtro_desde, filtro_hasta)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String BUSCAR_FILTRO_SQL = """
+            SELECT filtro_historia_ids, filtro_paciente_id, filtro_desde, filtro_hasta
+            FROM export_jobs WHERE id = ? AND tipo = 'LOTE'
+            """;
+
+    private static final String BUSCAR_PROGRESOS_SQL = """
+            SELECT id, total_items, items_procesados, items_fallidos
+            FROM export_jobs WHERE id = ANY(?) AND tipo = 'LOTE'
+            """;
+
+    private static final String ACTUALIZAR_PROGRESO_SQL = """
+            UPDATE export_jobs SET total_items = ?, items_procesados = ?, items_fallidos = ?, iniciado_at = now()
+            WHERE id = ? AND estado = 'PROCESANDO' AND intentos = ?
+            """;
+
+    private static final String COMPLETAR_SQL = """
+            UPDATE export_jobs
+            SET estado = ?, archivo_url = ?, error_mensaje = ?, completed_at = ?,
+                total_items = ?, items_procesados = ?, items_fallidos = ?, iniciado_at = NULL
+            WHERE id = ? AND estado = 'PROCESANDO' AND intentos = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ExportJob encolar(ExportJob job, FiltroLote filtro) {
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(ENCOLAR_SQL);
+            ps.setObject(1, job.getId());
+            ps.setObject(2, job.getObstetraId());
+            ps.setString(3, job.getFormato().name());
+            ps.setString(4, job.getEstado().name());
+            ps.setString(5, job.getTipo().name());
+            ps.setTimestamp(6, Timestamp.from(job.getCreatedAt()));
+            ps.setArray(7, filtro.porIds()
+                    ? con.createArrayOf("uuid", filtro.historiaClinicaIds().toArray())
+                    : null);
+            ps.setObject(8, filtro.pacienteId());
+            ps.setObject(9, toDate(filtro.desde()));
+            ps.setObject(10, toDate(filtro.hasta()));
+            return ps;
+        });
+        return job;
+    }
+
+    @Override
+    public Optional<FiltroLote> buscarFiltro(UUID exportJobId) {
+        return jdbcTemplate.query(BUSCAR_FILTRO_SQL, (rs, rowNum) -> new FiltroLote(
+                toUuids(rs.getArray("filtro_historia_ids")),
+                rs.getObject("filtro_paciente_id", UUID.class),
+                toLocalDate(rs.getDate("filtro_desde")),
+                toLocalDate(rs.getDate("filtro_hasta"))
+        ), exportJobId).stream().findFirst();
+    }
+
+    @Override
+    public Map<UUID, ProgresoLote> buscarProgresos(Collection<UUID> exportJobIds) {
+        Map<UUID, ProgresoLote> progresos = new HashMap<>();
+        if (exportJobIds.isEmpty()) {
+            return progresos;
+        }
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(BUSCAR_PROGRESOS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", exportJobIds.toArray()));
+            return ps;
+        }, rs -> {
+            progresos.put(rs.getObject("id", UUID.class), new ProgresoLote(
+                    rs.getInt("total_items"),
+                    rs.getInt("items_procesados"),
+                    rs.getInt("items_fallidos")));
+        });
+        return progresos;
+    }
+
+    @Override
+    public boolean actualizarProgreso(ExportJob job, ProgresoLote progreso) {
+        return jdbcTemplate.update(ACTUALIZAR_PROGRESO_SQL,
+                progreso.totalItems(), progreso.itemsProcesados(), progreso.itemsFallidos(),
+                job.getId(), job.getIntentos()) == 1;
+    }
+
+    @Override
+    public boolean completar(ExportJob job) {
+        ProgresoLote progreso = job.getProgreso() != null ? job.getProgreso() : ProgresoLote.inicial(0);
+        return jdbcTemplate.update(COMPLETAR_SQL,
+                job.getEstado().name(),
+                job.getArchivoUrl(),
+                job.getErrorMensaje(),
+                job.getCompletedAt() != null ? Timestamp.from(job.getCompletedAt()) : null,
+                progreso.totalItems(),
+                progreso.itemsProcesados(),
+                progreso.itemsFallidos(),
+                job.getId(),
+                job.getIntentos()) == 1;
+    }
+
+    private static List<UUID> toUuids(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.stream((Object[]) array.getArray()).map(UUID.class::cast).toList();
+    }
+
+    private static Date toDate(LocalDate fecha) {
+        return fecha != null ? Date.valueOf(fecha) : null;
+    }
+
+    private static LocalDate toLocalDate(Date fecha) {
+        return fecha != null ? fecha.toLocalDate() : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.clinica.exportacion.infrastructure.adapter.out.security;
+
+import com.clinica.exportacion.domain.port.out.CredencialServicioPort;
+import com.clinica.shared.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Firma un token de corta duracion con el secreto compartido para que el worker pueda leer
+ * la historia clinica del obstetra que solicito la exportacion.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtCredencialServicioAdapter implements CredencialServicioPort {
+
+    private static final String EMAIL_SERVICIO = "ms-exportacion@clinica.internal";
+    private static final String ROL_OBSTETRA = "OBSTETRA";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public String tokenPara(UUID obstetraId) {
+        return jwtTokenProvider.generateAccessToken(obstetraId, EMAIL_SERVICIO, ROL_OBSTETRA);
+    }
+}
@@ -0,0 +1,143 @@
+package com.clinica.exportacion.infrastructure.adapter.out.storage;
+
+import com.clinica.exportacion.domain.exception.ExportacionException;
+import com.clinica.exportacion.domain.model.Artefacto;
+import com.clinica.exportacion.domain.model.ContenidoArtefacto;
+import com.clinica.exportacion.domain.port.out.ArtefactoStorePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Almacen de artefactos en disco local. Los archivos se escriben una sola vez mediante
+ * un archivo temporal y un rename atomico, y se leen por tramos con {@link FileChannel#transferTo}
+ * sin cargar el archivo completo en memoria.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exportacion.artefactos.tipo", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemArtefactoStoreAdapter implements ArtefactoStorePort {
+
+    private static final String SUFIJO_TEMPORAL = ".tmp";
+    private static final int TAMANO_BUFFER = 64 * 1024;
+
+    private final Path directorio;
+
+    public FileSystemArtefactoStoreAdapter(@Value("${exportacion.pdf.output-dir}") Path directorio) throws IOException {
+        this.directorio = Files.createDirectories(directorio.toAbsolutePath().normalize());
+    }
+
+    @Override
+    public Artefacto guardar(String clave, ContenidoArtefacto contenido) {
+        Path destino = resolver(clave);
+        Path temporal = destino.resolveSibling(destino.getFileName() + "." + System.nanoTime() + SUFIJO_TEMPORAL);
+        try {
+            try (OutputStream out = new BufferedOutputStream(
+                    Files.newOutputStream(temporal, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), TAMANO_BUFFER)) {
+                contenido.escribirEn(out);
+            }
+            Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return leerMetadatos(clave, destino);
+        } catch (IOException e) {
+            eliminarTemporal(temporal);
+            throw new UncheckedIOException("No se pudo guardar el artefacto " + clave, e);
+        } catch (RuntimeException e) {
+            eliminarTemporal(temporal);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Artefacto> buscar(String clave) {
+        Path archivo = resolver(clave);
+        try {
+            return Optional.of(leerMetadatos(clave, archivo));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el artefacto " + clave, e);
+        }
+    }
+
+    /**
+     * El sendfile del sistema operativo solo se usa cuando {@code destino} es un canal de archivo o socket.
+     * Las descargas HTTP llegan envueltas con {@code Channels.newChannel(OutputStream)}, asi que el JDK
+     * copia a traves de un buffer en memoria de usuario.
+     */
+    @Override
+    public void transferir(Artefacto artefacto, long desde, long longitud, WritableByteChannel destino) throws IOException {
+        try (FileChannel canal = FileChannel.open(resolver(artefacto.clave()), StandardOpenOption.READ)) {
+            long posicion = desde;
+            long restante = longitud;
+            while (restante > 0) {
+                long transferidos = canal.transferTo(posicion, restante, destino);
+                if (transferidos <= 0) {
+                    break;
+                }
+                posicion += transferidos;
+                restante -= transferidos;
+            }
+        }
+    }
+
+    @Override
+    public int eliminarAnterioresA(Instant limite) {
+        int eliminados = 0;
+        try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio)) {
+            for (Path archivo : archivos) {
+                try {
+                    if (Files.isRegularFile(archivo)
+                            && Files.getLastModifiedTime(archivo).toInstant().isBefore(limite)
+                            && Files.deleteIfExists(archivo)) {
+                        eliminados++;
+                    }
+                } catch (IOException e) {
+                    log.warn("No se pudo eliminar el artefacto {}: {}", archivo.getFileName(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo recorrer el directorio de artefactos", e);
+        }
+        return eliminados;
+    }
+
+    private static void eliminarTemporal(Path temporal) {
+        try {
+            Files.deleteIfExists(temporal);
+        } catch (IOException ignored) {
+            // el temporal huerfano se limpia en la siguiente depuracion
+        }
+    }
+
+    private Path resolver(String clave) {
+        Path archivo = directorio.resolve(clave).normalize();
+        if (!archivo.getParent().equals(directorio)) {
+            throw new ExportacionException("Clave de artefacto invalida: " + clave);
+        }
+        return archivo;
+    }
+
+    private static Artefacto leerMetadatos(String clave, Path archivo) throws IOException {
+        BasicFileAttributes atributos = Files.readAttributes(archivo, BasicFileAttributes.class);
+        Instant modificado = atributos.lastModifiedTime().toInstant();
+        String etag = "\"" + Long.toHexString(atributos.size()) + "-" + Long.toHexString(modificado.toEpochMilli()) + "\"";
+        return new Artefacto(clave, atributos.size(), etag, modificado);
+    }
+}
@@ -0,0 +1,31 @@
+package com.clinica.exportacion.infrastructure.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExportacionRabbitConfig {
+
+    public static final String ROUTING_HISTORIA_ANULADA = "historia.historia-clinica.anulada";
+
+    /**
+     * Cola exclusiva por instancia: la cache de PDFs es local a cada instancia y todas deben
+     * recibir la anulacion, no solo una.
+     */
+    @Bean
+    public Queue exportacionPdfCacheQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding bindingHistoriaAnulada(Queue exportacionPdfCacheQueue, TopicExchange clinicaEventsExchange) {
+        return BindingBuilder.bind(exportacionPdfCacheQueue)
+                .to(clinicaEventsExchange)
+                .with(ROUTING_HISTORIA_ANULADA);
+    }
+}
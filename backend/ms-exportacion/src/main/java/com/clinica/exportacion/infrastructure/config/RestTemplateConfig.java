@@ -1,14 +1,89 @@
 package com.clinica.exportacion.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * Cliente HTTP hacia ms-historia-clinica con pool de conexiones persistentes, timeouts y
+ * descompresion gzip (Apache HttpClient la negocia por defecto). El RestTemplate se construye
+ * con {@link RestTemplateBuilder} para registrar la latencia por llamada en http.client.requests.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager historiaClinicaConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${exportacion.historia-clinica.http.max-conexiones:50}") int maxConexiones,
+            @Value("${exportacion.historia-clinica.http.max-conexiones-por-ruta:20}") int maxConexionesPorRuta,
+            @Value("${exportacion.historia-clinica.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${exportacion.historia-clinica.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${exportacion.historia-clinica.http.ttl-conexion:5m}") Duration ttlConexion) {
+        PoolingHttpClientConnectionManager connectionManager = crearConnectionManager(
+                maxConexiones, maxConexionesPorRuta, connectTimeout, readTimeout, ttlConexion);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "historia-clinica")
+                .bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient historiaClinicaHttpClient(
+            PoolingHttpClientConnectionManager historiaClinicaConnectionManager,
+            @Value("${exportacion.historia-clinica.http.pool-timeout:1s}") Duration poolTimeout,
+            @Value("${exportacion.historia-clinica.http.idle-timeout:30s}") Duration idleTimeout) {
+        return crearHttpClient(historiaClinicaConnectionManager, poolTimeout, idleTimeout);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient historiaClinicaHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(historiaClinicaHttpClient))
+                .build();
+    }
+
+    static PoolingHttpClientConnectionManager crearConnectionManager(int maxConexiones, int maxConexionesPorRuta,
+                                                                     Duration connectTimeout, Duration readTimeout,
+                                                                     Duration ttlConexion) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConexiones)
+                .setMaxConnPerRoute(maxConexionesPorRuta)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(ttlConexion))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    static CloseableHttpClient crearHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                               Duration poolTimeout, Duration idleTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
     }
 }
@@ -0,0 +1,12 @@
+-- export_jobs actua como cola durable: los workers reclaman jobs PENDIENTE con FOR UPDATE SKIP LOCKED
+ALTER TABLE export_jobs
+    ADD COLUMN intentos           INT       NOT NULL DEFAULT 0,
+    ADD COLUMN proximo_intento_at TIMESTAMP NOT NULL DEFAULT now(),
+    ADD COLUMN iniciado_at        TIMESTAMP;
+
+-- Los jobs creados antes de la cola quedaron en PROCESANDO dentro de la peticion HTTP
+UPDATE export_jobs SET estado = 'ERROR', error_mensaje = 'Interrumpido por migracion', completed_at = now()
+WHERE estado = 'PROCESANDO';
+
+CREATE INDEX idx_export_jobs_cola ON export_jobs(proximo_intento_at, created_at) WHERE estado = 'PENDIENTE';
+CREATE INDEX idx_export_jobs_procesando ON export_jobs(iniciado_at) WHERE estado = 'PROCESANDO';
@@ -0,0 +1,15 @@
+-- Exportaciones en lote: un job agrupa varias historias en un ZIP y no referencia una historia unica
+ALTER TABLE export_jobs
+    ALTER COLUMN historia_clinica_id DROP NOT NULL,
+    ADD COLUMN tipo                VARCHAR(20) NOT NULL DEFAULT 'INDIVIDUAL',
+    ADD COLUMN filtro_historia_ids UUID[],
+    ADD COLUMN filtro_paciente_id  UUID,
+    ADD COLUMN filtro_desde        DATE,
+    ADD COLUMN filtro_hasta        DATE,
+    ADD COLUMN total_items         INT,
+    ADD COLUMN items_procesados    INT         NOT NULL DEFAULT 0,
+    ADD COLUMN items_fallidos      INT         NOT NULL DEFAULT 0;
+
+ALTER TABLE export_jobs
+    ADD CONSTRAINT chk_export_jobs_historia
+        CHECK (tipo = 'LOTE' OR historia_clinica_id IS NOT NULL);
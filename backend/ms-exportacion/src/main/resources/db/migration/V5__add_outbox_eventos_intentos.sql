@@ -0,0 +1,9 @@
+-- Un evento ilegible suma un intento en vez de bloquear el lote; al llegar a
+-- clinica.outbox.relay.max-intentos OutboxRelay deja de tomarlo y queda para revision manual
+ALTER TABLE outbox_eventos
+    ADD COLUMN intentos     INT  NOT NULL DEFAULT 0,
+    ADD COLUMN ultimo_error TEXT;
+
+-- El relay filtra por intentos y recorre en orden de id: la condicion se evalua en el indice
+-- sin visitar la tabla por cada fila ya descartada
+CREATE INDEX idx_outbox_eventos_pendientes ON outbox_eventos (id) INCLUDE (intentos);
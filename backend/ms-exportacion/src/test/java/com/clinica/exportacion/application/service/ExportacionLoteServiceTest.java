@@ -0,0 +1,332 @@
+package com.clinica.exportacion.application.service;
+
+import com.clinica.exportacion.domain.exception.ExportacionException;
+import com.clinica.exportacion.domain.exception.ExportacionSaturadaException;
+import com.clinica.exportacion.domain.model.*;
+import com.clinica.exportacion.domain.port.in.GenerarExportacionLoteUseCase;
+import com.clinica.exportacion.domain.port.out.ArtefactoStorePort;
+import com.clinica.exportacion.domain.port.out.CredencialServicioPort;
+import com.clinica.exportacion.domain.port.out.ExportJobColaPort;
+import com.clinica.exportacion.domain.port.out.ExportJobLoteRepositoryPort;
+import com.clinica.exportacion.domain.port.out.ExportacionEventPublisherPort;
+import com.clinica.exportacion.domain.port.out.HistoriaClinicaLoteClientPort;
+import com.clinica.exportacion.domain.port.out.PdfGeneratorPort;
+import com.clinica.exportacion.domain.port.out.PdfRenderCachePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportacionLoteServiceTest {
+
+    @Mock
+    private ExportJobLoteRepositoryPort exportJobLoteRepository;
+
+    @Mock
+    private ExportJobColaPort exportJobCola;
+
+    @Mock
+    private HistoriaClinicaLoteClientPort historiaClinicaLoteClient;
+
+    @Mock
+    private PdfGeneratorPort pdfGenerator;
+
+    @Mock
+    private PdfRenderCachePort pdfRenderCache;
+
+    @Mock
+    private ArtefactoStorePort artefactoStore;
+
+    @Mock
+    private CredencialServicioPort credencialServicio;
+
+    @Mock
+    private ExportacionEventPublisherPort eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ExportacionLoteService exportacionLoteService;
+
+    private final UUID obstetraId = UUID.randomUUID();
+    private final ByteArrayOutputStream zipGenerado = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        exportacionLoteService = new ExportacionLoteService(exportJobLoteRepository, exportJobCola,
+                historiaClinicaLoteClient, pdfGenerator, pdfRenderCache, artefactoStore, credencialServicio,
+                eventPublisher, transactionTemplate, 2, 2, 5);
+    }
+
+    @Test
+    @DisplayName("Debe encolar un lote PENDIENTE con formato ZIP")
+    void debeEncolarLote() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(exportJobCola.saturada()).thenReturn(false);
+        when(exportJobLoteRepository.encolar(any(ExportJob.class), any(FiltroLote.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        ExportJob result = exportacionLoteService.generarLote(
+                new GenerarExportacionLoteUseCase.Command(obstetraId, ids, null, null, null));
+
+        assertEquals(TipoExportacion.LOTE, result.getTipo());
+        assertEquals(FormatoExportacion.ZIP, result.getFormato());
+        assertEquals(EstadoExportacion.PENDIENTE, result.getEstado());
+        verify(exportJobLoteRepository).encolar(any(ExportJob.class), eq(new FiltroLote(ids, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un lote sin historias ni filtro")
+    void debeRechazarLoteSinCriterio() {
+        assertThrows(ExportacionException.class, () -> exportacionLoteService.generarLote(
+                new GenerarExportacionLoteUseCase.Command(obstetraId, List.of(), null, null, null)));
+        verifyNoInteractions(exportJobLoteRepository);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un lote que supera el maximo de historias")
+    void debeRechazarLoteExcesivo() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertThrows(ExportacionException.class, () -> exportacionLoteService.generarLote(
+                new GenerarExportacionLoteUseCase.Command(obstetraId, ids, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el lote cuando la cola esta saturada")
+    void debeRechazarLoteSiColaSaturada() {
+        when(exportJobCola.saturada()).thenReturn(true);
+
+        assertThrows(ExportacionSaturadaException.class, () -> exportacionLoteService.generarLote(
+                new GenerarExportacionLoteUseCase.Command(obstetraId, null, UUID.randomUUID(), null, null)));
+        verify(exportJobLoteRepository, never()).encolar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe generar un ZIP con un PDF por historia, usando la cache y registrando el progreso")
+    void debeGenerarZipDelLote() throws IOException {
+        ExportJob job = crearLote();
+        UUID cacheada = UUID.randomUUID();
+        UUID nueva = UUID.randomUUID();
+        UUID otra = UUID.randomUUID();
+        prepararProcesamiento(job, new FiltroLote(List.of(cacheada, nueva, otra), null, null, null));
+
+        when(pdfRenderCache.buscar(cacheada, 1, obstetraId)).thenReturn(Optional.of("pdf-cacheado".getBytes()));
+        when(pdfRenderCache.buscar(nueva, 1, obstetraId)).thenReturn(Optional.empty());
+        DatosHistoriaClinica datosCacheada = crearDatos(cacheada, "FINALIZADA");
+        DatosHistoriaClinica datosNueva = crearDatos(nueva, "FINALIZADA");
+        DatosHistoriaClinica datosOtra = crearDatos(otra, "BORRADOR");
+        when(historiaClinicaLoteClient.obtenerCompletas(List.of(cacheada, nueva), "service-token"))
+                .thenReturn(List.of(datosCacheada, datosNueva));
+        when(historiaClinicaLoteClient.obtenerCompletas(List.of(otra), "service-token")).thenReturn(List.of(datosOtra));
+        when(pdfGenerator.generar(datosNueva)).thenReturn("pdf-nueva".getBytes());
+        when(pdfGenerator.generar(datosOtra)).thenReturn("pdf-otra".getBytes());
+
+        exportacionLoteService.procesarLote(job);
+
+        Map<String, String> entradas = leerZip();
+        assertEquals(List.of(
+                "historia-clinica-" + cacheada + ".pdf",
+                "historia-clinica-" + nueva + ".pdf",
+                "historia-clinica-" + otra + ".pdf"), new ArrayList<>(entradas.keySet()));
+        assertEquals("pdf-cacheado", entradas.get("historia-clinica-" + cacheada + ".pdf"));
+
+        assertEquals(EstadoExportacion.COMPLETADO, job.getEstado());
+        assertEquals("export-" + job.getId() + ".zip", job.getArchivoUrl());
+        assertEquals(new ProgresoLote(3, 3, 0), job.getProgreso());
+        verify(exportJobLoteRepository).actualizarProgreso(job, new ProgresoLote(3, 2, 0));
+        verify(exportJobLoteRepository).completar(job);
+        verify(pdfGenerator, never()).generar(datosCacheada);
+        verify(pdfRenderCache).guardar(nueva, 1, obstetraId, "pdf-nueva".getBytes());
+        verify(pdfRenderCache).invalidar(otra);
+        verify(pdfRenderCache, never()).buscar(eq(otra), anyInt(), any());
+        verify(pdfRenderCache, never()).guardar(eq(otra), anyInt(), any(), any(byte[].class));
+        verify(eventPublisher).publish(any());
+    }
+
+    @Test
+    @DisplayName("Debe completar el lote registrando en errores.txt las historias que fallan")
+    void debeRegistrarHistoriasFallidas() throws IOException {
+        ExportJob job = crearLote();
+        UUID existente = UUID.randomUUID();
+        UUID inexistente = UUID.randomUUID();
+        prepararProcesamiento(job, new FiltroLote(List.of(existente, inexistente), null, null, null));
+
+        DatosHistoriaClinica datos = crearDatos(existente, "BORRADOR");
+        when(historiaClinicaLoteClient.obtenerCompletas(anyList(), eq("service-token"))).thenReturn(List.of(datos));
+        when(pdfGenerator.generar(datos)).thenReturn("pdf".getBytes());
+
+        exportacionLoteService.procesarLote(job);
+
+        Map<String, String> entradas = leerZip();
+        assertTrue(entradas.containsKey("historia-clinica-" + existente + ".pdf"));
+        assertTrue(entradas.get("errores.txt").contains(inexistente.toString()));
+        assertEquals(EstadoExportacion.COMPLETADO, job.getEstado());
+        assertEquals(new ProgresoLote(2, 1, 1), job.getProgreso());
+    }
+
+    @Test
+    @DisplayName("Debe resolver el filtro por paciente y fechas contra historia clinica")
+    void debeResolverFiltroPorPaciente() throws IOException {
+        ExportJob job = crearLote();
+        UUID pacienteId = UUID.randomUUID();
+        UUID historiaId = UUID.randomUUID();
+        LocalDate desde = LocalDate.of(2024, 1, 1);
+        LocalDate hasta = LocalDate.of(2024, 6, 30);
+        prepararProcesamiento(job, new FiltroLote(null, pacienteId, desde, hasta));
+
+        when(historiaClinicaLoteClient.listarIds(pacienteId, desde, hasta, "service-token"))
+                .thenReturn(List.of(historiaId));
+        when(historiaClinicaLoteClient.obtenerCompletas(List.of(historiaId), "service-token"))
+                .thenReturn(List.of(crearDatos(historiaId, "FINALIZADA")));
+        when(pdfRenderCache.buscar(historiaId, 1, obstetraId)).thenReturn(Optional.of("pdf".getBytes()));
+
+        exportacionLoteService.procesarLote(job);
+
+        assertEquals(List.of("historia-clinica-" + historiaId + ".pdf"), new ArrayList<>(leerZip().keySet()));
+        assertEquals(EstadoExportacion.COMPLETADO, job.getEstado());
+    }
+
+    @Test
+    @DisplayName("Debe marcar ERROR sin reintentar cuando el filtro no selecciona historias")
+    void debeMarcarErrorSiFiltroVacio() {
+        ExportJob job = crearLote();
+        UUID pacienteId = UUID.randomUUID();
+        when(credencialServicio.tokenPara(obstetraId)).thenReturn("service-token");
+        when(exportJobLoteRepository.buscarFiltro(job.getId()))
+                .thenReturn(Optional.of(new FiltroLote(null, pacienteId, null, null)));
+        when(historiaClinicaLoteClient.listarIds(pacienteId, null, null, "service-token")).thenReturn(List.of());
+
+        exportacionLoteService.procesarLote(job);
+
+        assertEquals(EstadoExportacion.ERROR, job.getEstado());
+        verify(exportJobLoteRepository).completar(job);
+        verifyNoInteractions(artefactoStore, exportJobCola);
+    }
+
+    @Test
+    @DisplayName("Debe devolver el lote a la cola si ninguna historia pudo exportarse")
+    void debeLiberarLoteSiFallanTodas() throws IOException {
+        ExportJob job = crearLote();
+        UUID historiaId = UUID.randomUUID();
+        prepararProcesamiento(job, new FiltroLote(List.of(historiaId), null, null, null));
+        when(historiaClinicaLoteClient.obtenerCompletas(List.of(historiaId), "service-token"))
+                .thenThrow(new ExportacionException("historia clinica no disponible"));
+
+        exportacionLoteService.procesarLote(job);
+
+        verify(exportJobCola).liberarConError(eq(job), any());
+        verify(exportJobLoteRepository, never()).completar(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("No debe publicar el evento si el lote ya no estaba en proceso al completarlo")
+    void noDebePublicarSiElLoteFueRetomado() throws IOException {
+        ExportJob job = crearLote();
+        UUID historiaId = UUID.randomUUID();
+        prepararProcesamiento(job, new FiltroLote(List.of(historiaId), null, null, null));
+        DatosHistoriaClinica datos = crearDatos(historiaId, "BORRADOR");
+        when(historiaClinicaLoteClient.obtenerCompletas(List.of(historiaId), "service-token")).thenReturn(List.of(datos));
+        when(pdfGenerator.generar(datos)).thenReturn("pdf".getBytes());
+        when(exportJobLoteRepository.completar(job)).thenReturn(false);
+
+        exportacionLoteService.procesarLote(job);
+
+        verify(exportJobLoteRepository).completar(job);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Debe abandonar el lote sin completarlo ni liberarlo si otro worker lo retomo")
+    void debeAbandonarLoteSiPierdeElReclamo() throws IOException {
+        ExportJob job = crearLote();
+        UUID primera = UUID.randomUUID();
+        UUID segunda = UUID.randomUUID();
+        UUID tercera = UUID.randomUUID();
+        prepararProcesamiento(job, new FiltroLote(List.of(primera, segunda, tercera), null, null, null));
+        when(exportJobLoteRepository.actualizarProgreso(eq(job), any())).thenReturn(true, false);
+        DatosHistoriaClinica datos = crearDatos(primera, "BORRADOR");
+        when(historiaClinicaLoteClient.obtenerCompletas(anyList(), eq("service-token"))).thenReturn(List.of(datos));
+        when(pdfGenerator.generar(datos)).thenReturn("pdf".getBytes());
+
+        exportacionLoteService.procesarLote(job);
+
+        verify(historiaClinicaLoteClient).obtenerCompletas(List.of(primera, segunda), "service-token");
+        verify(historiaClinicaLoteClient, never()).obtenerCompletas(List.of(tercera), "service-token");
+        verify(exportJobLoteRepository, never()).completar(any());
+        verifyNoInteractions(exportJobCola, eventPublisher);
+    }
+
+    private void prepararProcesamiento(ExportJob job, FiltroLote filtro) throws IOException {
+        when(credencialServicio.tokenPara(obstetraId)).thenReturn("service-token");
+        when(exportJobLoteRepository.buscarFiltro(job.getId())).thenReturn(Optional.of(filtro));
+        when(artefactoStore.guardar(eq("export-" + job.getId() + ".zip"), any(ContenidoArtefacto.class)))
+                .thenAnswer(inv -> {
+                    inv.<ContenidoArtefacto>getArgument(1).escribirEn(zipGenerado);
+                    return new Artefacto(inv.getArgument(0), zipGenerado.size(), "\"z-1\"", Instant.now());
+                });
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(exportJobLoteRepository.actualizarProgreso(eq(job), any())).thenReturn(true);
+        lenient().when(exportJobLoteRepository.completar(job)).thenReturn(true);
+    }
+
+    private Map<String, String> leerZip() throws IOException {
+        Map<String, String> entradas = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipGenerado.toByteArray()))) {
+            ZipEntry entrada;
+            while ((entrada = zip.getNextEntry()) != null) {
+                entradas.put(entrada.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entradas;
+    }
+
+    private ExportJob crearLote() {
+        ExportJob job = ExportJob.crearLote(obstetraId);
+        job.marcarProcesando();
+        return job;
+    }
+
+    private DatosHistoriaClinica crearDatos(UUID id, String estado) {
+        return DatosHistoriaClinica.builder()
+                .id(id)
+                .version(1)
+                .estado(estado)
+                .pacienteNombre("Maria")
+                .pacienteApellido("Garcia")
+                .pacienteDni("12345678")
+                .secciones(List.of())
+                .eventos(List.of())
+                .medicamentos(List.of())
+                .build();
+    }
+}
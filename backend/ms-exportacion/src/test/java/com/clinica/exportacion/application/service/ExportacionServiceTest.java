@@ -1,12 +1,18 @@
 package com.clinica.exportacion.application.service;
 
 import com.clinica.exportacion.domain.exception.ExportacionException;
+import com.clinica.exportacion.domain.exception.ExportacionSaturadaException;
 import com.clinica.exportacion.domain.model.*;
 import com.clinica.exportacion.domain.port.in.GenerarExportacionUseCase;
+import com.clinica.exportacion.domain.port.out.ArtefactoStorePort;
+import com.clinica.exportacion.domain.port.out.CredencialServicioPort;
+import com.clinica.exportacion.domain.port.out.ExportJobColaPort;
+import com.clinica.exportacion.domain.port.out.ExportJobLoteRepositoryPort;
 import com.clinica.exportacion.domain.port.out.ExportJobRepositoryPort;
 import com.clinica.exportacion.domain.port.out.ExportacionEventPublisherPort;
 import com.clinica.exportacion.domain.port.out.HistoriaClinicaClientPort;
 import com.clinica.exportacion.domain.port.out.PdfGeneratorPort;
+import com.clinica.exportacion.domain.port.out.PdfRenderCachePort;
 import com.clinica.shared.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,14 +24,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +56,24 @@ class ExportacionServiceTest {
     @Mock
     private ExportacionEventPublisherPort eventPublisher;
 
+    @Mock
+    private ExportJobColaPort exportJobCola;
+
+    @Mock
+    private CredencialServicioPort credencialServicio;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ArtefactoStorePort artefactoStore;
+
+    @Mock
+    private PdfRenderCachePort pdfRenderCache;
+
+    @Mock
+    private ExportJobLoteRepositoryPort exportJobLoteRepository;
+
     @InjectMocks
     private ExportacionService exportacionService;
 
@@ -50,14 +81,9 @@ class ExportacionServiceTest {
     private final UUID historiaClinicaId = UUID.randomUUID();
 
     @Test
-    @DisplayName("Debe generar exportacion PDF exitosamente")
-    void debeGenerarExportacionExitosamente() {
-        DatosHistoriaClinica datos = crearDatosHistoria();
-        byte[] pdfBytes = "pdf-content".getBytes();
-
-        when(historiaClinicaClient.obtenerHistoriaCompleta(eq(historiaClinicaId), any()))
-                .thenReturn(datos);
-        when(pdfGenerator.generar(datos)).thenReturn(pdfBytes);
+    @DisplayName("Debe encolar la exportacion en estado PENDIENTE sin generar el PDF")
+    void debeEncolarExportacion() {
+        when(exportJobCola.saturada()).thenReturn(false);
         when(exportJobRepository.save(any(ExportJob.class))).thenAnswer(inv -> inv.getArgument(0));
 
         GenerarExportacionUseCase.Command command = new GenerarExportacionUseCase.Command(
@@ -66,24 +92,132 @@ class ExportacionServiceTest {
         ExportJob result = exportacionService.generar(command);
 
         assertNotNull(result);
-        assertEquals(EstadoExportacion.COMPLETADO, result.getEstado());
-        assertNotNull(result.getArchivoUrl());
-        verify(exportJobRepository, times(2)).save(any(ExportJob.class));
+        assertEquals(EstadoExportacion.PENDIENTE, result.getEstado());
+        verify(exportJobRepository).save(any(ExportJob.class));
+        verifyNoInteractions(historiaClinicaClient, pdfGenerator, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la exportacion cuando la cola esta saturada")
+    void debeRechazarSiColaSaturada() {
+        when(exportJobCola.saturada()).thenReturn(true);
+
+        GenerarExportacionUseCase.Command command = new GenerarExportacionUseCase.Command(
+                historiaClinicaId, obstetraId, FormatoExportacion.PDF, "test-token");
+
+        assertThrows(ExportacionSaturadaException.class, () -> exportacionService.generar(command));
+        verify(exportJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Debe procesar un job reclamado renderizando el PDF en streaming y marcarlo COMPLETADO")
+    void debeProcesarJobExitosamente() throws IOException {
+        ExportJob job = crearExportJob(EstadoExportacion.PROCESANDO);
+        DatosHistoriaClinica datos = crearDatosHistoria();
+        ByteArrayOutputStream artefacto = capturarArtefacto("export-" + job.getId() + ".pdf");
+
+        when(credencialServicio.tokenPara(obstetraId)).thenReturn("service-token");
+        when(historiaClinicaClient.obtenerHistoriaCompleta(historiaClinicaId, "service-token")).thenReturn(datos);
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(1).write("pdf-content".getBytes());
+            return null;
+        }).when(pdfGenerator).generar(eq(datos), any(OutputStream.class));
+        ejecutarTransacciones();
+        when(exportJobCola.completar(job)).thenReturn(true);
+
+        exportacionService.procesar(job);
+
+        assertEquals(EstadoExportacion.COMPLETADO, job.getEstado());
+        assertNotNull(job.getArchivoUrl());
+        assertEquals("pdf-content", artefacto.toString());
+        verify(pdfGenerator, never()).generar(any());
+        verify(pdfRenderCache).guardar(eq(historiaClinicaId), eq(1), eq(obstetraId), any(ContenidoArtefacto.class));
+        verify(exportJobCola).completar(job);
         verify(eventPublisher).publish(any());
+        verify(exportJobCola, never()).liberarConError(any(), any());
+    }
+
+    @Test
+    @DisplayName("No debe publicar el evento si el job ya no estaba en proceso al completarlo")
+    void noDebePublicarSiElJobFueRetomado() {
+        ExportJob job = crearExportJob(EstadoExportacion.PROCESANDO);
+        capturarArtefacto("export-" + job.getId() + ".pdf");
+
+        when(credencialServicio.tokenPara(obstetraId)).thenReturn("service-token");
+        when(historiaClinicaClient.obtenerHistoriaCompleta(historiaClinicaId, "service-token"))
+                .thenReturn(crearDatosHistoria());
+        ejecutarTransacciones();
+        when(exportJobCola.completar(job)).thenReturn(false);
+
+        exportacionService.procesar(job);
+
+        verify(exportJobCola).completar(job);
+        verifyNoInteractions(eventPublisher);
+        verify(exportJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Debe usar el PDF cacheado de la version vigente sin renderizarlo")
+    void debeUsarPdfCacheado() throws IOException {
+        ExportJob job = crearExportJob(EstadoExportacion.PROCESANDO);
+        DatosHistoriaClinica datos = DatosHistoriaClinica.builder()
+                .id(historiaClinicaId)
+                .version(2)
+                .estado("FINALIZADA")
+                .build();
+        ByteArrayOutputStream artefacto = capturarArtefacto("export-" + job.getId() + ".pdf");
+
+        when(credencialServicio.tokenPara(obstetraId)).thenReturn("service-token");
+        when(historiaClinicaClient.obtenerHistoriaCompleta(historiaClinicaId, "service-token")).thenReturn(datos);
+        when(pdfRenderCache.copiar(eq(historiaClinicaId), eq(2), eq(obstetraId), any())).thenAnswer(inv -> {
+            inv.<OutputStream>getArgument(3).write("pdf-cacheado".getBytes());
+            return true;
+        });
+
+        exportacionService.procesar(job);
+
+        assertEquals("pdf-cacheado", artefacto.toString());
+        verifyNoInteractions(pdfGenerator);
+        verify(pdfRenderCache, never()).guardar(any(), anyInt(), any(), any(ContenidoArtefacto.class));
     }
 
     @Test
-    @DisplayName("Debe marcar error cuando falla la generacion de PDF")
-    void debeMarcarErrorCuandoFallaGeneracion() {
+    @DisplayName("No debe cachear el PDF de una historia que no esta finalizada")
+    void noDebeCachearHistoriaNoFinalizada() throws IOException {
+        ExportJob job = crearExportJob(EstadoExportacion.PROCESANDO);
+        DatosHistoriaClinica datos = DatosHistoriaClinica.builder()
+                .id(historiaClinicaId)
+                .version(1)
+                .estado("BORRADOR")
+                .build();
+        capturarArtefacto("export-" + job.getId() + ".pdf");
+
+        when(credencialServicio.tokenPara(obstetraId)).thenReturn("service-token");
+        when(historiaClinicaClient.obtenerHistoriaCompleta(historiaClinicaId, "service-token")).thenReturn(datos);
+
+        exportacionService.procesar(job);
+
+        verify(pdfGenerator).generar(eq(datos), any(OutputStream.class));
+        verify(pdfRenderCache).invalidar(historiaClinicaId);
+        verify(pdfRenderCache, never()).copiar(any(), anyInt(), any(), any());
+        verify(pdfRenderCache, never()).guardar(any(), anyInt(), any(), any(ContenidoArtefacto.class));
+    }
+
+    @Test
+    @DisplayName("Debe devolver el job a la cola cuando falla la generacion de PDF")
+    void debeLiberarJobCuandoFallaGeneracion() {
+        ExportJob job = crearExportJob(EstadoExportacion.PROCESANDO);
+
+        when(credencialServicio.tokenPara(obstetraId)).thenReturn("service-token");
         when(historiaClinicaClient.obtenerHistoriaCompleta(eq(historiaClinicaId), any()))
                 .thenThrow(new RuntimeException("Error de conexion"));
-        when(exportJobRepository.save(any(ExportJob.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(exportJobCola.liberarConError(job, "Error de conexion")).thenReturn(true);
 
-        GenerarExportacionUseCase.Command command = new GenerarExportacionUseCase.Command(
-                historiaClinicaId, obstetraId, FormatoExportacion.PDF, "test-token");
+        exportacionService.procesar(job);
 
-        assertThrows(ExportacionException.class, () -> exportacionService.generar(command));
-        verify(exportJobRepository, times(2)).save(any(ExportJob.class));
+        verify(exportJobCola).liberarConError(job, "Error de conexion");
+        verify(exportJobRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher, transactionTemplate);
     }
 
     @Test
@@ -135,21 +269,68 @@ class ExportacionServiceTest {
     }
 
     @Test
-    @DisplayName("Debe descargar PDF de exportacion completada")
-    void debeDescargarPdf() {
+    @DisplayName("Debe descargar el PDF desde el almacen de artefactos sin regenerarlo")
+    void debeDescargarPdfDesdeAlmacen() {
+        ExportJob job = crearExportJob(EstadoExportacion.COMPLETADO);
+        Artefacto artefacto = new Artefacto(job.getArchivoUrl(), 11, "\"b-1\"", Instant.now());
+
+        when(exportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(artefactoStore.buscar(job.getArchivoUrl())).thenReturn(Optional.of(artefacto));
+
+        Artefacto result = exportacionService.descargar(job.getId(), obstetraId, "test-token");
+
+        assertEquals(artefacto, result);
+        verifyNoInteractions(historiaClinicaClient, pdfGenerator);
+    }
+
+    @Test
+    @DisplayName("Debe regenerar y guardar el PDF si el artefacto fue depurado")
+    void debeRegenerarPdfSiArtefactoNoExiste() throws IOException {
         ExportJob job = crearExportJob(EstadoExportacion.COMPLETADO);
         DatosHistoriaClinica datos = crearDatosHistoria();
-        byte[] pdfBytes = "pdf-content".getBytes();
+        ByteArrayOutputStream artefacto = capturarArtefacto(job.getArchivoUrl());
 
         when(exportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(artefactoStore.buscar(job.getArchivoUrl())).thenReturn(Optional.empty());
         when(historiaClinicaClient.obtenerHistoriaCompleta(eq(historiaClinicaId), any()))
                 .thenReturn(datos);
-        when(pdfGenerator.generar(datos)).thenReturn(pdfBytes);
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(1).write("pdf-content".getBytes());
+            return null;
+        }).when(pdfGenerator).generar(eq(datos), any(OutputStream.class));
 
-        byte[] result = exportacionService.descargar(job.getId(), obstetraId, "test-token");
+        Artefacto result = exportacionService.descargar(job.getId(), obstetraId, "test-token");
 
-        assertNotNull(result);
-        assertEquals(pdfBytes.length, result.length);
+        assertEquals("pdf-content".length(), result.tamano());
+        assertEquals("pdf-content", artefacto.toString());
+    }
+
+    @Test
+    @DisplayName("Debe informar el progreso al obtener una exportacion en lote")
+    void debeObtenerProgresoDeLote() {
+        ExportJob job = crearExportJob(EstadoExportacion.PROCESANDO);
+        ProgresoLote progreso = new ProgresoLote(10, 4, 1);
+        when(exportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(exportJobLoteRepository.buscarProgresos(List.of(job.getId())))
+                .thenReturn(Map.of(job.getId(), progreso));
+
+        ExportJob result = exportacionService.obtener(job.getId(), obstetraId);
+
+        assertEquals(TipoExportacion.LOTE, result.getTipo());
+        assertEquals(progreso, result.getProgreso());
+    }
+
+    @Test
+    @DisplayName("No debe regenerar un lote cuyo ZIP fue depurado")
+    void noDebeRegenerarLoteDepurado() {
+        ExportJob job = crearExportJob(EstadoExportacion.COMPLETADO);
+        job.aplicarProgreso(new ProgresoLote(2, 2, 0));
+        when(exportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(artefactoStore.buscar(job.getArchivoUrl())).thenReturn(Optional.empty());
+
+        assertThrows(ExportacionException.class,
+                () -> exportacionService.descargar(job.getId(), obstetraId, "test-token"));
+        verifyNoInteractions(historiaClinicaClient, pdfGenerator);
     }
 
     @Test
@@ -162,6 +343,18 @@ class ExportacionServiceTest {
                 () -> exportacionService.descargar(job.getId(), obstetraId, "test-token"));
     }
 
+    /**
+     * Simula el almacen de artefactos ejecutando el escritor sobre un buffer en memoria.
+     */
+    private ByteArrayOutputStream capturarArtefacto(String clave) {
+        ByteArrayOutputStream contenido = new ByteArrayOutputStream();
+        when(artefactoStore.guardar(eq(clave), any(ContenidoArtefacto.class))).thenAnswer(inv -> {
+            inv.<ContenidoArtefacto>getArgument(1).escribirEn(contenido);
+            return new Artefacto(clave, contenido.size(), "\"a-1\"", Instant.now());
+        });
+        return contenido;
+    }
+
     private ExportJob crearExportJob(EstadoExportacion estado) {
         return ExportJob.builder()
                 .id(UUID.randomUUID())
@@ -209,4 +402,9 @@ class ExportacionServiceTest {
                 ))
                 .build();
     }
+
+    private void ejecutarTransacciones() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
 }
@@ -0,0 +1,121 @@
+package com.clinica.exportacion.infrastructure.adapter.out.pdf;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.clinica.exportacion.domain.model.DatosHistoriaClinica;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mide el heap de una exportacion de una historia larga (muchas secciones EVOLUCION) renderizada a
+ * byte[] y luego escrita a disco, frente al render en streaming con buffer PDFBox acotado. No se
+ * ejecuta con los tests; lanzar manualmente:
+ * <pre>
+ * java -Xmx512m -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     com.clinica.exportacion.infrastructure.adapter.out.pdf.PdfGeneratorMemoryBenchmark [secciones] [repeticiones]
+ * </pre>
+ * Reporta el pico de heap (suma de picos de los pools tras un GC) y los bytes asignados por el hilo.
+ */
+class PdfGeneratorMemoryBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int secciones = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int repeticiones = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        DatosHistoriaClinica datos = historiaLarga(secciones);
+        OpenHtmlToPdfGeneratorAdapter sinLimite = new OpenHtmlToPdfGeneratorAdapter(templateEngine, DataSize.ofGigabytes(1), "", false);
+        OpenHtmlToPdfGeneratorAdapter acotado = new OpenHtmlToPdfGeneratorAdapter(templateEngine, DataSize.ofMegabytes(8), "", false);
+        Path destino = Files.createTempFile("pdf-benchmark", ".pdf");
+
+        System.out.printf("Historia con %d secciones, %d repeticiones, Xmx %d MB%n",
+                secciones, repeticiones, Runtime.getRuntime().maxMemory() / (1024 * 1024));
+
+        for (int i = 0; i < repeticiones; i++) {
+            medir("byte[] + Files.write", () -> Files.write(destino, sinLimite.generar(datos)));
+            medir("streaming sin limite", () -> {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(destino))) {
+                    sinLimite.generar(datos, out);
+                }
+            });
+            medir("streaming 8MB", () -> {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(destino))) {
+                    acotado.generar(datos, out);
+                }
+            });
+        }
+        System.out.printf("PDF generado: %d KB%n", Files.size(destino) / 1024);
+        Files.deleteIfExists(destino);
+    }
+
+    private static void medir(String nombre, Render render) throws Exception {
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(p -> p.getType() == MemoryType.HEAP)
+                .toList();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        System.gc();
+        long base = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long asignadosAntes = threads.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+
+        render.ejecutar();
+
+        long duracion = (System.nanoTime() - inicio) / 1_000_000;
+        long asignados = threads.getCurrentThreadAllocatedBytes() - asignadosAntes;
+        long pico = pools.stream().mapToLong(p -> p.getPeakUsage().getUsed()).sum();
+        System.out.printf("%-22s pico heap %5d MB (sobre base %4d MB), asignado %6d MB, %5d ms%n",
+                nombre, (pico - base) / (1024 * 1024), base / (1024 * 1024), asignados / (1024 * 1024), duracion);
+    }
+
+    private static DatosHistoriaClinica historiaLarga(int secciones) {
+        String parrafo = "Paciente refiere evolucion favorable, movimientos fetales presentes, sin perdidas ni "
+                + "contracciones. Altura uterina acorde a edad gestacional, LCF 140 lpm. Se indica control "
+                + "en una semana y ecografia obstetrica. ";
+        List<DatosHistoriaClinica.Seccion> lista = new ArrayList<>();
+        for (int i = 0; i < secciones; i++) {
+            lista.add(new DatosHistoriaClinica.Seccion("EVOLUCION", parrafo.repeat(12), i + 1));
+        }
+        return DatosHistoriaClinica.builder()
+                .id(UUID.randomUUID())
+                .version(1)
+                .estado("FINALIZADA")
+                .notasGenerales("Historia de prueba para medicion de memoria")
+                .createdAt(Instant.now())
+                .pacienteNombre("Maria")
+                .pacienteApellido("Garcia")
+                .pacienteDni("12345678")
+                .secciones(lista)
+                .eventos(List.of())
+                .medicamentos(List.of())
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Render {
+        void ejecutar() throws Exception;
+    }
+}
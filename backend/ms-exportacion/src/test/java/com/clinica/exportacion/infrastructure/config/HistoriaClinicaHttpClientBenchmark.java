@@ -0,0 +1,135 @@
+package com.clinica.exportacion.infrastructure.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compara el RestTemplate sin pool (HttpURLConnection) con el cliente pooled de
+ * {@link RestTemplateConfig} contra un servidor local que imita la respuesta de
+ * historia completa. No se ejecuta con los tests; lanzar manualmente:
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     com.clinica.exportacion.infrastructure.config.HistoriaClinicaHttpClientBenchmark [peticiones] [hilos]
+ * </pre>
+ * Reporta throughput, p50/p99 y el estado final del pool.
+ */
+class HistoriaClinicaHttpClientBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int peticiones = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int hilos = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        // fuera de Spring Boot logback queda en DEBUG y el log de HttpClient domina la medicion
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        byte[] json = historiaJson();
+        byte[] jsonGzip = gzip(json);
+
+        // sin TCP_NODELAY el servidor JDK agrega ~40 ms por delayed ACK y oculta la diferencia
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.createContext("/api/historias-clinicas", exchange -> {
+            boolean aceptaGzip = String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding")).contains("gzip");
+            byte[] cuerpo = aceptaGzip ? jsonGzip : json;
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (aceptaGzip) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, cuerpo.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(cuerpo);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/historias-clinicas/1/completa";
+
+        System.out.printf("Respuesta: %d bytes (%d con gzip), %d peticiones, %d hilos%n",
+                json.length, jsonGzip.length, peticiones, hilos);
+
+        RestTemplate simple = new RestTemplate();
+        ejecutar("RestTemplate sin pool", simple, url, peticiones / 5, hilos);
+        ejecutar("RestTemplate sin pool", simple, url, peticiones, hilos);
+
+        PoolingHttpClientConnectionManager connectionManager = RestTemplateConfig.crearConnectionManager(
+                50, 20, Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofMinutes(5));
+        try (CloseableHttpClient httpClient = RestTemplateConfig.crearHttpClient(
+                connectionManager, Duration.ofSeconds(1), Duration.ofSeconds(30))) {
+            RestTemplate pooled = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+            ejecutar("RestTemplate pooled", pooled, url, peticiones / 5, hilos);
+            ejecutar("RestTemplate pooled", pooled, url, peticiones, hilos);
+            System.out.printf("Conexiones en pool: %s%n", connectionManager.getTotalStats());
+        } finally {
+            connectionManager.close();
+            server.stop(0);
+        }
+    }
+
+    private static void ejecutar(String nombre, RestTemplate restTemplate, String url,
+                                 int peticiones, int hilos) throws Exception {
+        long[] latencias = new long[peticiones];
+        AtomicInteger siguiente = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        long inicio = System.nanoTime();
+        List<Future<?>> tareas = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            tareas.add(executor.submit(() -> {
+                int i;
+                while ((i = siguiente.getAndIncrement()) < peticiones) {
+                    long t0 = System.nanoTime();
+                    restTemplate.getForObject(url, String.class);
+                    latencias[i] = System.nanoTime() - t0;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> tarea : tareas) {
+            tarea.get();
+        }
+        long total = System.nanoTime() - inicio;
+        executor.shutdown();
+
+        Arrays.sort(latencias);
+        System.out.printf("%-24s %7d req  %9.0f req/s  p50=%6.2f ms  p99=%6.2f ms%n",
+                nombre, peticiones, peticiones / (total / 1e9),
+                latencias[peticiones / 2] / 1e6, latencias[(int) (peticiones * 0.99)] / 1e6);
+    }
+
+    private static byte[] historiaJson() {
+        StringBuilder sb = new StringBuilder("{\"id\":\"1\",\"version\":1,\"estado\":\"FINALIZADA\",\"secciones\":[");
+        for (int i = 0; i < 40; i++) {
+            sb.append(i == 0 ? "" : ",")
+                    .append("{\"tipo\":\"SECCION_").append(i).append("\",\"orden\":").append(i)
+                    .append(",\"contenido\":\"").append("Control prenatal sin alteraciones. ".repeat(12)).append("\"}");
+        }
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] datos) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(datos);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,11 +1,15 @@
 package com.clinica.historiaclinica.application.service;
 
+import com.clinica.historiaclinica.domain.exception.HistoriaClinicaException;
 import com.clinica.historiaclinica.domain.exception.HistoriaNotFoundException;
 import com.clinica.historiaclinica.domain.exception.PacienteNotFoundException;
 import com.clinica.historiaclinica.domain.model.*;
 import com.clinica.historiaclinica.domain.port.in.*;
+import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaEscrituraPort;
 import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaEventPublisherPort;
+import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaQueryPort;
 import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaRepositoryPort;
+import com.clinica.historiaclinica.domain.port.out.HistoriaCompletaQueryPort;
 import com.clinica.historiaclinica.domain.port.out.PacienteRepositoryPort;
 import com.clinica.shared.domain.event.AuditableEvent;
 import lombok.RequiredArgsConstructor;
@@ -16,16 +20,24 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class HistoriaClinicaService implements CrearHistoriaClinicaUseCase, ObtenerHistoriaClinicaUseCase,
-        ActualizarHistoriaClinicaUseCase, CambiarEstadoHistoriaUseCase, ListarHistoriasClinicasUseCase {
+        ActualizarHistoriaClinicaUseCase, CambiarEstadoHistoriaUseCase, ListarHistoriasClinicasUseCase,
+        ObtenerHistoriasCompletasUseCase, ListarResumenesHistoriaUseCase {
 
     private final HistoriaClinicaRepositoryPort historiaRepository;
     private final PacienteRepositoryPort pacienteRepository;
     private final HistoriaClinicaEventPublisherPort eventPublisher;
+    private final HistoriaCompletaQueryPort historiaCompletaQuery;
+    private final HistoriaClinicaQueryPort historiaQuery;
+    private final HistoriaClinicaEscrituraPort historiaEscritura;
 
     @Override
     @Transactional
@@ -71,7 +83,7 @@ public class HistoriaClinicaService implements CrearHistoriaClinicaUseCase, Obte
     @Override
     @Transactional(readOnly = true)
     public HistoriaClinica obtenerPorId(UUID id, UUID obstetraId) {
-        HistoriaClinica historia = historiaRepository.findById(id)
+        HistoriaClinica historia = historiaQuery.findCompletaById(id)
                 .orElseThrow(() -> new HistoriaNotFoundException(id));
 
         historia.validarOwnership(obstetraId);
@@ -81,75 +93,76 @@ public class HistoriaClinicaService implements CrearHistoriaClinicaUseCase, Obte
     @Override
     @Transactional
     public HistoriaClinica actualizar(ActualizarHistoriaCommand command) {
-        HistoriaClinica historia = historiaRepository.findById(command.id())
+        HistoriaClinica historia = historiaQuery.findCompletaById(command.id())
                 .orElseThrow(() -> new HistoriaNotFoundException(command.id()));
 
         historia.validarOwnership(command.obstetraId());
         historia.validarEditable();
 
-        // Construir secciones
-        List<SeccionClinica> secciones = command.secciones() != null
-                ? command.secciones().stream()
+        Instant ahora = Instant.now();
+
+        // Cada coleccion enviada se compara con la almacenada; las no enviadas quedan igual
+        CambiosHijos<SeccionClinica> secciones = command.secciones() != null
+                ? CambiosHijos.calcular(historia.getSecciones(), command.secciones().stream()
                     .map(s -> SeccionClinica.builder()
-                            .id(UUID.randomUUID())
+                            .id(s.id())
                             .historiaClinicaId(historia.getId())
                             .tipo(s.tipo())
                             .contenido(s.contenido())
                             .origen(s.origen())
                             .orden(s.orden())
-                            .createdAt(Instant.now())
-                            .updatedAt(Instant.now())
+                            .createdAt(ahora)
+                            .updatedAt(ahora)
                             .build())
-                    .toList()
-                : historia.getSecciones();
+                    .toList())
+                : CambiosHijos.sinCambios(historia.getSecciones());
 
-        // Construir eventos
-        List<EventoObstetrico> eventos = command.eventos() != null
-                ? command.eventos().stream()
+        CambiosHijos<EventoObstetrico> eventos = command.eventos() != null
+                ? CambiosHijos.calcular(historia.getEventos(), command.eventos().stream()
                     .map(e -> EventoObstetrico.builder()
-                            .id(UUID.randomUUID())
+                            .id(e.id())
                             .historiaClinicaId(historia.getId())
                             .tipo(e.tipo())
                             .fecha(e.fecha())
                             .semanaGestacional(e.semanaGestacional())
                             .observaciones(e.observaciones())
-                            .createdAt(Instant.now())
+                            .createdAt(ahora)
                             .build())
-                    .toList()
-                : historia.getEventos();
+                    .toList())
+                : CambiosHijos.sinCambios(historia.getEventos());
 
-        // Construir medicamentos
-        List<Medicamento> medicamentos = command.medicamentos() != null
-                ? command.medicamentos().stream()
+        CambiosHijos<Medicamento> medicamentos = command.medicamentos() != null
+                ? CambiosHijos.calcular(historia.getMedicamentos(), command.medicamentos().stream()
                     .map(m -> Medicamento.builder()
-                            .id(UUID.randomUUID())
+                            .id(m.id())
                             .historiaClinicaId(historia.getId())
                             .nombre(m.nombre())
                             .dosis(m.dosis())
                             .via(m.via())
                             .frecuencia(m.frecuencia())
                             .duracion(m.duracion())
-                            .createdAt(Instant.now())
+                            .createdAt(ahora)
                             .build())
-                    .toList()
-                : historia.getMedicamentos();
+                    .toList())
+                : CambiosHijos.sinCambios(historia.getMedicamentos());
 
-        HistoriaClinica updated = HistoriaClinica.builder()
+        HistoriaClinica saved = HistoriaClinica.builder()
                 .id(historia.getId())
                 .pacienteId(historia.getPacienteId())
                 .version(historia.getVersion())
                 .estado(historia.getEstado())
                 .obstetraId(historia.getObstetraId())
                 .notasGenerales(command.notasGenerales() != null ? command.notasGenerales() : historia.getNotasGenerales())
-                .secciones(secciones)
-                .eventos(eventos)
-                .medicamentos(medicamentos)
+                .secciones(secciones.resultado())
+                .eventos(eventos.resultado())
+                .medicamentos(medicamentos.resultado())
                 .createdAt(historia.getCreatedAt())
-                .updatedAt(Instant.now())
-                .jpaVersion(historia.getJpaVersion())
+                .updatedAt(ahora)
+                .jpaVersion(historia.getJpaVersion() + 1)
                 .build();
 
-        HistoriaClinica saved = historiaRepository.save(updated);
+        historiaEscritura.actualizar(saved, historia.getJpaVersion(),
+                new CambiosHistoria(secciones, eventos, medicamentos));
 
         eventPublisher.publish(AuditableEvent.create(
                 "historia.historia-clinica.actualizada",
@@ -250,13 +263,14 @@ public class HistoriaClinicaService implements CrearHistoriaClinicaUseCase, Obte
 
     @Override
     @Transactional(readOnly = true)
-    public Page<HistoriaClinica> listarPorObstetra(UUID obstetraId, Pageable pageable) {
-        return historiaRepository.findByObstetraId(obstetraId, pageable);
+    public Page<HistoriaClinica> listarPorObstetra(UUID obstetraId, Pageable pageable, AlcanceCarga alcance) {
+        return historiaQuery.findByObstetraId(obstetraId, pageable, alcance);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<HistoriaClinica> listarPorPaciente(UUID pacienteId, UUID obstetraId, Pageable pageable) {
+    public Page<HistoriaClinica> listarPorPaciente(UUID pacienteId, UUID obstetraId, Pageable pageable,
+                                                   AlcanceCarga alcance) {
         // Validar que el paciente pertenece al obstetra
         Paciente paciente = pacienteRepository.findById(pacienteId)
                 .orElseThrow(() -> new PacienteNotFoundException(pacienteId));
@@ -265,6 +279,31 @@ public class HistoriaClinicaService implements CrearHistoriaClinicaUseCase, Obte
             throw new PacienteNotFoundException(pacienteId);
         }
 
-        return historiaRepository.findByPacienteId(pacienteId, pageable);
+        return historiaQuery.findByPacienteId(pacienteId, pageable, alcance);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<HistoriaResumen> listarResumenes(UUID obstetraId, UUID pacienteId, Pageable pageable) {
+        return historiaQuery.findResumenes(obstetraId, pacienteId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HistoriaCompleta> obtenerCompletas(List<UUID> ids, UUID obstetraId) {
+        List<UUID> distintos = ids.stream().distinct().toList();
+        if (distintos.size() > MAX_HISTORIAS) {
+            throw new HistoriaClinicaException(
+                    "No se pueden solicitar mas de " + MAX_HISTORIAS + " historias clinicas a la vez");
+        }
+
+        Map<UUID, HistoriaCompleta> encontradas = historiaCompletaQuery.findCompletasByIds(distintos, obstetraId)
+                .stream()
+                .collect(Collectors.toMap(c -> c.historia().getId(), Function.identity()));
+
+        return distintos.stream()
+                .map(encontradas::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
@@ -3,11 +3,15 @@ package com.clinica.historiaclinica.application.service;
 import com.clinica.historiaclinica.domain.exception.PacienteNotFoundException;
 import com.clinica.historiaclinica.domain.exception.PacienteYaExisteException;
 import com.clinica.historiaclinica.domain.model.Paciente;
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
 import com.clinica.historiaclinica.domain.port.in.ActualizarPacienteUseCase;
 import com.clinica.historiaclinica.domain.port.in.CrearPacienteUseCase;
 import com.clinica.historiaclinica.domain.port.in.ListarPacientesUseCase;
 import com.clinica.historiaclinica.domain.port.in.ObtenerPacienteUseCase;
+import com.clinica.historiaclinica.domain.port.in.SugerirPacientesUseCase;
 import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaEventPublisherPort;
+import com.clinica.historiaclinica.domain.port.out.IndicePacientesPort;
+import com.clinica.historiaclinica.domain.port.out.PacienteBusquedaPort;
 import com.clinica.historiaclinica.domain.port.out.PacienteRepositoryPort;
 import com.clinica.shared.domain.event.AuditableEvent;
 import lombok.RequiredArgsConstructor;
@@ -17,14 +21,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class PacienteService implements CrearPacienteUseCase, ObtenerPacienteUseCase,
-        ListarPacientesUseCase, ActualizarPacienteUseCase {
+        ListarPacientesUseCase, ActualizarPacienteUseCase, SugerirPacientesUseCase {
 
     private final PacienteRepositoryPort pacienteRepository;
+    private final PacienteBusquedaPort pacienteBusqueda;
+    private final IndicePacientesPort indicePacientes;
     private final HistoriaClinicaEventPublisherPort eventPublisher;
 
     @Override
@@ -48,6 +55,7 @@ public class PacienteService implements CrearPacienteUseCase, ObtenerPacienteUse
                 .build();
 
         Paciente saved = pacienteRepository.save(paciente);
+        indicePacientes.registrar(saved);
 
         eventPublisher.publish(AuditableEvent.create(
                 "historia.paciente.creado",
@@ -87,7 +95,18 @@ public class PacienteService implements CrearPacienteUseCase, ObtenerPacienteUse
     @Override
     @Transactional(readOnly = true)
     public Page<Paciente> buscarPorNombreODni(UUID obstetraId, String termino, Pageable pageable) {
-        return pacienteRepository.searchByObstetraIdAndTerm(obstetraId, termino, pageable);
+        return pacienteBusqueda.buscar(obstetraId, termino, pageable);
+    }
+
+    @Override
+    public List<SugerenciaPaciente> sugerir(UUID obstetraId, String prefijo, int limite) {
+        return indicePacientes.sugerir(obstetraId, prefijo, limite);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void sincronizar(UUID pacienteId) {
+        pacienteRepository.findById(pacienteId).ifPresent(indicePacientes::registrar);
     }
 
     @Override
@@ -114,6 +133,7 @@ public class PacienteService implements CrearPacienteUseCase, ObtenerPacienteUse
                 .build();
 
         Paciente saved = pacienteRepository.save(updated);
+        indicePacientes.registrar(saved);
 
         eventPublisher.publish(AuditableEvent.create(
                 "historia.paciente.actualizado",
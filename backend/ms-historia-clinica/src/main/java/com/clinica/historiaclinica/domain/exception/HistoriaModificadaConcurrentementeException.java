@@ -0,0 +1,13 @@
+package com.clinica.historiaclinica.domain.exception;
+
+import com.clinica.shared.exception.ConflictException;
+
+import java.util.UUID;
+
+public class HistoriaModificadaConcurrentementeException extends ConflictException {
+
+    public HistoriaModificadaConcurrentementeException(UUID id) {
+        super(String.format("La historia clinica %s fue modificada por otro usuario; "
+                + "vuelva a cargarla e intente nuevamente", id));
+    }
+}
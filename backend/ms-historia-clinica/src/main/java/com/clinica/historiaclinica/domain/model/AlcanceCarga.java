@@ -0,0 +1,11 @@
+package com.clinica.historiaclinica.domain.model;
+
+/**
+ * Que parte del agregado HistoriaClinica se carga en una lectura.
+ */
+public enum AlcanceCarga {
+    /** Solo la fila de historias_clinicas; secciones, eventos y medicamentos quedan vacios. */
+    CABECERA,
+    /** La historia con secciones, eventos y medicamentos. */
+    COMPLETA
+}
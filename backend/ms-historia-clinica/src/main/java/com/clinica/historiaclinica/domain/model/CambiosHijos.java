@@ -0,0 +1,75 @@
+package com.clinica.historiaclinica.domain.model;
+
+import java.util.*;
+
+/**
+ * Diferencia entre una coleccion hija almacenada y la enviada en una actualizacion.
+ * {@code resultado} es la coleccion final en el orden enviado; los elementos sin cambios
+ * conservan su instancia, los modificados conservan id y createdAt y los nuevos reciben id.
+ */
+public record CambiosHijos<T extends HijoHistoria<T>>(
+        List<T> resultado,
+        List<T> insertados,
+        List<T> actualizados,
+        List<UUID> eliminados
+) {
+
+    public static <T extends HijoHistoria<T>> CambiosHijos<T> sinCambios(List<T> actuales) {
+        return new CambiosHijos<>(actuales, List.of(), List.of(), List.of());
+    }
+
+    /**
+     * Empareja cada elemento nuevo primero por id y, si no lo tiene o no existe, por
+     * {@link HijoHistoria#claveNatural()}. Cada elemento almacenado se empareja una sola vez;
+     * los que quedan sin pareja se eliminan.
+     */
+    public static <T extends HijoHistoria<T>> CambiosHijos<T> calcular(List<T> actuales, List<T> nuevos) {
+        Map<UUID, T> pendientes = new LinkedHashMap<>();
+        actuales.forEach(a -> pendientes.put(a.getId(), a));
+
+        List<T> parejas = new ArrayList<>(Collections.nCopies(nuevos.size(), null));
+        for (int i = 0; i < nuevos.size(); i++) {
+            UUID id = nuevos.get(i).getId();
+            if (id != null && pendientes.containsKey(id)) {
+                parejas.set(i, pendientes.remove(id));
+            }
+        }
+
+        Map<Object, Deque<T>> porClave = new HashMap<>();
+        pendientes.values().forEach(a -> porClave.computeIfAbsent(a.claveNatural(), k -> new ArrayDeque<>()).add(a));
+        for (int i = 0; i < nuevos.size(); i++) {
+            if (parejas.get(i) == null) {
+                Deque<T> candidatos = porClave.get(nuevos.get(i).claveNatural());
+                if (candidatos != null && !candidatos.isEmpty()) {
+                    T actual = candidatos.poll();
+                    pendientes.remove(actual.getId());
+                    parejas.set(i, actual);
+                }
+            }
+        }
+
+        List<T> resultado = new ArrayList<>(nuevos.size());
+        List<T> insertados = new ArrayList<>();
+        List<T> actualizados = new ArrayList<>();
+        for (int i = 0; i < nuevos.size(); i++) {
+            T nuevo = nuevos.get(i);
+            T actual = parejas.get(i);
+            if (actual == null) {
+                T insertado = nuevo.conIdentidad(UUID.randomUUID(), nuevo.getCreatedAt());
+                insertados.add(insertado);
+                resultado.add(insertado);
+            } else if (actual.mismoContenido(nuevo)) {
+                resultado.add(actual);
+            } else {
+                T actualizado = nuevo.conIdentidad(actual.getId(), actual.getCreatedAt());
+                actualizados.add(actualizado);
+                resultado.add(actualizado);
+            }
+        }
+        return new CambiosHijos<>(resultado, insertados, actualizados, new ArrayList<>(pendientes.keySet()));
+    }
+
+    public boolean vacio() {
+        return insertados.isEmpty() && actualizados.isEmpty() && eliminados.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.clinica.historiaclinica.domain.model;
+
+/**
+ * Cambios de las colecciones hijas de una historia clinica a persistir en una actualizacion.
+ */
+public record CambiosHistoria(
+        CambiosHijos<SeccionClinica> secciones,
+        CambiosHijos<EventoObstetrico> eventos,
+        CambiosHijos<Medicamento> medicamentos
+) {
+}
@@ -5,12 +5,14 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
 @Builder
 @AllArgsConstructor
-public class EventoObstetrico {
+public class EventoObstetrico implements HijoHistoria<EventoObstetrico> {
 
     private UUID id;
     private UUID historiaClinicaId;
@@ -19,4 +21,22 @@ public class EventoObstetrico {
     private Integer semanaGestacional;
     private String observaciones;
     private Instant createdAt;
+
+    @Override
+    public Object claveNatural() {
+        return Arrays.asList(tipo, fecha);
+    }
+
+    @Override
+    public boolean mismoContenido(EventoObstetrico otro) {
+        return Objects.equals(tipo, otro.tipo)
+                && Objects.equals(fecha, otro.fecha)
+                && Objects.equals(semanaGestacional, otro.semanaGestacional)
+                && Objects.equals(observaciones, otro.observaciones);
+    }
+
+    @Override
+    public EventoObstetrico conIdentidad(UUID id, Instant createdAt) {
+        return new EventoObstetrico(id, historiaClinicaId, tipo, fecha, semanaGestacional, observaciones, createdAt);
+    }
 }
@@ -0,0 +1,27 @@
+package com.clinica.historiaclinica.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Elemento de una coleccion hija de HistoriaClinica que puede compararse con su version
+ * almacenada para persistir solo lo que cambio.
+ */
+public interface HijoHistoria<T extends HijoHistoria<T>> {
+
+    UUID getId();
+
+    Instant getCreatedAt();
+
+    /**
+     * Clave con la que se empareja con un elemento almacenado cuando el cliente no envia su id.
+     */
+    Object claveNatural();
+
+    boolean mismoContenido(T otro);
+
+    /**
+     * Copia con el mismo contenido y la identidad indicada.
+     */
+    T conIdentidad(UUID id, Instant createdAt);
+}
@@ -0,0 +1,10 @@
+package com.clinica.historiaclinica.domain.model;
+
+/**
+ * Historia clinica con sus secciones, eventos y medicamentos junto con su paciente.
+ */
+public record HistoriaCompleta(
+        HistoriaClinica historia,
+        Paciente paciente
+) {
+}
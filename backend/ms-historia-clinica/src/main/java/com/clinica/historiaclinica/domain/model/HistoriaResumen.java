@@ -0,0 +1,22 @@
+package com.clinica.historiaclinica.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Vista de una historia clinica para listados: sin contenido clinico, con los datos del
+ * paciente necesarios para identificarla y la cantidad de secciones.
+ */
+public record HistoriaResumen(
+        UUID id,
+        UUID pacienteId,
+        String pacienteDni,
+        String pacienteNombre,
+        String pacienteApellido,
+        int version,
+        EstadoHistoria estado,
+        int cantidadSecciones,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
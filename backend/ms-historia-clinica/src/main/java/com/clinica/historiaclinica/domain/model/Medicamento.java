@@ -5,12 +5,13 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.Instant;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
 @Builder
 @AllArgsConstructor
-public class Medicamento {
+public class Medicamento implements HijoHistoria<Medicamento> {
 
     private UUID id;
     private UUID historiaClinicaId;
@@ -20,4 +21,23 @@ public class Medicamento {
     private String frecuencia;
     private String duracion;
     private Instant createdAt;
+
+    @Override
+    public Object claveNatural() {
+        return nombre;
+    }
+
+    @Override
+    public boolean mismoContenido(Medicamento otro) {
+        return Objects.equals(nombre, otro.nombre)
+                && Objects.equals(dosis, otro.dosis)
+                && Objects.equals(via, otro.via)
+                && Objects.equals(frecuencia, otro.frecuencia)
+                && Objects.equals(duracion, otro.duracion);
+    }
+
+    @Override
+    public Medicamento conIdentidad(UUID id, Instant createdAt) {
+        return new Medicamento(id, historiaClinicaId, nombre, dosis, via, frecuencia, duracion, createdAt);
+    }
 }
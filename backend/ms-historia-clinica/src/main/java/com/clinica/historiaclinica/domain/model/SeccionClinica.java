@@ -5,12 +5,14 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
 @Builder
 @AllArgsConstructor
-public class SeccionClinica {
+public class SeccionClinica implements HijoHistoria<SeccionClinica> {
 
     private UUID id;
     private UUID historiaClinicaId;
@@ -20,4 +22,22 @@ public class SeccionClinica {
     private int orden;
     private Instant createdAt;
     private Instant updatedAt;
+
+    @Override
+    public Object claveNatural() {
+        return Arrays.asList(tipo, orden);
+    }
+
+    @Override
+    public boolean mismoContenido(SeccionClinica otro) {
+        return Objects.equals(tipo, otro.tipo)
+                && Objects.equals(contenido, otro.contenido)
+                && Objects.equals(origen, otro.origen)
+                && orden == otro.orden;
+    }
+
+    @Override
+    public SeccionClinica conIdentidad(UUID id, Instant createdAt) {
+        return new SeccionClinica(id, historiaClinicaId, tipo, contenido, origen, orden, createdAt, updatedAt);
+    }
 }
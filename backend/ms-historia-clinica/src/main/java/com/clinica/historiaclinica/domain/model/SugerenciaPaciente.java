@@ -0,0 +1,17 @@
+package com.clinica.historiaclinica.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Datos minimos de un paciente para el autocompletado.
+ */
+public record SugerenciaPaciente(
+        UUID id,
+        String dni,
+        String nombre,
+        String apellido
+) {
+    public static SugerenciaPaciente de(Paciente paciente) {
+        return new SugerenciaPaciente(paciente.getId(), paciente.getDni(), paciente.getNombre(), paciente.getApellido());
+    }
+}
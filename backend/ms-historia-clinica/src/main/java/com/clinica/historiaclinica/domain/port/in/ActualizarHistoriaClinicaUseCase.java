@@ -20,7 +20,12 @@ public interface ActualizarHistoriaClinicaUseCase {
     ) {
     }
 
+    /**
+     * En secciones, eventos y medicamentos {@code id} identifica un elemento ya guardado; si es nulo
+     * se empareja por tipo y orden (secciones), tipo y fecha (eventos) o nombre (medicamentos).
+     */
     record SeccionCommand(
+            UUID id,
             TipoSeccion tipo,
             String contenido,
             OrigenContenido origen,
@@ -29,6 +34,7 @@ public interface ActualizarHistoriaClinicaUseCase {
     }
 
     record EventoCommand(
+            UUID id,
             String tipo,
             Instant fecha,
             Integer semanaGestacional,
@@ -37,6 +43,7 @@ public interface ActualizarHistoriaClinicaUseCase {
     }
 
     record MedicamentoCommand(
+            UUID id,
             String nombre,
             String dosis,
             String via,
@@ -1,5 +1,6 @@
 package com.clinica.historiaclinica.domain.port.in;
 
+import com.clinica.historiaclinica.domain.model.AlcanceCarga;
 import com.clinica.historiaclinica.domain.model.HistoriaClinica;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,7 +9,10 @@ import java.util.UUID;
 
 public interface ListarHistoriasClinicasUseCase {
 
-    Page<HistoriaClinica> listarPorObstetra(UUID obstetraId, Pageable pageable);
+    /**
+     * Con {@link AlcanceCarga#CABECERA} las historias se devuelven sin secciones, eventos ni medicamentos.
+     */
+    Page<HistoriaClinica> listarPorObstetra(UUID obstetraId, Pageable pageable, AlcanceCarga alcance);
 
-    Page<HistoriaClinica> listarPorPaciente(UUID pacienteId, UUID obstetraId, Pageable pageable);
+    Page<HistoriaClinica> listarPorPaciente(UUID pacienteId, UUID obstetraId, Pageable pageable, AlcanceCarga alcance);
 }
@@ -0,0 +1,16 @@
+package com.clinica.historiaclinica.domain.port.in;
+
+import com.clinica.historiaclinica.domain.model.HistoriaResumen;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface ListarResumenesHistoriaUseCase {
+
+    /**
+     * Lista los resumenes de las historias del obstetra; si {@code pacienteId} no es nulo, solo las
+     * de ese paciente.
+     */
+    Page<HistoriaResumen> listarResumenes(UUID obstetraId, UUID pacienteId, Pageable pageable);
+}
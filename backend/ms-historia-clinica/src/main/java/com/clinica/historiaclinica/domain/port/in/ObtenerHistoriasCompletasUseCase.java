@@ -0,0 +1,17 @@
+package com.clinica.historiaclinica.domain.port.in;
+
+import com.clinica.historiaclinica.domain.model.HistoriaCompleta;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ObtenerHistoriasCompletasUseCase {
+
+    int MAX_HISTORIAS = 100;
+
+    /**
+     * Devuelve, en el orden solicitado, las historias del obstetra con su paciente e hijos.
+     * Los ids inexistentes o de otro obstetra se omiten.
+     */
+    List<HistoriaCompleta> obtenerCompletas(List<UUID> ids, UUID obstetraId);
+}
@@ -0,0 +1,20 @@
+package com.clinica.historiaclinica.domain.port.in;
+
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SugerirPacientesUseCase {
+
+    /**
+     * Devuelve hasta {@code limite} pacientes del obstetra cuyo DNI, nombre o apellido empieza con
+     * cada palabra del prefijo. No cuenta el total de coincidencias.
+     */
+    List<SugerenciaPaciente> sugerir(UUID obstetraId, String prefijo, int limite);
+
+    /**
+     * Vuelve a indexar el paciente tras un cambio hecho en otra instancia.
+     */
+    void sincronizar(UUID pacienteId);
+}
@@ -0,0 +1,13 @@
+package com.clinica.historiaclinica.domain.port.out;
+
+import com.clinica.historiaclinica.domain.model.CambiosHistoria;
+import com.clinica.historiaclinica.domain.model.HistoriaClinica;
+
+public interface HistoriaClinicaEscrituraPort {
+
+    /**
+     * Actualiza la cabecera de la historia si su version sigue siendo {@code versionLeida} y aplica
+     * solo los cambios de las colecciones hijas. Falla si otra transaccion la modifico antes.
+     */
+    void actualizar(HistoriaClinica historia, long versionLeida, CambiosHistoria cambios);
+}
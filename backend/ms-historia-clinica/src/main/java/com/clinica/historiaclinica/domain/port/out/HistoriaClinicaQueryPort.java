@@ -0,0 +1,29 @@
+package com.clinica.historiaclinica.domain.port.out;
+
+import com.clinica.historiaclinica.domain.model.AlcanceCarga;
+import com.clinica.historiaclinica.domain.model.HistoriaClinica;
+import com.clinica.historiaclinica.domain.model.HistoriaResumen;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lectura de agregados HistoriaClinica con un numero acotado de consultas: una para las
+ * historias y, con {@link AlcanceCarga#COMPLETA}, una por coleccion hija para toda la pagina.
+ */
+public interface HistoriaClinicaQueryPort {
+
+    Optional<HistoriaClinica> findCompletaById(UUID id);
+
+    Page<HistoriaClinica> findByObstetraId(UUID obstetraId, Pageable pageable, AlcanceCarga alcance);
+
+    Page<HistoriaClinica> findByPacienteId(UUID pacienteId, Pageable pageable, AlcanceCarga alcance);
+
+    /**
+     * Resumenes de las historias del obstetra, opcionalmente de un solo paciente, en una consulta
+     * que no lee el contenido de secciones, eventos ni medicamentos.
+     */
+    Page<HistoriaResumen> findResumenes(UUID obstetraId, UUID pacienteId, Pageable pageable);
+}
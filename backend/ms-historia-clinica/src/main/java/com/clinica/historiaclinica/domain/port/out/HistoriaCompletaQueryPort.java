@@ -0,0 +1,15 @@
+package com.clinica.historiaclinica.domain.port.out;
+
+import com.clinica.historiaclinica.domain.model.HistoriaCompleta;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface HistoriaCompletaQueryPort {
+
+    /**
+     * Carga las historias del obstetra con un numero fijo de consultas, independiente de la cantidad de ids.
+     */
+    List<HistoriaCompleta> findCompletasByIds(Collection<UUID> ids, UUID obstetraId);
+}
@@ -0,0 +1,18 @@
+package com.clinica.historiaclinica.domain.port.out;
+
+import com.clinica.historiaclinica.domain.model.Paciente;
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IndicePacientesPort {
+
+    List<SugerenciaPaciente> sugerir(UUID obstetraId, String prefijo, int limite);
+
+    /**
+     * Agrega o reemplaza el paciente en el indice de su obstetra. Dentro de una transaccion el
+     * cambio se aplica recien despues del commit.
+     */
+    void registrar(Paciente paciente);
+}
@@ -0,0 +1,16 @@
+package com.clinica.historiaclinica.domain.port.out;
+
+import com.clinica.historiaclinica.domain.model.Paciente;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface PacienteBusquedaPort {
+
+    /**
+     * Busca pacientes del obstetra cuyo nombre, apellido o DNI contenga el termino, o se le
+     * parezca, ordenados por similitud. El orden del {@link Pageable} se ignora.
+     */
+    Page<Paciente> buscar(UUID obstetraId, String termino, Pageable pageable);
+}
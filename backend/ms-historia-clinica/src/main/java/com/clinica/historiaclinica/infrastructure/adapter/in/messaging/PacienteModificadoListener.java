@@ -0,0 +1,30 @@
+package com.clinica.historiaclinica.infrastructure.adapter.in.messaging;
+
+import com.clinica.historiaclinica.domain.port.in.SugerirPacientesUseCase;
+import com.clinica.shared.domain.event.AuditableEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actualiza el indice de sugerencias con las altas y modificaciones hechas en otras instancias.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PacienteModificadoListener {
+
+    private final SugerirPacientesUseCase sugerirPacientesUseCase;
+
+    @RabbitListener(queues = "#{historiaPacientesIndiceQueue.name}")
+    public void onPacienteModificado(AuditableEvent event) {
+        // El indice es una cache: si falla la sincronizacion se descarta el evento en lugar de reencolarlo
+        try {
+            sugerirPacientesUseCase.sincronizar(event.getResourceId());
+        } catch (Exception e) {
+            log.warn("No se pudo sincronizar el paciente {} en el indice de sugerencias: {}",
+                    event.getResourceId(), e.getMessage());
+        }
+    }
+}
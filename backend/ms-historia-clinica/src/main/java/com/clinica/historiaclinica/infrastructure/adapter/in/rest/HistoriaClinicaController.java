@@ -17,7 +17,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/historias-clinicas")
@@ -30,6 +32,8 @@ public class HistoriaClinicaController {
     private final ActualizarHistoriaClinicaUseCase actualizarHistoriaUseCase;
     private final CambiarEstadoHistoriaUseCase cambiarEstadoUseCase;
     private final ListarHistoriasClinicasUseCase listarHistoriasUseCase;
+    private final ObtenerHistoriasCompletasUseCase obtenerHistoriasCompletasUseCase;
+    private final ListarResumenesHistoriaUseCase listarResumenesUseCase;
 
     @PostMapping
     @Operation(summary = "Crear historia clinica", description = "Crea una nueva historia clinica en estado BORRADOR")
@@ -62,6 +66,33 @@ public class HistoriaClinicaController {
         return ResponseEntity.ok(toResponse(historia));
     }
 
+    @PostMapping("/completas")
+    @Operation(summary = "Obtener historias clinicas completas en bloque",
+            description = "Devuelve hasta 100 historias con su paciente, secciones, eventos y medicamentos en una sola llamada")
+    @ApiResponse(responseCode = "200", description = "Historias clinicas encontradas")
+    @ApiResponse(responseCode = "400", description = "Solicitud invalida")
+    public ResponseEntity<HistoriasCompletasResponse> obtenerCompletas(
+            @Valid @RequestBody ObtenerHistoriasCompletasRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        List<HistoriaCompleta> completas = obtenerHistoriasCompletasUseCase.obtenerCompletas(
+                request.ids(), user.userId());
+
+        Set<UUID> encontradas = completas.stream()
+                .map(c -> c.historia().getId())
+                .collect(Collectors.toSet());
+        List<UUID> noEncontradas = request.ids().stream()
+                .distinct()
+                .filter(id -> !encontradas.contains(id))
+                .toList();
+
+        List<HistoriaCompletaResponse> historias = completas.stream()
+                .map(c -> new HistoriaCompletaResponse(toResponse(c.historia()), toPacienteResponse(c.paciente())))
+                .toList();
+
+        return ResponseEntity.ok(new HistoriasCompletasResponse(historias, noEncontradas));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Actualizar historia clinica", description = "Actualiza secciones, eventos y medicamentos")
     @ApiResponse(responseCode = "200", description = "Historia clinica actualizada")
@@ -75,21 +106,21 @@ public class HistoriaClinicaController {
         List<ActualizarHistoriaClinicaUseCase.SeccionCommand> secciones = request.secciones() != null
                 ? request.secciones().stream()
                     .map(s -> new ActualizarHistoriaClinicaUseCase.SeccionCommand(
-                            s.tipo(), s.contenido(), s.origen(), s.orden()))
+                            s.id(), s.tipo(), s.contenido(), s.origen(), s.orden()))
                     .toList()
                 : null;
 
         List<ActualizarHistoriaClinicaUseCase.EventoCommand> eventos = request.eventos() != null
                 ? request.eventos().stream()
                     .map(e -> new ActualizarHistoriaClinicaUseCase.EventoCommand(
-                            e.tipo(), e.fecha(), e.semanaGestacional(), e.observaciones()))
+                            e.id(), e.tipo(), e.fecha(), e.semanaGestacional(), e.observaciones()))
                     .toList()
                 : null;
 
         List<ActualizarHistoriaClinicaUseCase.MedicamentoCommand> medicamentos = request.medicamentos() != null
                 ? request.medicamentos().stream()
                     .map(m -> new ActualizarHistoriaClinicaUseCase.MedicamentoCommand(
-                            m.nombre(), m.dosis(), m.via(), m.frecuencia(), m.duracion()))
+                            m.id(), m.nombre(), m.dosis(), m.via(), m.frecuencia(), m.duracion()))
                     .toList()
                 : null;
 
@@ -108,27 +139,48 @@ public class HistoriaClinicaController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar historias clinicas", description = "Lista historias del obstetra, opcionalmente filtradas por paciente")
+    @Operation(summary = "Listar historias clinicas",
+            description = "Lista historias del obstetra, opcionalmente filtradas por paciente. "
+                    + "Con detalle=false no incluye secciones, eventos ni medicamentos")
     @ApiResponse(responseCode = "200", description = "Lista de historias clinicas")
     public ResponseEntity<Page<HistoriaClinicaResponse>> listar(
             @RequestParam(required = false) UUID pacienteId,
+            @RequestParam(defaultValue = "true") boolean detalle,
             Pageable pageable,
             @AuthenticationPrincipal AuthenticatedUser user) {
 
+        AlcanceCarga alcance = detalle ? AlcanceCarga.COMPLETA : AlcanceCarga.CABECERA;
         Page<HistoriaClinicaResponse> page;
         if (pacienteId != null) {
             page = listarHistoriasUseCase
-                    .listarPorPaciente(pacienteId, user.userId(), pageable)
+                    .listarPorPaciente(pacienteId, user.userId(), pageable, alcance)
                     .map(this::toResponse);
         } else {
             page = listarHistoriasUseCase
-                    .listarPorObstetra(user.userId(), pageable)
+                    .listarPorObstetra(user.userId(), pageable, alcance)
                     .map(this::toResponse);
         }
 
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/resumen")
+    @Operation(summary = "Listar resumenes de historias clinicas",
+            description = "Lista historias del obstetra sin contenido clinico: paciente, version, estado, "
+                    + "fechas y cantidad de secciones. Opcionalmente filtradas por paciente")
+    @ApiResponse(responseCode = "200", description = "Lista de resumenes")
+    public ResponseEntity<Page<HistoriaResumenResponse>> listarResumenes(
+            @RequestParam(required = false) UUID pacienteId,
+            Pageable pageable,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        Page<HistoriaResumenResponse> page = listarResumenesUseCase
+                .listarResumenes(user.userId(), pacienteId, pageable)
+                .map(this::toResumenResponse);
+
+        return ResponseEntity.ok(page);
+    }
+
     @PatchMapping("/{id}/finalizar")
     @Operation(summary = "Finalizar historia clinica", description = "Cambia el estado a FINALIZADA (inmutable)")
     @ApiResponse(responseCode = "200", description = "Historia clinica finalizada")
@@ -165,6 +217,39 @@ public class HistoriaClinicaController {
         return ResponseEntity.ok(toResponse(historia));
     }
 
+    private PacienteResponse toPacienteResponse(Paciente paciente) {
+        if (paciente == null) {
+            return null;
+        }
+        return new PacienteResponse(
+                paciente.getId(),
+                paciente.getDni(),
+                paciente.getNombre(),
+                paciente.getApellido(),
+                paciente.getFechaNacimiento(),
+                paciente.getTelefono(),
+                paciente.getDireccion(),
+                paciente.getCreatedAt(),
+                paciente.getUpdatedAt()
+        );
+    }
+
+    private HistoriaResumenResponse toResumenResponse(HistoriaResumen resumen) {
+        return new HistoriaResumenResponse(
+                resumen.id(),
+                new HistoriaResumenResponse.PacienteResumen(
+                        resumen.pacienteId(),
+                        resumen.pacienteDni(),
+                        resumen.pacienteNombre(),
+                        resumen.pacienteApellido()),
+                resumen.version(),
+                resumen.estado(),
+                resumen.cantidadSecciones(),
+                resumen.createdAt(),
+                resumen.updatedAt()
+        );
+    }
+
     private HistoriaClinicaResponse toResponse(HistoriaClinica historia) {
         List<HistoriaClinicaResponse.SeccionResponse> secciones = historia.getSecciones() != null
                 ? historia.getSecciones().stream()
@@ -1,13 +1,16 @@
 package com.clinica.historiaclinica.infrastructure.adapter.in.rest;
 
 import com.clinica.historiaclinica.domain.model.Paciente;
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
 import com.clinica.historiaclinica.domain.port.in.ActualizarPacienteUseCase;
 import com.clinica.historiaclinica.domain.port.in.CrearPacienteUseCase;
 import com.clinica.historiaclinica.domain.port.in.ListarPacientesUseCase;
 import com.clinica.historiaclinica.domain.port.in.ObtenerPacienteUseCase;
+import com.clinica.historiaclinica.domain.port.in.SugerirPacientesUseCase;
 import com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto.ActualizarPacienteRequest;
 import com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto.CrearPacienteRequest;
 import com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto.PacienteResponse;
+import com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto.SugerenciaPacienteResponse;
 import com.clinica.shared.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +37,7 @@ public class PacienteController {
     private final ObtenerPacienteUseCase obtenerPacienteUseCase;
     private final ListarPacientesUseCase listarPacientesUseCase;
     private final ActualizarPacienteUseCase actualizarPacienteUseCase;
+    private final SugerirPacientesUseCase sugerirPacientesUseCase;
 
     @PostMapping
     @Operation(summary = "Crear paciente", description = "Registra un nuevo paciente asociado al obstetra autenticado")
@@ -57,6 +62,23 @@ public class PacienteController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(paciente));
     }
 
+    @GetMapping("/sugerencias")
+    @Operation(summary = "Sugerir pacientes",
+            description = "Autocompletado por prefijo de DNI, nombre o apellido; devuelve los primeros resultados sin total")
+    @ApiResponse(responseCode = "200", description = "Pacientes sugeridos")
+    public ResponseEntity<List<SugerenciaPacienteResponse>> sugerir(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limite,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        List<SugerenciaPacienteResponse> sugerencias = sugerirPacientesUseCase
+                .sugerir(user.userId(), q, Math.min(Math.max(limite, 1), 50))
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(sugerencias);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obtener paciente", description = "Obtiene un paciente por su ID")
     @ApiResponse(responseCode = "200", description = "Paciente encontrado")
@@ -128,4 +150,13 @@ public class PacienteController {
                 paciente.getUpdatedAt()
         );
     }
+
+    private SugerenciaPacienteResponse toResponse(SugerenciaPaciente sugerencia) {
+        return new SugerenciaPacienteResponse(
+                sugerencia.id(),
+                sugerencia.dni(),
+                sugerencia.nombre(),
+                sugerencia.apellido()
+        );
+    }
 }
@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @Schema(description = "Solicitud de actualizacion de historia clinica")
 public record ActualizarHistoriaRequest(
@@ -29,6 +30,8 @@ public record ActualizarHistoriaRequest(
 
     @Schema(description = "Seccion clinica")
     public record SeccionRequest(
+            @Schema(description = "Id del elemento existente; omitir para agregar uno nuevo")
+            UUID id,
             TipoSeccion tipo,
             String contenido,
             OrigenContenido origen,
@@ -38,6 +41,8 @@ public record ActualizarHistoriaRequest(
 
     @Schema(description = "Evento obstetrico")
     public record EventoRequest(
+            @Schema(description = "Id del elemento existente; omitir para agregar uno nuevo")
+            UUID id,
             String tipo,
             Instant fecha,
             Integer semanaGestacional,
@@ -47,6 +52,8 @@ public record ActualizarHistoriaRequest(
 
     @Schema(description = "Medicamento")
     public record MedicamentoRequest(
+            @Schema(description = "Id del elemento existente; omitir para agregar uno nuevo")
+            UUID id,
             String nombre,
             String dosis,
             String via,
@@ -0,0 +1,10 @@
+package com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Historia clinica con su paciente")
+public record HistoriaCompletaResponse(
+        HistoriaClinicaResponse historia,
+        PacienteResponse paciente
+) {
+}
@@ -0,0 +1,27 @@
+package com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto;
+
+import com.clinica.historiaclinica.domain.model.EstadoHistoria;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "Resumen de historia clinica para listados")
+public record HistoriaResumenResponse(
+        UUID id,
+        PacienteResumen paciente,
+        int version,
+        EstadoHistoria estado,
+        int cantidadSecciones,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public record PacienteResumen(
+            UUID id,
+            String dni,
+            String nombre,
+            String apellido
+    ) {
+    }
+}
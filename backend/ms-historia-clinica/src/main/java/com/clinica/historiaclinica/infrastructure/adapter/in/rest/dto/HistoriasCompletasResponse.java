@@ -0,0 +1,13 @@
+package com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Historias clinicas completas obtenidas en bloque")
+public record HistoriasCompletasResponse(
+        List<HistoriaCompletaResponse> historias,
+        List<UUID> noEncontradas
+) {
+}
@@ -0,0 +1,18 @@
+package com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto;
+
+import com.clinica.historiaclinica.domain.port.in.ObtenerHistoriasCompletasUseCase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Ids de las historias clinicas a obtener en bloque")
+public record ObtenerHistoriasCompletasRequest(
+        @NotEmpty
+        @Size(max = ObtenerHistoriasCompletasUseCase.MAX_HISTORIAS)
+        List<@NotNull UUID> ids
+) {
+}
@@ -0,0 +1,14 @@
+package com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Paciente sugerido para autocompletado")
+public record SugerenciaPacienteResponse(
+        UUID id,
+        String dni,
+        String nombre,
+        String apellido
+) {
+}
@@ -0,0 +1,151 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.indice;
+
+import com.clinica.historiaclinica.domain.model.Paciente;
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
+import com.clinica.historiaclinica.domain.port.out.IndicePacientesPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantiene en memoria un {@link IndicePrefijos} por obstetra. El indice se carga desde la base la
+ * primera vez que el obstetra pide sugerencias y se actualiza con cada alta o modificacion; si
+ * se supera el maximo de obstetras en memoria se descarta el menos usado.
+ */
+@Slf4j
+@Component
+public class InMemoryIndicePacientesAdapter implements IndicePacientesPort {
+
+    private static final String PACIENTES_SQL = "SELECT id, dni, nombre, apellido FROM pacientes WHERE obstetra_id = ?";
+
+    // Mientras la carga esta en curso, indice es null y las altas recibidas se acumulan en pendientes;
+    // ambos solo se modifican dentro de compute sobre la clave del obstetra
+    private static final class Cargado {
+        private final CompletableFuture<Void> listo = new CompletableFuture<>();
+        private final List<SugerenciaPaciente> pendientes = new ArrayList<>();
+        private volatile IndicePrefijos indice;
+        private volatile long ultimoUso = System.nanoTime();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxObstetras;
+    private final Map<UUID, Cargado> indices = new ConcurrentHashMap<>();
+
+    public InMemoryIndicePacientesAdapter(JdbcTemplate jdbcTemplate,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${historia.pacientes.sugerencias.max-obstetras:2000}") int maxObstetras) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxObstetras = maxObstetras;
+        Gauge.builder("historia.pacientes.sugerencias.obstetras", indices, Map::size)
+                .description("Obstetras con indice de sugerencias cargado en memoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<SugerenciaPaciente> sugerir(UUID obstetraId, String prefijo, int limite) {
+        Cargado nuevo = new Cargado();
+        Cargado cargado = indices.putIfAbsent(obstetraId, nuevo);
+        if (cargado == null) {
+            // La consulta corre fuera del lock del mapa: no bloquea a otros obstetras ni a registrar
+            cargado = nuevo;
+            cargar(obstetraId, cargado);
+        } else {
+            try {
+                cargado.listo.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw (RuntimeException) e.getCause();
+            }
+        }
+        cargado.ultimoUso = System.nanoTime();
+        if (indices.size() > maxObstetras) {
+            desalojarMenosUsado();
+        }
+        return cargado.indice.sugerir(prefijo, limite);
+    }
+
+    @Override
+    public void registrar(Paciente paciente) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicar(paciente);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aplicar(paciente);
+            }
+        });
+    }
+
+    private void aplicar(Paciente paciente) {
+        SugerenciaPaciente sugerencia = SugerenciaPaciente.de(paciente);
+        indices.computeIfPresent(paciente.getObstetraId(), (id, cargado) -> {
+            if (cargado.indice == null) {
+                cargado.pendientes.add(sugerencia);
+            } else {
+                cargado.indice = cargado.indice.con(sugerencia);
+            }
+            return cargado;
+        });
+    }
+
+    private void cargar(UUID obstetraId, Cargado cargado) {
+        long inicio = System.nanoTime();
+        IndicePrefijos construido;
+        try {
+            List<SugerenciaPaciente> pacientes = jdbcTemplate.query(PACIENTES_SQL, (rs, rowNum) -> new SugerenciaPaciente(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("dni"),
+                    rs.getString("nombre"),
+                    rs.getString("apellido")), obstetraId);
+            construido = IndicePrefijos.construir(pacientes);
+        } catch (RuntimeException | Error e) {
+            indices.remove(obstetraId, cargado);
+            cargado.listo.completeExceptionally(e);
+            throw e;
+        }
+
+        // Las altas llegadas durante la consulta se aplican encima; con() reemplaza si ya estaban
+        indices.computeIfPresent(obstetraId, (id, actual) -> {
+            if (actual == cargado) {
+                IndicePrefijos indice = construido;
+                for (SugerenciaPaciente pendiente : cargado.pendientes) {
+                    indice = indice.con(pendiente);
+                }
+                cargado.pendientes.clear();
+                cargado.indice = indice;
+            }
+            return actual;
+        });
+        if (cargado.indice == null) {
+            // Desalojado antes de publicarse: se entrega igual a quienes lo esperaban
+            cargado.indice = construido;
+        }
+        cargado.listo.complete(null);
+        log.debug("Indice de sugerencias del obstetra {} cargado: {} pacientes en {} ms",
+                obstetraId, cargado.indice.tamano(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private void desalojarMenosUsado() {
+        indices.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().ultimoUso))
+                .ifPresent(e -> indices.remove(e.getKey(), e.getValue()));
+    }
+}
@@ -0,0 +1,174 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.indice;
+
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Indice inmutable de prefijos de los pacientes de un obstetra: un arreglo ordenado con una
+ * entrada por palabra del nombre, del apellido y por el DNI, normalizadas sin tildes ni
+ * mayusculas. Una busqueda es una busqueda binaria del prefijo mas un recorrido de las entradas
+ * contiguas que lo comparten. Cada cambio produce un indice nuevo.
+ */
+final class IndicePrefijos {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+    private record Entrada(String clave, SugerenciaPaciente paciente, String[] palabras) {
+    }
+
+    private static final Comparator<Entrada> ORDEN = Comparator.comparing(Entrada::clave)
+            .thenComparing(e -> e.paciente().apellido(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(e -> e.paciente().nombre(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Map<UUID, SugerenciaPaciente> pacientes;
+    private final Entrada[] entradas;
+
+    private IndicePrefijos(Map<UUID, SugerenciaPaciente> pacientes, Entrada[] entradas) {
+        this.pacientes = pacientes;
+        this.entradas = entradas;
+    }
+
+    static IndicePrefijos construir(Collection<SugerenciaPaciente> pacientes) {
+        Map<UUID, SugerenciaPaciente> porId = new HashMap<>(pacientes.size() * 2);
+        pacientes.forEach(p -> porId.put(p.id(), p));
+        List<Entrada> lista = new ArrayList<>(porId.size() * 4);
+        porId.values().forEach(p -> lista.addAll(entradas(p)));
+        Entrada[] ordenadas = lista.toArray(Entrada[]::new);
+        Arrays.sort(ordenadas, ORDEN);
+        return new IndicePrefijos(porId, ordenadas);
+    }
+
+    /**
+     * Devuelve un indice con el paciente agregado o reemplazado. Las entradas ya ordenadas se
+     * mezclan con las del paciente en una sola pasada, sin volver a ordenar todo el arreglo.
+     */
+    IndicePrefijos con(SugerenciaPaciente paciente) {
+        if (paciente.equals(pacientes.get(paciente.id()))) {
+            return this;
+        }
+        Map<UUID, SugerenciaPaciente> copia = new HashMap<>(pacientes);
+        copia.put(paciente.id(), paciente);
+
+        List<Entrada> nuevas = entradas(paciente);
+        nuevas.sort(ORDEN);
+        Entrada[] mezcla = new Entrada[entradas.length + nuevas.size()];
+        int total = 0;
+        int j = 0;
+        for (Entrada entrada : entradas) {
+            if (entrada.paciente().id().equals(paciente.id())) {
+                continue;
+            }
+            while (j < nuevas.size() && ORDEN.compare(nuevas.get(j), entrada) < 0) {
+                mezcla[total++] = nuevas.get(j++);
+            }
+            mezcla[total++] = entrada;
+        }
+        while (j < nuevas.size()) {
+            mezcla[total++] = nuevas.get(j++);
+        }
+        return new IndicePrefijos(copia, Arrays.copyOf(mezcla, total));
+    }
+
+    int tamano() {
+        return pacientes.size();
+    }
+
+    /**
+     * Busca por la palabra mas larga de la consulta y filtra las candidatas exigiendo que cada
+     * palabra de la consulta sea prefijo de alguna palabra del paciente.
+     */
+    List<SugerenciaPaciente> sugerir(String consulta, int limite) {
+        String[] terminos = Arrays.stream(ESPACIOS.split(normalizar(consulta)))
+                .filter(t -> !t.isEmpty())
+                .toArray(String[]::new);
+        if (terminos.length == 0 || limite <= 0) {
+            return List.of();
+        }
+        String guia = Arrays.stream(terminos).max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        Set<UUID> vistos = new LinkedHashSet<>();
+        List<SugerenciaPaciente> resultado = new ArrayList<>(limite);
+        for (int i = primeraMayorOIgual(guia); i < entradas.length && resultado.size() < limite; i++) {
+            Entrada entrada = entradas[i];
+            if (!entrada.clave().startsWith(guia)) {
+                break;
+            }
+            if (vistos.add(entrada.paciente().id()) && cubre(entrada.palabras(), terminos)) {
+                resultado.add(entrada.paciente());
+            }
+        }
+        return resultado;
+    }
+
+    private int primeraMayorOIgual(String prefijo) {
+        int bajo = 0;
+        int alto = entradas.length;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (entradas[medio].clave().compareTo(prefijo) < 0) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    private static boolean cubre(String[] palabras, String[] terminos) {
+        for (String termino : terminos) {
+            boolean encontrado = false;
+            for (String palabra : palabras) {
+                if (palabra.startsWith(termino)) {
+                    encontrado = true;
+                    break;
+                }
+            }
+            if (!encontrado) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Entrada> entradas(SugerenciaPaciente paciente) {
+        String[] palabras = palabras(paciente);
+        List<Entrada> lista = new ArrayList<>(palabras.length);
+        for (String palabra : new LinkedHashSet<>(Arrays.asList(palabras))) {
+            lista.add(new Entrada(palabra, paciente, palabras));
+        }
+        return lista;
+    }
+
+    private static String[] palabras(SugerenciaPaciente paciente) {
+        String texto = String.join(" ",
+                valor(paciente.dni()), valor(paciente.nombre()), valor(paciente.apellido()));
+        return Arrays.stream(ESPACIOS.split(normalizar(texto)))
+                .filter(p -> !p.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static String valor(String texto) {
+        return texto != null ? texto : "";
+    }
+
+    static String normalizar(String texto) {
+        return MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .strip();
+    }
+}
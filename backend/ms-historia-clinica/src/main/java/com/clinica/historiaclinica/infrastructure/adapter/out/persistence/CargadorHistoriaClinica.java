@@ -0,0 +1,129 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.persistence;
+
+import com.clinica.historiaclinica.domain.model.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mapeo de la fila de historias_clinicas y carga de sus colecciones hijas, compartidos por los
+ * adaptadores de lectura: secciones, eventos y medicamentos de todas las historias dadas con
+ * {@code historia_clinica_id = ANY(?)}, una consulta por coleccion.
+ */
+@Component
+@RequiredArgsConstructor
+class CargadorHistoriaClinica {
+
+    static final String HISTORIA_COLUMNAS =
+            "id, paciente_id, version, estado, obstetra_id, notas_generales, created_at, updated_at, jpa_version";
+
+    private static final String SECCIONES_SQL = """
+            SELECT id, historia_clinica_id, tipo, contenido, origen, orden, created_at, updated_at
+            FROM secciones_clinicas
+            WHERE historia_clinica_id = ANY (?)
+            ORDER BY historia_clinica_id, orden
+            """;
+
+    private static final String EVENTOS_SQL = """
+            SELECT id, historia_clinica_id, tipo, fecha, semana_gestacional, observaciones, created_at
+            FROM eventos_obstetricos
+            WHERE historia_clinica_id = ANY (?)
+            ORDER BY historia_clinica_id, fecha
+            """;
+
+    private static final String MEDICAMENTOS_SQL = """
+            SELECT id, historia_clinica_id, nombre, dosis, via, frecuencia, duracion, created_at
+            FROM medicamentos
+            WHERE historia_clinica_id = ANY (?)
+            ORDER BY historia_clinica_id, created_at
+            """;
+
+    static final RowMapper<HistoriaClinica> HISTORIA_MAPPER = (rs, rowNum) -> HistoriaClinica.builder()
+            .id(rs.getObject("id", UUID.class))
+            .pacienteId(rs.getObject("paciente_id", UUID.class))
+            .version(rs.getInt("version"))
+            .estado(EstadoHistoria.valueOf(rs.getString("estado")))
+            .obstetraId(rs.getObject("obstetra_id", UUID.class))
+            .notasGenerales(rs.getString("notas_generales"))
+            .createdAt(toInstant(rs.getTimestamp("created_at")))
+            .updatedAt(toInstant(rs.getTimestamp("updated_at")))
+            .jpaVersion(rs.getLong("jpa_version"))
+            .secciones(new ArrayList<>())
+            .eventos(new ArrayList<>())
+            .medicamentos(new ArrayList<>())
+            .build();
+
+    private static final RowMapper<SeccionClinica> SECCION_MAPPER = (rs, rowNum) -> SeccionClinica.builder()
+            .id(rs.getObject("id", UUID.class))
+            .historiaClinicaId(rs.getObject("historia_clinica_id", UUID.class))
+            .tipo(TipoSeccion.valueOf(rs.getString("tipo")))
+            .contenido(rs.getString("contenido"))
+            .origen(OrigenContenido.valueOf(rs.getString("origen")))
+            .orden(rs.getInt("orden"))
+            .createdAt(toInstant(rs.getTimestamp("created_at")))
+            .updatedAt(toInstant(rs.getTimestamp("updated_at")))
+            .build();
+
+    private static final RowMapper<EventoObstetrico> EVENTO_MAPPER = (rs, rowNum) -> EventoObstetrico.builder()
+            .id(rs.getObject("id", UUID.class))
+            .historiaClinicaId(rs.getObject("historia_clinica_id", UUID.class))
+            .tipo(rs.getString("tipo"))
+            .fecha(toInstant(rs.getTimestamp("fecha")))
+            .semanaGestacional(rs.getObject("semana_gestacional", Integer.class))
+            .observaciones(rs.getString("observaciones"))
+            .createdAt(toInstant(rs.getTimestamp("created_at")))
+            .build();
+
+    private static final RowMapper<Medicamento> MEDICAMENTO_MAPPER = (rs, rowNum) -> Medicamento.builder()
+            .id(rs.getObject("id", UUID.class))
+            .historiaClinicaId(rs.getObject("historia_clinica_id", UUID.class))
+            .nombre(rs.getString("nombre"))
+            .dosis(rs.getString("dosis"))
+            .via(rs.getString("via"))
+            .frecuencia(rs.getString("frecuencia"))
+            .duracion(rs.getString("duracion"))
+            .createdAt(toInstant(rs.getTimestamp("created_at")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Completa secciones, eventos y medicamentos de las historias dadas con tres consultas.
+     */
+    void cargarHijos(Collection<HistoriaClinica> historias) {
+        if (historias.isEmpty()) {
+            return;
+        }
+        Map<UUID, HistoriaClinica> porId = historias.stream()
+                .collect(Collectors.toMap(HistoriaClinica::getId, Function.identity()));
+        Set<UUID> historiaIds = porId.keySet();
+
+        jdbcTemplate.query(porIds(SECCIONES_SQL, historiaIds), SECCION_MAPPER)
+                .forEach(s -> porId.get(s.getHistoriaClinicaId()).getSecciones().add(s));
+        jdbcTemplate.query(porIds(EVENTOS_SQL, historiaIds), EVENTO_MAPPER)
+                .forEach(e -> porId.get(e.getHistoriaClinicaId()).getEventos().add(e));
+        jdbcTemplate.query(porIds(MEDICAMENTOS_SQL, historiaIds), MEDICAMENTO_MAPPER)
+                .forEach(m -> porId.get(m.getHistoriaClinicaId()).getMedicamentos().add(m));
+    }
+
+    private static PreparedStatementCreator porIds(String sql, Collection<UUID> ids) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        };
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
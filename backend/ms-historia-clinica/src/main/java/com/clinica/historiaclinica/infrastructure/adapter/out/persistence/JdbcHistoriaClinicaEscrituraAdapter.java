@@ -0,0 +1,117 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.persistence;
+
+import com.clinica.historiaclinica.domain.exception.HistoriaModificadaConcurrentementeException;
+import com.clinica.historiaclinica.domain.model.*;
+import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaEscrituraPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Persiste una actualizacion de historia clinica como diferencia: la cabecera con control de
+ * version optimista y, por cada coleccion hija, un DELETE por ids y lotes JDBC de UPDATE e INSERT
+ * solo con los elementos que cambiaron.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcHistoriaClinicaEscrituraAdapter implements HistoriaClinicaEscrituraPort {
+
+    private static final String HISTORIA_UPDATE_SQL = """
+            UPDATE historias_clinicas
+            SET notas_generales = ?, updated_at = ?, jpa_version = jpa_version + 1
+            WHERE id = ? AND jpa_version = ?
+            """;
+
+    private static final String SECCION_INSERT_SQL = """
+            INSERT INTO secciones_clinicas (tipo, contenido, origen, orden, created_at, updated_at, historia_clinica_id, id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SECCION_UPDATE_SQL = """
+            UPDATE secciones_clinicas
+            SET tipo = ?, contenido = ?, origen = ?, orden = ?, created_at = ?, updated_at = ?
+            WHERE historia_clinica_id = ? AND id = ?
+            """;
+
+    private static final String EVENTO_INSERT_SQL = """
+            INSERT INTO eventos_obstetricos (tipo, fecha, semana_gestacional, observaciones, created_at, historia_clinica_id, id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String EVENTO_UPDATE_SQL = """
+            UPDATE eventos_obstetricos
+            SET tipo = ?, fecha = ?, semana_gestacional = ?, observaciones = ?, created_at = ?
+            WHERE historia_clinica_id = ? AND id = ?
+            """;
+
+    private static final String MEDICAMENTO_INSERT_SQL = """
+            INSERT INTO medicamentos (nombre, dosis, via, frecuencia, duracion, created_at, historia_clinica_id, id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String MEDICAMENTO_UPDATE_SQL = """
+            UPDATE medicamentos
+            SET nombre = ?, dosis = ?, via = ?, frecuencia = ?, duracion = ?, created_at = ?
+            WHERE historia_clinica_id = ? AND id = ?
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM %s WHERE historia_clinica_id = ? AND id = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void actualizar(HistoriaClinica historia, long versionLeida, CambiosHistoria cambios) {
+        int filas = jdbcTemplate.update(HISTORIA_UPDATE_SQL,
+                historia.getNotasGenerales(), toTimestamp(historia.getUpdatedAt()), historia.getId(), versionLeida);
+        if (filas == 0) {
+            throw new HistoriaModificadaConcurrentementeException(historia.getId());
+        }
+
+        UUID historiaId = historia.getId();
+        aplicar("secciones_clinicas", historiaId, cambios.secciones(), SECCION_INSERT_SQL, SECCION_UPDATE_SQL,
+                s -> new Object[]{s.getTipo().name(), s.getContenido(), s.getOrigen().name(), s.getOrden(),
+                        toTimestamp(s.getCreatedAt()), toTimestamp(s.getUpdatedAt()), historiaId, s.getId()});
+        aplicar("eventos_obstetricos", historiaId, cambios.eventos(), EVENTO_INSERT_SQL, EVENTO_UPDATE_SQL,
+                e -> new Object[]{e.getTipo(), toTimestamp(e.getFecha()), e.getSemanaGestacional(), e.getObservaciones(),
+                        toTimestamp(e.getCreatedAt()), historiaId, e.getId()});
+        aplicar("medicamentos", historiaId, cambios.medicamentos(), MEDICAMENTO_INSERT_SQL, MEDICAMENTO_UPDATE_SQL,
+                m -> new Object[]{m.getNombre(), m.getDosis(), m.getVia(), m.getFrecuencia(), m.getDuracion(),
+                        toTimestamp(m.getCreatedAt()), historiaId, m.getId()});
+    }
+
+    /**
+     * INSERT y UPDATE comparten el orden de parametros (columnas, historia_clinica_id, id) para usar
+     * el mismo extractor.
+     */
+    private <T extends HijoHistoria<T>> void aplicar(String tabla, UUID historiaId, CambiosHijos<T> cambios,
+                                                     String insertSql, String updateSql,
+                                                     Function<T, Object[]> parametros) {
+        if (!cambios.eliminados().isEmpty()) {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(DELETE_SQL.formatted(tabla));
+                ps.setObject(1, historiaId);
+                ps.setArray(2, con.createArrayOf("uuid", cambios.eliminados().toArray()));
+                return ps;
+            });
+        }
+        lote(updateSql, cambios.actualizados(), parametros);
+        lote(insertSql, cambios.insertados(), parametros);
+    }
+
+    private <T> void lote(String sql, List<T> elementos, Function<T, Object[]> parametros) {
+        if (!elementos.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, elementos.stream().map(parametros).toList());
+        }
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+}
@@ -0,0 +1,134 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.persistence;
+
+import com.clinica.historiaclinica.domain.model.*;
+import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.clinica.historiaclinica.infrastructure.adapter.out.persistence.CargadorHistoriaClinica.HISTORIA_COLUMNAS;
+import static com.clinica.historiaclinica.infrastructure.adapter.out.persistence.CargadorHistoriaClinica.HISTORIA_MAPPER;
+
+/**
+ * Carga agregados HistoriaClinica sin consultas perezosas por fila: las historias de la pagina
+ * en una consulta y luego secciones, eventos y medicamentos de todas ellas con
+ * {@link CargadorHistoriaClinica#cargarHijos}, una consulta por coleccion.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcHistoriaClinicaQueryAdapter implements HistoriaClinicaQueryPort {
+
+    private static final String POR_ID_SQL = "SELECT " + HISTORIA_COLUMNAS + " FROM historias_clinicas WHERE id = ?";
+
+    private static final String PAGINA_SQL = "SELECT " + HISTORIA_COLUMNAS
+            + " FROM historias_clinicas WHERE %s = ? ORDER BY %s LIMIT ? OFFSET ?";
+
+    private static final String CONTAR_SQL = "SELECT count(*) FROM historias_clinicas WHERE %s = ?";
+
+    private static final String RESUMENES_SQL = """
+            SELECT h.id, h.paciente_id, p.dni, p.nombre, p.apellido, h.version, h.estado, h.created_at, h.updated_at,
+                   (SELECT count(*) FROM secciones_clinicas s WHERE s.historia_clinica_id = h.id) AS cantidad_secciones
+            FROM historias_clinicas h
+            JOIN pacientes p ON p.id = h.paciente_id
+            WHERE h.obstetra_id = ? AND (?::uuid IS NULL OR h.paciente_id = ?::uuid)
+            ORDER BY %s
+            LIMIT ? OFFSET ?
+            """;
+
+    private static final String CONTAR_RESUMENES_SQL = """
+            SELECT count(*) FROM historias_clinicas h
+            WHERE h.obstetra_id = ? AND (?::uuid IS NULL OR h.paciente_id = ?::uuid)
+            """;
+
+    /** Propiedades ordenables de la API y su columna; el resto se ignora. */
+    private static final Map<String, String> COLUMNAS_ORDEN = Map.of(
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "version", "version",
+            "estado", "estado");
+
+    private static final RowMapper<HistoriaResumen> RESUMEN_MAPPER = (rs, rowNum) -> new HistoriaResumen(
+            rs.getObject("id", UUID.class),
+            rs.getObject("paciente_id", UUID.class),
+            rs.getString("dni"),
+            rs.getString("nombre"),
+            rs.getString("apellido"),
+            rs.getInt("version"),
+            EstadoHistoria.valueOf(rs.getString("estado")),
+            rs.getInt("cantidad_secciones"),
+            toInstant(rs.getTimestamp("created_at")),
+            toInstant(rs.getTimestamp("updated_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CargadorHistoriaClinica cargador;
+
+    @Override
+    public Optional<HistoriaClinica> findCompletaById(UUID id) {
+        List<HistoriaClinica> historias = jdbcTemplate.query(POR_ID_SQL, HISTORIA_MAPPER, id);
+        cargador.cargarHijos(historias);
+        return historias.stream().findFirst();
+    }
+
+    @Override
+    public Page<HistoriaClinica> findByObstetraId(UUID obstetraId, Pageable pageable, AlcanceCarga alcance) {
+        return pagina("obstetra_id", obstetraId, pageable, alcance);
+    }
+
+    @Override
+    public Page<HistoriaClinica> findByPacienteId(UUID pacienteId, Pageable pageable, AlcanceCarga alcance) {
+        return pagina("paciente_id", pacienteId, pageable, alcance);
+    }
+
+    @Override
+    public Page<HistoriaResumen> findResumenes(UUID obstetraId, UUID pacienteId, Pageable pageable) {
+        int limite = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        long desde = pageable.isPaged() ? pageable.getOffset() : 0;
+
+        List<HistoriaResumen> resumenes = jdbcTemplate.query(
+                RESUMENES_SQL.formatted(orden(pageable.getSort(), "h.")), RESUMEN_MAPPER,
+                obstetraId, pacienteId, pacienteId, limite, desde);
+        if (desde == 0 && resumenes.size() < limite) {
+            return new PageImpl<>(resumenes, pageable, resumenes.size());
+        }
+        Long total = jdbcTemplate.queryForObject(CONTAR_RESUMENES_SQL, Long.class, obstetraId, pacienteId, pacienteId);
+        return new PageImpl<>(resumenes, pageable, total != null ? total : 0);
+    }
+
+    private Page<HistoriaClinica> pagina(String columna, UUID valor, Pageable pageable, AlcanceCarga alcance) {
+        int limite = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        long desde = pageable.isPaged() ? pageable.getOffset() : 0;
+
+        List<HistoriaClinica> historias = jdbcTemplate.query(
+                PAGINA_SQL.formatted(columna, orden(pageable.getSort(), "")), HISTORIA_MAPPER, valor, limite, desde);
+        if (alcance == AlcanceCarga.COMPLETA) {
+            cargador.cargarHijos(historias);
+        }
+        if (desde == 0 && historias.size() < limite) {
+            return new PageImpl<>(historias, pageable, historias.size());
+        }
+        Long total = jdbcTemplate.queryForObject(CONTAR_SQL.formatted(columna), Long.class, valor);
+        return new PageImpl<>(historias, pageable, total != null ? total : 0);
+    }
+
+    private static String orden(Sort sort, String alias) {
+        String columnas = sort.stream()
+                .filter(o -> COLUMNAS_ORDEN.containsKey(o.getProperty()))
+                .map(o -> alias + COLUMNAS_ORDEN.get(o.getProperty()) + (o.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        return (columnas.isEmpty() ? alias + "created_at DESC" : columnas) + ", " + alias + "id";
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
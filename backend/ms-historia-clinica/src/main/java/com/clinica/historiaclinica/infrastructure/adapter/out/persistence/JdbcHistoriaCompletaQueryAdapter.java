@@ -0,0 +1,99 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.persistence;
+
+import com.clinica.historiaclinica.domain.model.*;
+import com.clinica.historiaclinica.domain.port.out.HistoriaCompletaQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.clinica.historiaclinica.infrastructure.adapter.out.persistence.CargadorHistoriaClinica.HISTORIA_COLUMNAS;
+import static com.clinica.historiaclinica.infrastructure.adapter.out.persistence.CargadorHistoriaClinica.HISTORIA_MAPPER;
+
+/**
+ * Lectura en bloque de historias completas: una consulta por tabla con {@code = ANY(?)},
+ * es decir cinco consultas en total sin importar cuantas historias se pidan. Los hijos se
+ * cargan con {@link CargadorHistoriaClinica#cargarHijos}.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcHistoriaCompletaQueryAdapter implements HistoriaCompletaQueryPort {
+
+    private static final String HISTORIAS_SQL = "SELECT " + HISTORIA_COLUMNAS
+            + " FROM historias_clinicas WHERE id = ANY (?) AND obstetra_id = ?";
+
+    private static final String PACIENTES_SQL = """
+            SELECT id, dni, nombre, apellido, fecha_nacimiento, telefono, direccion, obstetra_id, created_at, updated_at
+            FROM pacientes
+            WHERE id = ANY (?)
+            """;
+
+    private static final RowMapper<Paciente> PACIENTE_MAPPER = (rs, rowNum) -> {
+        Date fechaNacimiento = rs.getDate("fecha_nacimiento");
+        return Paciente.builder()
+                .id(rs.getObject("id", UUID.class))
+                .dni(rs.getString("dni"))
+                .nombre(rs.getString("nombre"))
+                .apellido(rs.getString("apellido"))
+                .fechaNacimiento(fechaNacimiento != null ? fechaNacimiento.toLocalDate() : null)
+                .telefono(rs.getString("telefono"))
+                .direccion(rs.getString("direccion"))
+                .obstetraId(rs.getObject("obstetra_id", UUID.class))
+                .createdAt(toInstant(rs.getTimestamp("created_at")))
+                .updatedAt(toInstant(rs.getTimestamp("updated_at")))
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CargadorHistoriaClinica cargador;
+
+    @Override
+    public List<HistoriaCompleta> findCompletasByIds(Collection<UUID> ids, UUID obstetraId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<HistoriaClinica> historias = jdbcTemplate.query(
+                porIds(HISTORIAS_SQL, ids, obstetraId), HISTORIA_MAPPER);
+        if (historias.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> pacienteIds = historias.stream()
+                .map(HistoriaClinica::getPacienteId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, Paciente> pacientes = jdbcTemplate.query(porIds(PACIENTES_SQL, pacienteIds), PACIENTE_MAPPER)
+                .stream()
+                .collect(Collectors.toMap(Paciente::getId, Function.identity()));
+        cargador.cargarHijos(historias);
+
+        return historias.stream()
+                .map(h -> new HistoriaCompleta(h, pacientes.get(h.getPacienteId())))
+                .toList();
+    }
+
+    private static PreparedStatementCreator porIds(String sql, Collection<UUID> ids, Object... adicionales) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", ids.toArray()));
+            for (int i = 0; i < adicionales.length; i++) {
+                ps.setObject(i + 2, adicionales[i]);
+            }
+            return ps;
+        };
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
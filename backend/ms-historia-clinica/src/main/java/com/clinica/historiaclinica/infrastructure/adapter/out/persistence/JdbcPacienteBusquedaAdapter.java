@@ -0,0 +1,85 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.persistence;
+
+import com.clinica.historiaclinica.domain.model.Paciente;
+import com.clinica.historiaclinica.domain.port.out.PacienteBusquedaPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busqueda sobre la columna generada pacientes.busqueda (nombre, apellido y DNI sin tildes ni
+ * mayusculas) con el indice GIN de trigramas. Coincide por subcadena ({@code LIKE}) o por
+ * similitud de palabra ({@code <%}), lo que tolera errores de tipeo, y ordena por
+ * {@code word_similarity}.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcPacienteBusquedaAdapter implements PacienteBusquedaPort {
+
+    private static final String FILTRO = """
+            FROM pacientes
+            WHERE obstetra_id = ?
+              AND (busqueda LIKE '%' || normalizar_busqueda(?) || '%' OR normalizar_busqueda(?) <% busqueda)
+            """;
+
+    private static final String BUSCAR_SQL = """
+            SELECT id, dni, nombre, apellido, fecha_nacimiento, telefono, direccion, obstetra_id, created_at, updated_at
+            """ + FILTRO + """
+            ORDER BY word_similarity(normalizar_busqueda(?), busqueda) DESC, apellido, nombre, id
+            LIMIT ? OFFSET ?
+            """;
+
+    private static final String CONTAR_SQL = "SELECT count(*) " + FILTRO;
+
+    private static final RowMapper<Paciente> PACIENTE_MAPPER = (rs, rowNum) -> {
+        Date fechaNacimiento = rs.getDate("fecha_nacimiento");
+        return Paciente.builder()
+                .id(rs.getObject("id", UUID.class))
+                .dni(rs.getString("dni"))
+                .nombre(rs.getString("nombre"))
+                .apellido(rs.getString("apellido"))
+                .fechaNacimiento(fechaNacimiento != null ? fechaNacimiento.toLocalDate() : null)
+                .telefono(rs.getString("telefono"))
+                .direccion(rs.getString("direccion"))
+                .obstetraId(rs.getObject("obstetra_id", UUID.class))
+                .createdAt(toInstant(rs.getTimestamp("created_at")))
+                .updatedAt(toInstant(rs.getTimestamp("updated_at")))
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<Paciente> buscar(UUID obstetraId, String termino, Pageable pageable) {
+        String normalizado = termino.strip();
+        String patron = escaparLike(normalizado);
+        int limite = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        long desde = pageable.isPaged() ? pageable.getOffset() : 0;
+
+        List<Paciente> pacientes = jdbcTemplate.query(BUSCAR_SQL, PACIENTE_MAPPER,
+                obstetraId, patron, normalizado, normalizado, limite, desde);
+        if (desde == 0 && pacientes.size() < limite) {
+            return new PageImpl<>(pacientes, pageable, pacientes.size());
+        }
+        Long total = jdbcTemplate.queryForObject(CONTAR_SQL, Long.class, obstetraId, patron, normalizado);
+        return new PageImpl<>(pacientes, pageable, total != null ? total : 0);
+    }
+
+    private static String escaparLike(String termino) {
+        return termino.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.clinica.historiaclinica.infrastructure.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HistoriaClinicaRabbitConfig {
+
+    /**
+     * Cola exclusiva por instancia: cada instancia mantiene su propio indice de sugerencias.
+     */
+    @Bean
+    public Queue historiaPacientesIndiceQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding bindingPacientesIndice(Queue historiaPacientesIndiceQueue,
+                                          TopicExchange clinicaEventsExchange) {
+        return BindingBuilder.bind(historiaPacientesIndiceQueue)
+                .to(clinicaEventsExchange)
+                .with("historia.paciente.*");
+    }
+}
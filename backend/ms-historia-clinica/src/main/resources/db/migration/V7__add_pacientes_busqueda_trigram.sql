@@ -0,0 +1,18 @@
+-- Busqueda de pacientes por nombre, apellido o DNI sin distinguir mayusculas ni tildes.
+-- unaccent() no es IMMUTABLE, por eso se envuelve con el diccionario explicito para poder
+-- usarla en una columna generada
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE OR REPLACE FUNCTION normalizar_busqueda(texto TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT lower(public.unaccent('public.unaccent'::regdictionary, texto)) $$;
+
+ALTER TABLE pacientes
+    ADD COLUMN busqueda TEXT GENERATED ALWAYS AS (
+        normalizar_busqueda(nombre || ' ' || apellido || ' ' || dni)
+    ) STORED;
+
+-- obstetra_id en el mismo indice GIN (btree_gin) para filtrar por obstetra y termino en un solo recorrido
+CREATE INDEX idx_pacientes_busqueda_trgm ON pacientes USING gin (obstetra_id, busqueda gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- Listados de historias por obstetra o por paciente ordenados por fecha: el indice entrega las
+-- filas de la pagina ya ordenadas sin ordenar todas las historias del obstetra
+CREATE INDEX idx_historias_obstetra_created ON historias_clinicas (obstetra_id, created_at DESC, id);
+CREATE INDEX idx_historias_paciente_created ON historias_clinicas (paciente_id, created_at DESC, id);
+
+DROP INDEX IF EXISTS idx_historias_obstetra_id;
+DROP INDEX IF EXISTS idx_historias_paciente_id;
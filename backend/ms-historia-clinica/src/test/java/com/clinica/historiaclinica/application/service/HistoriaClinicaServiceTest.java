@@ -4,26 +4,38 @@ import com.clinica.historiaclinica.domain.exception.HistoriaClinicaException;
 import com.clinica.historiaclinica.domain.exception.HistoriaNotFoundException;
 import com.clinica.historiaclinica.domain.exception.PacienteNotFoundException;
 import com.clinica.historiaclinica.domain.model.*;
+import com.clinica.historiaclinica.domain.port.in.ActualizarHistoriaClinicaUseCase;
 import com.clinica.historiaclinica.domain.port.in.CrearHistoriaClinicaUseCase;
+import com.clinica.historiaclinica.domain.port.in.ObtenerHistoriasCompletasUseCase;
+import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaEscrituraPort;
 import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaEventPublisherPort;
+import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaQueryPort;
 import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaRepositoryPort;
+import com.clinica.historiaclinica.domain.port.out.HistoriaCompletaQueryPort;
 import com.clinica.historiaclinica.domain.port.out.PacienteRepositoryPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +50,15 @@ class HistoriaClinicaServiceTest {
     @Mock
     private HistoriaClinicaEventPublisherPort eventPublisher;
 
+    @Mock
+    private HistoriaCompletaQueryPort historiaCompletaQuery;
+
+    @Mock
+    private HistoriaClinicaQueryPort historiaQuery;
+
+    @Mock
+    private HistoriaClinicaEscrituraPort historiaEscritura;
+
     @InjectMocks
     private HistoriaClinicaService historiaService;
 
@@ -126,6 +147,50 @@ class HistoriaClinicaServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("actualizar()")
+    class Actualizar {
+
+        @Test
+        @DisplayName("Debe persistir solo la seccion editada conservando su id")
+        void debePersistirSoloLaSeccionEditada() {
+            HistoriaClinica historia = crearHistoria(EstadoHistoria.BORRADOR);
+            SeccionClinica seccion = historia.getSecciones().get(0);
+            when(historiaQuery.findCompletaById(historia.getId())).thenReturn(Optional.of(historia));
+
+            HistoriaClinica result = historiaService.actualizar(new ActualizarHistoriaClinicaUseCase.ActualizarHistoriaCommand(
+                    historia.getId(), obstetraId, null,
+                    List.of(new ActualizarHistoriaClinicaUseCase.SeccionCommand(
+                            null, seccion.getTipo(), "Contenido corregido", seccion.getOrigen(), seccion.getOrden())),
+                    null, null));
+
+            ArgumentCaptor<CambiosHistoria> cambios = ArgumentCaptor.forClass(CambiosHistoria.class);
+            verify(historiaEscritura).actualizar(any(), eq(0L), cambios.capture());
+            assertEquals(1, cambios.getValue().secciones().actualizados().size());
+            assertTrue(cambios.getValue().secciones().insertados().isEmpty());
+            assertTrue(cambios.getValue().secciones().eliminados().isEmpty());
+            assertTrue(cambios.getValue().eventos().vacio());
+            assertTrue(cambios.getValue().medicamentos().vacio());
+            assertEquals(seccion.getId(), result.getSecciones().get(0).getId());
+            assertEquals(1L, result.getJpaVersion());
+            verify(historiaRepository, never()).save(any());
+            verify(eventPublisher).publish(any());
+        }
+
+        @Test
+        @DisplayName("Debe fallar si la historia esta finalizada")
+        void debeFallarSiNoEsEditable() {
+            HistoriaClinica historia = crearHistoria(EstadoHistoria.FINALIZADA);
+            when(historiaQuery.findCompletaById(historia.getId())).thenReturn(Optional.of(historia));
+
+            var command = new ActualizarHistoriaClinicaUseCase.ActualizarHistoriaCommand(
+                    historia.getId(), obstetraId, "Notas", null, null, null);
+
+            assertThrows(HistoriaClinicaException.class, () -> historiaService.actualizar(command));
+            verifyNoInteractions(historiaEscritura);
+        }
+    }
+
     @Nested
     @DisplayName("finalizar()")
     class Finalizar {
@@ -172,7 +237,7 @@ class HistoriaClinicaServiceTest {
         @DisplayName("Debe obtener historia por ID")
         void debeObtenerHistoria() {
             HistoriaClinica historia = crearHistoria(EstadoHistoria.BORRADOR);
-            when(historiaRepository.findById(historia.getId())).thenReturn(Optional.of(historia));
+            when(historiaQuery.findCompletaById(historia.getId())).thenReturn(Optional.of(historia));
 
             HistoriaClinica result = historiaService.obtenerPorId(historia.getId(), obstetraId);
 
@@ -183,10 +248,87 @@ class HistoriaClinicaServiceTest {
         @DisplayName("Debe fallar si no es owner")
         void debeFallarSiNoEsOwner() {
             HistoriaClinica historia = crearHistoria(EstadoHistoria.BORRADOR);
-            when(historiaRepository.findById(historia.getId())).thenReturn(Optional.of(historia));
+            when(historiaQuery.findCompletaById(historia.getId())).thenReturn(Optional.of(historia));
 
             assertThrows(HistoriaClinicaException.class,
                     () -> historiaService.obtenerPorId(historia.getId(), UUID.randomUUID()));
         }
     }
+
+    @Nested
+    @DisplayName("listarPorObstetra()")
+    class ListarPorObstetra {
+
+        @Test
+        @DisplayName("Debe delegar la pagina con el alcance de carga solicitado")
+        void debeListarConAlcance() {
+            Pageable pageable = PageRequest.of(0, 20);
+            Page<HistoriaClinica> pagina = new PageImpl<>(List.of(crearHistoria(EstadoHistoria.BORRADOR)));
+            when(historiaQuery.findByObstetraId(obstetraId, pageable, AlcanceCarga.CABECERA)).thenReturn(pagina);
+
+            Page<HistoriaClinica> result = historiaService.listarPorObstetra(obstetraId, pageable, AlcanceCarga.CABECERA);
+
+            assertSame(pagina, result);
+            verifyNoInteractions(historiaRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("listarResumenes()")
+    class ListarResumenes {
+
+        @Test
+        @DisplayName("Debe listar resumenes sin cargar agregados")
+        void debeListarResumenes() {
+            Pageable pageable = PageRequest.of(0, 20);
+            HistoriaResumen resumen = new HistoriaResumen(UUID.randomUUID(), pacienteId, "12345678", "Ana", "Lopez",
+                    1, EstadoHistoria.BORRADOR, 3, Instant.now(), Instant.now());
+            when(historiaQuery.findResumenes(obstetraId, pacienteId, pageable))
+                    .thenReturn(new PageImpl<>(List.of(resumen)));
+
+            Page<HistoriaResumen> result = historiaService.listarResumenes(obstetraId, pacienteId, pageable);
+
+            assertEquals(List.of(resumen), result.getContent());
+            verify(historiaQuery, never()).findByPacienteId(any(), any(), any());
+            verifyNoInteractions(historiaRepository, pacienteRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("obtenerCompletas()")
+    class ObtenerCompletas {
+
+        @Test
+        @DisplayName("Debe devolver las historias en el orden solicitado omitiendo las no encontradas")
+        void debeRespetarOrdenSolicitado() {
+            HistoriaClinica primera = crearHistoria(EstadoHistoria.FINALIZADA);
+            HistoriaClinica segunda = crearHistoria(EstadoHistoria.BORRADOR);
+            UUID inexistente = UUID.randomUUID();
+            List<UUID> ids = List.of(segunda.getId(), inexistente, primera.getId(), segunda.getId());
+
+            when(historiaCompletaQuery.findCompletasByIds(
+                    List.of(segunda.getId(), inexistente, primera.getId()), obstetraId))
+                    .thenReturn(List.of(
+                            new HistoriaCompleta(primera, crearPaciente()),
+                            new HistoriaCompleta(segunda, crearPaciente())));
+
+            List<HistoriaCompleta> result = historiaService.obtenerCompletas(ids, obstetraId);
+
+            assertEquals(2, result.size());
+            assertEquals(segunda.getId(), result.get(0).historia().getId());
+            assertEquals(primera.getId(), result.get(1).historia().getId());
+        }
+
+        @Test
+        @DisplayName("Debe rechazar mas historias que el maximo permitido")
+        void debeRechazarExcesoDeIds() {
+            List<UUID> ids = Stream.generate(UUID::randomUUID)
+                    .limit(ObtenerHistoriasCompletasUseCase.MAX_HISTORIAS + 1)
+                    .toList();
+
+            assertThrows(HistoriaClinicaException.class,
+                    () -> historiaService.obtenerCompletas(ids, obstetraId));
+            verifyNoInteractions(historiaCompletaQuery);
+        }
+    }
 }
@@ -5,6 +5,8 @@ import com.clinica.historiaclinica.domain.exception.PacienteYaExisteException;
 import com.clinica.historiaclinica.domain.model.Paciente;
 import com.clinica.historiaclinica.domain.port.in.CrearPacienteUseCase;
 import com.clinica.historiaclinica.domain.port.out.HistoriaClinicaEventPublisherPort;
+import com.clinica.historiaclinica.domain.port.out.IndicePacientesPort;
+import com.clinica.historiaclinica.domain.port.out.PacienteBusquedaPort;
 import com.clinica.historiaclinica.domain.port.out.PacienteRepositoryPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +35,12 @@ class PacienteServiceTest {
     @Mock
     private PacienteRepositoryPort pacienteRepository;
 
+    @Mock
+    private PacienteBusquedaPort pacienteBusqueda;
+
+    @Mock
+    private IndicePacientesPort indicePacientes;
+
     @Mock
     private HistoriaClinicaEventPublisherPort eventPublisher;
 
@@ -53,6 +66,7 @@ class PacienteServiceTest {
         assertEquals("Ana", result.getNombre());
         assertEquals(obstetraId, result.getObstetraId());
         verify(eventPublisher).publish(any());
+        verify(indicePacientes).registrar(result);
     }
 
     @Test
@@ -107,4 +121,18 @@ class PacienteServiceTest {
         assertThrows(PacienteNotFoundException.class,
                 () -> pacienteService.obtenerPorId(pacienteId, obstetraId));
     }
+
+    @Test
+    @DisplayName("Debe buscar pacientes por el indice de trigramas del obstetra")
+    void debeBuscarPorNombreODni() {
+        Pageable pageable = PageRequest.of(0, 20);
+        Paciente paciente = Paciente.builder().id(UUID.randomUUID()).nombre("Ana").apellido("Lopez").build();
+        when(pacienteBusqueda.buscar(obstetraId, "lopez", pageable)).thenReturn(new PageImpl<>(List.of(paciente)));
+
+        Page<Paciente> result = pacienteService.buscarPorNombreODni(obstetraId, "lopez", pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(paciente, result.getContent().get(0));
+        verifyNoInteractions(pacienteRepository);
+    }
 }
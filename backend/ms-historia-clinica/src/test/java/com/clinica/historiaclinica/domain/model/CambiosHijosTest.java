@@ -0,0 +1,108 @@
+package com.clinica.historiaclinica.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CambiosHijosTest {
+
+    private final Instant creada = Instant.parse("2024-01-10T10:00:00Z");
+    private final Instant ahora = Instant.parse("2024-02-01T12:00:00Z");
+
+    private SeccionClinica seccion(UUID id, TipoSeccion tipo, int orden, String contenido, Instant createdAt) {
+        return SeccionClinica.builder()
+                .id(id)
+                .tipo(tipo)
+                .contenido(contenido)
+                .origen(OrigenContenido.MANUAL)
+                .orden(orden)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("No debe generar cambios si el contenido enviado es igual al almacenado")
+    void noDebeGenerarCambiosSinModificaciones() {
+        SeccionClinica ingreso = seccion(UUID.randomUUID(), TipoSeccion.DATOS_INGRESO, 1, "Ingreso", creada);
+        SeccionClinica parto = seccion(UUID.randomUUID(), TipoSeccion.PARTO, 2, "Parto eutocico", creada);
+
+        CambiosHijos<SeccionClinica> cambios = CambiosHijos.calcular(List.of(ingreso, parto), List.of(
+                seccion(null, TipoSeccion.DATOS_INGRESO, 1, "Ingreso", ahora),
+                seccion(null, TipoSeccion.PARTO, 2, "Parto eutocico", ahora)));
+
+        assertTrue(cambios.vacio());
+        assertSame(ingreso, cambios.resultado().get(0));
+        assertSame(parto, cambios.resultado().get(1));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar solo la seccion editada conservando id y fecha de creacion")
+    void debeActualizarSoloLaSeccionEditada() {
+        SeccionClinica ingreso = seccion(UUID.randomUUID(), TipoSeccion.DATOS_INGRESO, 1, "Ingreso", creada);
+        SeccionClinica parto = seccion(UUID.randomUUID(), TipoSeccion.PARTO, 2, "Parto eutocico", creada);
+
+        CambiosHijos<SeccionClinica> cambios = CambiosHijos.calcular(List.of(ingreso, parto), List.of(
+                seccion(null, TipoSeccion.DATOS_INGRESO, 1, "Ingreso", ahora),
+                seccion(null, TipoSeccion.PARTO, 2, "Parto distocico", ahora)));
+
+        assertEquals(1, cambios.actualizados().size());
+        SeccionClinica actualizada = cambios.actualizados().get(0);
+        assertEquals(parto.getId(), actualizada.getId());
+        assertEquals(creada, actualizada.getCreatedAt());
+        assertEquals(ahora, actualizada.getUpdatedAt());
+        assertEquals("Parto distocico", actualizada.getContenido());
+        assertTrue(cambios.insertados().isEmpty());
+        assertTrue(cambios.eliminados().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe insertar las nuevas y eliminar las que ya no se envian")
+    void debeInsertarYEliminar() {
+        SeccionClinica ingreso = seccion(UUID.randomUUID(), TipoSeccion.DATOS_INGRESO, 1, "Ingreso", creada);
+        SeccionClinica parto = seccion(UUID.randomUUID(), TipoSeccion.PARTO, 2, "Parto eutocico", creada);
+
+        CambiosHijos<SeccionClinica> cambios = CambiosHijos.calcular(List.of(ingreso, parto), List.of(
+                seccion(null, TipoSeccion.DATOS_INGRESO, 1, "Ingreso", ahora),
+                seccion(null, TipoSeccion.PUERPERIO, 3, "Puerperio inmediato", ahora)));
+
+        assertEquals(List.of(parto.getId()), cambios.eliminados());
+        assertEquals(1, cambios.insertados().size());
+        assertNotNull(cambios.insertados().get(0).getId());
+        assertEquals(ahora, cambios.insertados().get(0).getCreatedAt());
+        assertEquals(2, cambios.resultado().size());
+    }
+
+    @Test
+    @DisplayName("Debe emparejar por id enviado aunque cambien tipo y orden")
+    void debeEmparejarPorIdEnviado() {
+        SeccionClinica evolucion = seccion(UUID.randomUUID(), TipoSeccion.EVOLUCION, 4, "Evolucion favorable", creada);
+
+        CambiosHijos<SeccionClinica> cambios = CambiosHijos.calcular(List.of(evolucion), List.of(
+                seccion(evolucion.getId(), TipoSeccion.EVOLUCION, 1, "Evolucion favorable", ahora)));
+
+        assertEquals(1, cambios.actualizados().size());
+        assertEquals(evolucion.getId(), cambios.actualizados().get(0).getId());
+        assertTrue(cambios.insertados().isEmpty());
+        assertTrue(cambios.eliminados().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe emparejar medicamentos por nombre")
+    void debeEmparejarMedicamentosPorNombre() {
+        Medicamento hierro = new Medicamento(UUID.randomUUID(), null, "Sulfato ferroso", "300 mg", "oral",
+                "cada 24 horas", "30 dias", creada);
+
+        CambiosHijos<Medicamento> cambios = CambiosHijos.calcular(List.of(hierro), List.of(
+                new Medicamento(null, null, "Sulfato ferroso", "300 mg", "oral", "cada 12 horas", "30 dias", ahora)));
+
+        assertEquals(1, cambios.actualizados().size());
+        assertEquals(hierro.getId(), cambios.actualizados().get(0).getId());
+        assertEquals("cada 12 horas", cambios.actualizados().get(0).getFrecuencia());
+    }
+}
@@ -0,0 +1,98 @@
+package com.clinica.historiaclinica.infrastructure.adapter.in.rest;
+
+import com.clinica.historiaclinica.domain.model.EstadoHistoria;
+import com.clinica.historiaclinica.domain.model.OrigenContenido;
+import com.clinica.historiaclinica.domain.model.TipoSeccion;
+import com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto.HistoriaClinicaResponse;
+import com.clinica.historiaclinica.infrastructure.adapter.in.rest.dto.HistoriaResumenResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compara tamano y tiempo de serializacion de una pagina de {@link HistoriaClinicaResponse} contra
+ * la misma pagina como {@link HistoriaResumenResponse}, con historias sinteticas de tamano tipico.
+ * No se ejecuta con los tests; lanzar manualmente:
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     com.clinica.historiaclinica.infrastructure.adapter.in.rest.HistoriaResumenPayloadBenchmark [tamanoPagina]
+ * </pre>
+ */
+class HistoriaResumenPayloadBenchmark {
+
+    private static final String PARRAFO = "Paciente refiere contracciones regulares cada cinco minutos, "
+            + "dilatacion de cuatro centimetros, membranas integras, frecuencia cardiaca fetal de 140 latidos por minuto. ";
+
+    public static void main(String[] args) throws Exception {
+        int tamanoPagina = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+        List<HistoriaClinicaResponse> completas = new ArrayList<>();
+        List<HistoriaResumenResponse> resumenes = new ArrayList<>();
+        for (int i = 0; i < tamanoPagina; i++) {
+            completas.add(completa());
+            resumenes.add(resumen());
+        }
+
+        byte[] completo = mapper.writeValueAsBytes(completas);
+        byte[] resumido = mapper.writeValueAsBytes(resumenes);
+        System.out.printf("Pagina de %d: completa %,d bytes (%.2f ms) | resumen %,d bytes (%.2f ms)%n",
+                tamanoPagina,
+                completo.length, medianaMs(() -> escribir(mapper, completas)),
+                resumido.length, medianaMs(() -> escribir(mapper, resumenes)));
+    }
+
+    private static HistoriaClinicaResponse completa() {
+        List<HistoriaClinicaResponse.SeccionResponse> secciones = new ArrayList<>();
+        TipoSeccion[] tipos = TipoSeccion.values();
+        for (int i = 0; i < tipos.length; i++) {
+            secciones.add(new HistoriaClinicaResponse.SeccionResponse(
+                    UUID.randomUUID(), tipos[i], PARRAFO.repeat(8), OrigenContenido.VOZ, i + 1));
+        }
+        List<HistoriaClinicaResponse.EventoResponse> eventos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            eventos.add(new HistoriaClinicaResponse.EventoResponse(
+                    UUID.randomUUID(), "CONTROL_PRENATAL", Instant.now(), 20 + i, PARRAFO));
+        }
+        List<HistoriaClinicaResponse.MedicamentoResponse> medicamentos = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            medicamentos.add(new HistoriaClinicaResponse.MedicamentoResponse(
+                    UUID.randomUUID(), "Sulfato ferroso", "300 mg", "oral", "cada 24 horas", "30 dias"));
+        }
+        return new HistoriaClinicaResponse(UUID.randomUUID(), UUID.randomUUID(), 1, EstadoHistoria.EN_REVISION,
+                PARRAFO.repeat(2), secciones, eventos, medicamentos, Instant.now(), Instant.now());
+    }
+
+    private static HistoriaResumenResponse resumen() {
+        return new HistoriaResumenResponse(UUID.randomUUID(),
+                new HistoriaResumenResponse.PacienteResumen(UUID.randomUUID(), "12345678", "Maria Belen", "Quispe Rojas"),
+                1, EstadoHistoria.EN_REVISION, TipoSeccion.values().length, Instant.now(), Instant.now());
+    }
+
+    private static Object escribir(ObjectMapper mapper, Object valor) {
+        try {
+            return mapper.writeValueAsBytes(valor);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double medianaMs(Supplier<?> operacion) {
+        for (int i = 0; i < 2_000; i++) {
+            operacion.get();
+        }
+        long[] tiempos = new long[501];
+        for (int i = 0; i < tiempos.length; i++) {
+            long inicio = System.nanoTime();
+            operacion.get();
+            tiempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tiempos);
+        return tiempos[tiempos.length / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.indice;
+
+import com.clinica.historiaclinica.domain.model.Paciente;
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InMemoryIndicePacientesAdapterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final InMemoryIndicePacientesAdapter adapter =
+            new InMemoryIndicePacientesAdapter(jdbcTemplate, new SimpleMeterRegistry(), 10);
+
+    @Test
+    @DisplayName("Debe aplicar las altas registradas mientras el indice del obstetra se esta cargando")
+    void debeAplicarAltasDuranteLaCarga() throws Exception {
+        UUID obstetraId = UUID.randomUUID();
+        SugerenciaPaciente existente = new SugerenciaPaciente(UUID.randomUUID(), "12345678", "Ana", "Rojas");
+        CountDownLatch consultando = new CountDownLatch(1);
+        CountDownLatch continuar = new CountDownLatch(1);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(obstetraId))).thenAnswer(inv -> {
+            consultando.countDown();
+            assertTrue(continuar.await(5, TimeUnit.SECONDS));
+            return List.of(existente);
+        });
+
+        CompletableFuture<List<SugerenciaPaciente>> sugerencias =
+                CompletableFuture.supplyAsync(() -> adapter.sugerir(obstetraId, "ro", 10));
+        assertTrue(consultando.await(5, TimeUnit.SECONDS));
+        Paciente alta = Paciente.builder()
+                .id(UUID.randomUUID()).dni("87654321").nombre("Lucia").apellido("Romero").obstetraId(obstetraId)
+                .build();
+        adapter.registrar(alta);
+        continuar.countDown();
+
+        assertEquals(2, sugerencias.get(5, TimeUnit.SECONDS).size());
+        assertEquals(2, adapter.sugerir(obstetraId, "ro", 10).size());
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(obstetraId));
+    }
+
+    @Test
+    @DisplayName("Debe volver a cargar el indice si la carga anterior fallo")
+    void debeReintentarTrasUnaCargaFallida() {
+        UUID obstetraId = UUID.randomUUID();
+        SugerenciaPaciente paciente = new SugerenciaPaciente(UUID.randomUUID(), "12345678", "Ana", "Rojas");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(obstetraId)))
+                .thenThrow(new DataAccessResourceFailureException("sin conexion"))
+                .thenReturn(List.of(paciente));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> adapter.sugerir(obstetraId, "ro", 10));
+        assertEquals(List.of(paciente), adapter.sugerir(obstetraId, "ro", 10));
+    }
+}
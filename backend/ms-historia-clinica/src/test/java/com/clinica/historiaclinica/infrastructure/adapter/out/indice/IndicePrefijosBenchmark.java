@@ -0,0 +1,69 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.indice;
+
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mide la latencia de {@link IndicePrefijos#sugerir} y el costo de reconstruir el indice tras un
+ * alta, con pacientes sinteticos de un solo obstetra. No se ejecuta con los tests; lanzar
+ * manualmente:
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     com.clinica.historiaclinica.infrastructure.adapter.out.indice.IndicePrefijosBenchmark [pacientes]
+ * </pre>
+ */
+class IndicePrefijosBenchmark {
+
+    private static final String[] NOMBRES = {"Maria", "Ana", "Lucia", "Sofia", "Valentina", "Camila", "Josefina",
+            "Martina", "Ines", "Rocio", "Belen", "Jose", "Paz", "Luz", "Alejandra", "Noemi", "Raquel"};
+    private static final String[] APELLIDOS = {"Garcia", "Rodriguez", "Gonzalez", "Fernandez", "Lopez", "Martinez",
+            "Sanchez", "Perez", "Gomez", "Martin", "Jimenez", "Ruiz", "Hernandez", "Diaz", "Moreno", "Munoz",
+            "Alvarez", "Romero", "Quispe", "Mamani", "Nunez", "Ibáñez", "Castañeda", "Vega", "Rojas", "Flores"};
+
+    public static void main(String[] args) {
+        int cantidad = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        List<SugerenciaPaciente> pacientes = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            pacientes.add(new SugerenciaPaciente(UUID.randomUUID(), String.format("%08d", 10_000_000 + i * 7919 % 90_000_000),
+                    NOMBRES[i % NOMBRES.length] + " " + NOMBRES[(i / 7) % NOMBRES.length],
+                    APELLIDOS[(i / 3) % APELLIDOS.length] + " " + APELLIDOS[(i / 11) % APELLIDOS.length]));
+        }
+
+        IndicePrefijos indice = IndicePrefijos.construir(pacientes);
+        for (int i = 0; i < 20; i++) {
+            indice = IndicePrefijos.construir(pacientes);
+        }
+        System.out.printf("%d pacientes, construccion %.2f ms, alta %.2f ms%n", cantidad,
+                medianaMs(() -> IndicePrefijos.construir(pacientes)),
+                medianaMs(indiceCon(indice, pacientes.get(0))));
+
+        for (String consulta : List.of("m", "ma", "quis", "ibañ", "mar rod", "100", "zz")) {
+            IndicePrefijos actual = indice;
+            for (int i = 0; i < 10_000; i++) {
+                actual.sugerir(consulta, 10);
+            }
+            double ms = medianaMs(() -> actual.sugerir(consulta, 10));
+            System.out.printf("%-8s %7.4f ms (%d resultados)%n", consulta, ms, actual.sugerir(consulta, 10).size());
+        }
+    }
+
+    private static Runnable indiceCon(IndicePrefijos indice, SugerenciaPaciente paciente) {
+        SugerenciaPaciente modificado = new SugerenciaPaciente(paciente.id(), paciente.dni(), "Renombrada", paciente.apellido());
+        return () -> indice.con(modificado);
+    }
+
+    private static double medianaMs(Runnable operacion) {
+        long[] tiempos = new long[201];
+        for (int i = 0; i < tiempos.length; i++) {
+            long inicio = System.nanoTime();
+            operacion.run();
+            tiempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tiempos);
+        return tiempos[tiempos.length / 2] / 1_000_000.0;
+    }
+}
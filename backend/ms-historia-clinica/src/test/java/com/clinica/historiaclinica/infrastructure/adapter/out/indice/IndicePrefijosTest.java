@@ -0,0 +1,62 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.indice;
+
+import com.clinica.historiaclinica.domain.model.SugerenciaPaciente;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndicePrefijosTest {
+
+    private final SugerenciaPaciente ana = paciente("12345678", "Ana Maria", "Ibáñez Rojas");
+    private final SugerenciaPaciente lucia = paciente("87654321", "Lucia", "Ibarra");
+    private final SugerenciaPaciente sofia = paciente("12399999", "Sofia", "Quispe");
+
+    private final IndicePrefijos indice = IndicePrefijos.construir(List.of(ana, lucia, sofia));
+
+    @Test
+    @DisplayName("Debe sugerir por prefijo de apellido sin importar tildes ni mayusculas")
+    void debeSugerirPorPrefijoDeApellido() {
+        List<SugerenciaPaciente> resultado = indice.sugerir("IBA", 10);
+
+        assertEquals(2, resultado.size());
+        assertTrue(resultado.containsAll(List.of(ana, lucia)));
+    }
+
+    @Test
+    @DisplayName("Debe exigir que cada palabra de la consulta coincida con alguna palabra del paciente")
+    void debeCombinarPalabrasDeLaConsulta() {
+        assertEquals(List.of(ana), indice.sugerir("rojas ib", 10));
+        assertEquals(List.of(ana), indice.sugerir("mar ibañ", 10));
+        assertTrue(indice.sugerir("lucia rojas", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe sugerir por prefijo de DNI respetando el limite")
+    void debeSugerirPorDniConLimite() {
+        assertEquals(2, indice.sugerir("123", 10).size());
+        assertEquals(1, indice.sugerir("123", 1).size());
+        assertTrue(indice.sugerir("   ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar al paciente actualizado sin modificar el indice original")
+    void debeReemplazarPacienteActualizado() {
+        SugerenciaPaciente renombrada = new SugerenciaPaciente(lucia.id(), lucia.dni(), "Lucia", "Mamani");
+
+        IndicePrefijos actualizado = indice.con(renombrada);
+
+        assertEquals(List.of(renombrada), actualizado.sugerir("mam", 10));
+        assertTrue(actualizado.sugerir("ibarra", 10).isEmpty());
+        assertEquals(List.of(lucia), indice.sugerir("ibarra", 10));
+        assertEquals(3, actualizado.tamano());
+        assertSame(actualizado, actualizado.con(renombrada));
+    }
+
+    private static SugerenciaPaciente paciente(String dni, String nombre, String apellido) {
+        return new SugerenciaPaciente(UUID.randomUUID(), dni, nombre, apellido);
+    }
+}
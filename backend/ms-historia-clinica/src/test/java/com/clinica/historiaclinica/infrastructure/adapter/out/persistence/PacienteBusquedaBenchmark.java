@@ -0,0 +1,129 @@
+package com.clinica.historiaclinica.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compara la busqueda de pacientes por subcadena sobre nombre/apellido/dni (sin indice utilizable)
+ * con {@link JdbcPacienteBusquedaAdapter} sobre el indice GIN de trigramas. Necesita una base con
+ * las migraciones aplicadas; si tiene menos pacientes que los pedidos, los genera. No se ejecuta con
+ * los tests; lanzar manualmente:
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     com.clinica.historiaclinica.infrastructure.adapter.out.persistence.PacienteBusquedaBenchmark \
+ *     [jdbcUrl] [usuario] [password] [pacientes] [obstetras]
+ * </pre>
+ * Reporta la mediana de latencia de cada consulta y el nodo principal de su plan.
+ */
+class PacienteBusquedaBenchmark {
+
+    private static final String SUBCADENA_SQL = """
+            SELECT id FROM pacientes
+            WHERE obstetra_id = ?
+              AND (lower(nombre) LIKE ? OR lower(apellido) LIKE ? OR dni LIKE ?)
+            ORDER BY apellido, nombre
+            LIMIT 20
+            """;
+
+    private static final String SEMBRAR_SQL = """
+            INSERT INTO pacientes (id, dni, nombre, apellido, obstetra_id, created_at, updated_at)
+            SELECT gen_random_uuid(),
+                   'B' || lpad(g::text, 9, '0'),
+                   (ARRAY['Maria','Ana','Lucia','Sofia','Valentina','Camila','Josefina','Martina','Ines','Rocio'])[1 + g % 10]
+                       || ' ' || (ARRAY['Belen','Jose','Paz','Luz','Alejandra','Noemi','Raquel'])[1 + (g / 10) % 7],
+                   (ARRAY['Garcia','Rodriguez','Gonzalez','Fernandez','Lopez','Martinez','Sanchez','Perez',
+                          'Gomez','Martin','Jimenez','Ruiz','Hernandez','Diaz','Moreno','Munoz','Alvarez',
+                          'Romero','Quispe','Mamani','Nunez','Ibanez','Castaneda'])[1 + (g / 70) % 23]
+                       || ' ' || (ARRAY['Vega','Rojas','Flores','Torres','Ramos','Chavez','Vargas','Ortiz'])[1 + (g / 3) % 8],
+                   (?::uuid[])[1 + g % ?],
+                   now(), now()
+            FROM generate_series(?, ?) g
+            """;
+
+    public static void main(String[] args) {
+        String url = args.length > 0 ? args[0] : "jdbc:postgresql://localhost:5433/db_historia";
+        String usuario = args.length > 1 ? args[1] : "clinica";
+        String password = args.length > 2 ? args[2] : "clinica_dev";
+        int pacientes = args.length > 3 ? Integer.parseInt(args[3]) : 500_000;
+        int obstetras = args.length > 4 ? Integer.parseInt(args[4]) : 50;
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, usuario, password));
+        JdbcPacienteBusquedaAdapter adapter = new JdbcPacienteBusquedaAdapter(jdbcTemplate);
+
+        List<UUID> ids = sembrar(jdbcTemplate, pacientes, obstetras);
+        UUID obstetraId = ids.get(0);
+        Long delObstetra = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pacientes WHERE obstetra_id = ?", Long.class, obstetraId);
+        System.out.printf("%d pacientes en total, %d del obstetra medido%n",
+                jdbcTemplate.queryForObject("SELECT count(*) FROM pacientes", Long.class), delObstetra);
+
+        for (String termino : List.of("quispe", "ibanez", "ibáñez", "marta", "B000012", "gonzales")) {
+            String patron = "%" + termino.toLowerCase() + "%";
+            double subcadena = medianaMs(() -> jdbcTemplate.queryForList(
+                    SUBCADENA_SQL, UUID.class, obstetraId, patron, patron, patron));
+            double trigramas = medianaMs(() -> adapter.buscar(obstetraId, termino, PageRequest.of(0, 20)));
+            int encontrados = adapter.buscar(obstetraId, termino, PageRequest.of(0, 20)).getNumberOfElements();
+            System.out.printf("%-10s subcadena %7.2f ms | trigramas %7.2f ms (%2d resultados) | plan: %s%n",
+                    termino, subcadena, trigramas, encontrados, planPrincipal(jdbcTemplate, obstetraId, termino));
+        }
+    }
+
+    private static List<UUID> sembrar(JdbcTemplate jdbcTemplate, int pacientes, int obstetras) {
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT obstetra_id FROM pacientes WHERE dni LIKE 'B%' GROUP BY obstetra_id ORDER BY count(*) DESC",
+                UUID.class);
+        Long existentes = jdbcTemplate.queryForObject("SELECT count(*) FROM pacientes WHERE dni LIKE 'B%'", Long.class);
+        if (existentes != null && existentes >= pacientes) {
+            return ids;
+        }
+        ids = new ArrayList<>();
+        for (int i = 0; i < obstetras; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        UUID[] arreglo = ids.toArray(UUID[]::new);
+        int bloque = 50_000;
+        for (int inicio = (int) (existentes != null ? existentes : 0) + 1; inicio <= pacientes; inicio += bloque) {
+            int desde = inicio;
+            int hasta = Math.min(pacientes, inicio + bloque - 1);
+            jdbcTemplate.update(con -> {
+                var ps = con.prepareStatement(SEMBRAR_SQL);
+                ps.setArray(1, con.createArrayOf("uuid", arreglo));
+                ps.setInt(2, arreglo.length);
+                ps.setInt(3, desde);
+                ps.setInt(4, hasta);
+                return ps;
+            });
+            System.out.printf("Sembrados %d/%d%n", hasta, pacientes);
+        }
+        jdbcTemplate.execute("ANALYZE pacientes");
+        return Arrays.asList(arreglo);
+    }
+
+    private static String planPrincipal(JdbcTemplate jdbcTemplate, UUID obstetraId, String termino) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN SELECT id FROM pacientes WHERE obstetra_id = '"
+                + obstetraId + "' AND (busqueda LIKE '%' || normalizar_busqueda('" + termino.replace("'", "''")
+                + "') || '%' OR normalizar_busqueda('" + termino.replace("'", "''") + "') <% busqueda)", String.class);
+        return plan.stream().filter(l -> l.contains("Scan")).findFirst().orElse(plan.get(0)).strip();
+    }
+
+    private static double medianaMs(Supplier<?> consulta) {
+        for (int i = 0; i < 3; i++) {
+            consulta.get();
+        }
+        long[] tiempos = new long[15];
+        for (int i = 0; i < tiempos.length; i++) {
+            long inicio = System.nanoTime();
+            consulta.get();
+            tiempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tiempos);
+        return tiempos[tiempos.length / 2] / 1_000_000.0;
+    }
+}
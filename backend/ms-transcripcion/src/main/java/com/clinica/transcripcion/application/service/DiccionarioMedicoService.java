@@ -0,0 +1,63 @@
+package com.clinica.transcripcion.application.service;
+
+import com.clinica.shared.domain.event.AuditableEvent;
+import com.clinica.transcripcion.domain.model.DiccionarioMedicoInfo;
+import com.clinica.transcripcion.domain.port.in.ObtenerDiccionarioUseCase;
+import com.clinica.transcripcion.domain.port.in.RecargarDiccionarioUseCase;
+import com.clinica.transcripcion.domain.port.out.DiccionarioMedicoCachePort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * El aviso de recarga lleva como resourceId el identificador de la instancia que lo emitio,
+ * asi esa instancia no vuelve a cargar el diccionario al recibir su propio evento.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiccionarioMedicoService implements RecargarDiccionarioUseCase, ObtenerDiccionarioUseCase {
+
+    public static final String EVENTO_DICCIONARIO_ACTUALIZADO = "transcripcion.diccionario.actualizado";
+
+    private final DiccionarioMedicoCachePort diccionarioCache;
+    private final TranscripcionEventPublisherPort eventPublisher;
+    private final UUID instanciaId = UUID.randomUUID();
+
+    @Override
+    @Transactional
+    public DiccionarioMedicoInfo recargar(UUID usuarioId) {
+        DiccionarioMedicoInfo info = diccionarioCache.recargar();
+        eventPublisher.publish(AuditableEvent.create(
+                EVENTO_DICCIONARIO_ACTUALIZADO,
+                usuarioId,
+                null,
+                "RECARGAR",
+                "DICCIONARIO_MEDICO",
+                instanciaId,
+                null,
+                "version=" + info.version() + ", terminos=" + info.terminos(),
+                null,
+                "ms-transcripcion"
+        ));
+        return info;
+    }
+
+    @Override
+    public void recargarPorAviso(UUID instanciaOrigen) {
+        if (instanciaId.equals(instanciaOrigen)) {
+            return;
+        }
+        log.debug("Recargando diccionario medico por aviso de la instancia {}", instanciaOrigen);
+        diccionarioCache.recargar();
+    }
+
+    @Override
+    public DiccionarioMedicoInfo obtenerInfo() {
+        return diccionarioCache.actual();
+    }
+}
@@ -0,0 +1,191 @@
+package com.clinica.transcripcion.application.service;
+
+import com.clinica.shared.domain.event.AuditableEvent;
+import com.clinica.shared.exception.DomainException;
+import com.clinica.transcripcion.domain.exception.LimiteDictadoException;
+import com.clinica.transcripcion.domain.exception.SesionDictadoNotFoundException;
+import com.clinica.transcripcion.domain.model.EstadoTranscripcion;
+import com.clinica.transcripcion.domain.model.FragmentoNormalizado;
+import com.clinica.transcripcion.domain.model.OyenteDictado;
+import com.clinica.transcripcion.domain.model.OrigenTranscripcion;
+import com.clinica.transcripcion.domain.model.SesionDictado;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+import com.clinica.transcripcion.domain.port.in.DictadoIncrementalUseCase;
+import com.clinica.transcripcion.domain.port.out.NormalizadorMedicoPort;
+import com.clinica.transcripcion.domain.port.out.NotificadorDictadoPort;
+import com.clinica.transcripcion.domain.port.out.SesionDictadoRepositoryPort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Normaliza cada fragmento apenas llega para devolver el parcial al cliente, pero al finalizar
+ * vuelve a normalizar el texto completo: asi se reconocen tambien los terminos que quedaron
+ * partidos entre dos fragmentos. La transcripcion se persiste una sola vez, al cerrar el dictado.
+ * Los dictados viven en memoria, por eso se limitan las sesiones abiertas por obstetra y los
+ * fragmentos por sesion.
+ */
+@Slf4j
+@Service
+public class DictadoIncrementalService implements DictadoIncrementalUseCase {
+
+    private final SesionDictadoRepositoryPort sesionRepository;
+    private final TranscripcionRepositoryPort transcripcionRepository;
+    private final TranscripcionEventPublisherPort eventPublisher;
+    private final NormalizadorMedicoPort normalizadorMedico;
+    private final NotificadorDictadoPort notificador;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSesionesPorObstetra;
+    private final int maxFragmentos;
+
+    public DictadoIncrementalService(SesionDictadoRepositoryPort sesionRepository,
+                                     TranscripcionRepositoryPort transcripcionRepository,
+                                     TranscripcionEventPublisherPort eventPublisher,
+                                     NormalizadorMedicoPort normalizadorMedico,
+                                     NotificadorDictadoPort notificador,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${transcripcion.dictado.max-sesiones-por-obstetra:5}") int maxSesionesPorObstetra,
+                                     @Value("${transcripcion.dictado.max-fragmentos:500}") int maxFragmentos) {
+        this.sesionRepository = sesionRepository;
+        this.transcripcionRepository = transcripcionRepository;
+        this.eventPublisher = eventPublisher;
+        this.normalizadorMedico = normalizadorMedico;
+        this.notificador = notificador;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSesionesPorObstetra = maxSesionesPorObstetra;
+        this.maxFragmentos = maxFragmentos;
+    }
+
+    @Override
+    public synchronized SesionDictado iniciar(UUID historiaClinicaId, UUID obstetraId) {
+        long abiertas = sesionRepository.listar().stream()
+                .filter(s -> s.getObstetraId().equals(obstetraId))
+                .count();
+        if (abiertas >= maxSesionesPorObstetra) {
+            throw new LimiteDictadoException("Ya tiene " + abiertas
+                    + " dictados abiertos; finalice alguno antes de iniciar otro");
+        }
+        SesionDictado sesion = new SesionDictado(UUID.randomUUID(), historiaClinicaId, obstetraId);
+        sesionRepository.guardar(sesion);
+        return sesion;
+    }
+
+    @Override
+    public SesionDictado obtener(UUID sesionId, UUID obstetraId) {
+        SesionDictado sesion = sesionRepository.buscar(sesionId)
+                .orElseThrow(() -> new SesionDictadoNotFoundException(sesionId));
+        if (!sesion.getObstetraId().equals(obstetraId)) {
+            throw new SesionDictadoNotFoundException(sesionId);
+        }
+        return sesion;
+    }
+
+    @Override
+    public Runnable suscribir(UUID sesionId, UUID obstetraId, OyenteDictado oyente) {
+        obtener(sesionId, obstetraId);
+        return notificador.suscribir(sesionId, oyente);
+    }
+
+    @Override
+    public FragmentoNormalizado agregarFragmento(UUID sesionId, UUID obstetraId, int secuencia, String texto) {
+        SesionDictado sesion = obtener(sesionId, obstetraId);
+        FragmentoNormalizado fragmento = new FragmentoNormalizado(
+                sesionId, secuencia, texto, normalizadorMedico.normalizar(texto));
+        if (sesion.agregarFragmento(secuencia, texto, maxFragmentos)) {
+            notificador.fragmento(fragmento);
+        }
+        return fragmento;
+    }
+
+    @Override
+    public Transcripcion finalizar(UUID sesionId, UUID obstetraId) {
+        if (obtener(sesionId, obstetraId).textoCompleto().isBlank()) {
+            throw new DomainException("El dictado no tiene texto para guardar");
+        }
+        SesionDictado sesion = sesionRepository.quitar(sesionId)
+                .orElseThrow(() -> new SesionDictadoNotFoundException(sesionId));
+        Transcripcion transcripcion = persistirOReponer(sesion);
+        notificador.finalizado(sesionId, transcripcion);
+        return transcripcion;
+    }
+
+    @Override
+    public int expirarInactivas(Duration inactividadMaxima) {
+        Instant limite = Instant.now().minus(inactividadMaxima);
+        int expiradas = 0;
+        for (SesionDictado candidata : sesionRepository.listar()) {
+            if (!candidata.inactivaDesde(limite)) {
+                continue;
+            }
+            SesionDictado sesion = sesionRepository.quitar(candidata.getId()).orElse(null);
+            if (sesion == null) {
+                continue;
+            }
+            if (sesion.textoCompleto().isBlank()) {
+                expiradas++;
+                notificador.descartado(sesion.getId());
+                continue;
+            }
+            try {
+                notificador.finalizado(sesion.getId(), persistirOReponer(sesion));
+                expiradas++;
+            } catch (Exception e) {
+                log.error("No se pudo guardar el dictado inactivo {}, se reintentara: {}",
+                        sesion.getId(), e.getMessage(), e);
+            }
+        }
+        return expiradas;
+    }
+
+    /**
+     * Quitar la sesion antes de persistir evita que dos cierres simultaneos la guarden dos veces;
+     * si la escritura falla se repone para no perder el dictado.
+     */
+    private Transcripcion persistirOReponer(SesionDictado sesion) {
+        try {
+            return persistir(sesion);
+        } catch (RuntimeException e) {
+            sesionRepository.guardar(sesion);
+            throw e;
+        }
+    }
+
+    private Transcripcion persistir(SesionDictado sesion) {
+        String textoOriginal = sesion.textoCompleto();
+        Transcripcion transcripcion = Transcripcion.builder()
+                .id(UUID.randomUUID())
+                .historiaClinicaId(sesion.getHistoriaClinicaId())
+                .obstetraId(sesion.getObstetraId())
+                .textoOriginal(textoOriginal)
+                .estado(EstadoTranscripcion.PROCESANDO)
+                .origen(OrigenTranscripcion.WEB_SPEECH_API)
+                .createdAt(sesion.getCreatedAt())
+                .updatedAt(Instant.now())
+                .build();
+        transcripcion.completar(normalizadorMedico.normalizar(textoOriginal));
+
+        return transactionTemplate.execute(status -> {
+            Transcripcion saved = transcripcionRepository.save(transcripcion);
+            eventPublisher.publish(AuditableEvent.create(
+                    "transcripcion.completada",
+                    saved.getObstetraId(),
+                    null,
+                    "TRANSCRIBIR",
+                    "TRANSCRIPCION",
+                    saved.getId(),
+                    null,
+                    null,
+                    null,
+                    "ms-transcripcion"
+            ));
+            return saved;
+        });
+    }
+}
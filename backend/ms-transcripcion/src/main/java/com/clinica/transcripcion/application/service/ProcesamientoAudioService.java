@@ -0,0 +1,78 @@
+package com.clinica.transcripcion.application.service;
+
+import com.clinica.shared.domain.event.AuditableEvent;
+import com.clinica.transcripcion.domain.model.AudioPendiente;
+import com.clinica.transcripcion.domain.model.EstadoTranscripcion;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+import com.clinica.transcripcion.domain.port.in.ProcesarAudioPendienteUseCase;
+import com.clinica.transcripcion.domain.port.out.AudioPendienteStorePort;
+import com.clinica.transcripcion.domain.port.out.NormalizadorMedicoPort;
+import com.clinica.transcripcion.domain.port.out.SpeechToTextPort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionColaPort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+
+/**
+ * Transcribe y normaliza un audio reclamado de la cola. El speech-to-text corre sin transaccion
+ * abierta; solo la escritura del resultado, el borrado del audio y el evento van en una.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcesamientoAudioService implements ProcesarAudioPendienteUseCase {
+
+    private final TranscripcionColaPort transcripcionCola;
+    private final AudioPendienteStorePort audioPendienteStore;
+    private final TranscripcionEventPublisherPort eventPublisher;
+    private final NormalizadorMedicoPort normalizadorMedico;
+    private final SpeechToTextPort speechToText;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void procesarPendiente(Transcripcion transcripcion) {
+        try {
+            AudioPendiente audio = audioPendienteStore.buscar(transcripcion.getId())
+                    .orElseThrow(() -> new IllegalStateException("Audio no disponible para la transcripcion"));
+            String textoTranscrito;
+            try (InputStream in = audio.abrir()) {
+                textoTranscrito = speechToText.transcribir(in, audio.contentType());
+            }
+            transcripcion.registrarTextoOriginal(textoTranscrito);
+            transcripcion.completar(normalizadorMedico.normalizar(textoTranscrito));
+        } catch (Exception e) {
+            log.error("Error procesando audio de la transcripcion {}: {}", transcripcion.getId(), e.getMessage(), e);
+            transcripcion.marcarError(e.getMessage());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!transcripcionCola.finalizar(transcripcion)) {
+                log.warn("La transcripcion {} ya no estaba en proceso; se descarta el resultado", transcripcion.getId());
+                return;
+            }
+            audioPendienteStore.eliminar(transcripcion.getId());
+            if (transcripcion.getEstado() == EstadoTranscripcion.COMPLETADA) {
+                publishCompletadaEvent(transcripcion);
+            }
+        });
+    }
+
+    private void publishCompletadaEvent(Transcripcion transcripcion) {
+        eventPublisher.publish(AuditableEvent.create(
+                "transcripcion.completada",
+                transcripcion.getObstetraId(),
+                null,
+                "TRANSCRIBIR",
+                "TRANSCRIPCION",
+                transcripcion.getId(),
+                null,
+                null,
+                null,
+                "ms-transcripcion"
+        ));
+    }
+}
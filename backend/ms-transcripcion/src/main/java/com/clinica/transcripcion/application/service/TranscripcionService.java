@@ -7,8 +7,8 @@ import com.clinica.transcripcion.domain.model.Transcripcion;
 import com.clinica.transcripcion.domain.port.in.ObtenerTranscripcionUseCase;
 import com.clinica.transcripcion.domain.port.in.ProcesarAudioUseCase;
 import com.clinica.transcripcion.domain.port.in.ProcesarTextoUseCase;
+import com.clinica.transcripcion.domain.port.out.AudioPendienteStorePort;
 import com.clinica.transcripcion.domain.port.out.NormalizadorMedicoPort;
-import com.clinica.transcripcion.domain.port.out.SpeechToTextPort;
 import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
 import com.clinica.transcripcion.domain.port.out.TranscripcionRepositoryPort;
 import com.clinica.shared.domain.event.AuditableEvent;
@@ -18,6 +18,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -30,7 +31,8 @@ public class TranscripcionService implements ProcesarTextoUseCase, ProcesarAudio
     private final TranscripcionRepositoryPort transcripcionRepository;
     private final TranscripcionEventPublisherPort eventPublisher;
     private final NormalizadorMedicoPort normalizadorMedico;
-    private final SpeechToTextPort speechToText;
+    private final AudioPendienteStorePort audioPendienteStore;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
@@ -63,46 +65,32 @@ public class TranscripcionService implements ProcesarTextoUseCase, ProcesarAudio
         return saved;
     }
 
+    /**
+     * Copia el audio al almacen antes de abrir la transaccion, asi una subida lenta no retiene una
+     * conexion; despues registra la transcripcion como PENDIENTE para que la tome el worker.
+     */
     @Override
-    @Transactional
     public Transcripcion procesar(ProcesarAudioCommand command) {
-        Transcripcion transcripcion = Transcripcion.builder()
-                .id(UUID.randomUUID())
-                .historiaClinicaId(command.historiaClinicaId())
-                .obstetraId(command.obstetraId())
-                .estado(EstadoTranscripcion.PROCESANDO)
-                .origen(OrigenTranscripcion.AUDIO_UPLOAD)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .build();
-
+        UUID id = UUID.randomUUID();
+        long tamanoBytes = audioPendienteStore.guardarContenido(id, command.audio());
         try {
-            String textoTranscrito = speechToText.transcribir(command.audioData(), command.contentType());
-            transcripcion = Transcripcion.builder()
-                    .id(transcripcion.getId())
-                    .historiaClinicaId(transcripcion.getHistoriaClinicaId())
-                    .obstetraId(transcripcion.getObstetraId())
-                    .textoOriginal(textoTranscrito)
-                    .estado(EstadoTranscripcion.PROCESANDO)
-                    .origen(OrigenTranscripcion.AUDIO_UPLOAD)
-                    .createdAt(transcripcion.getCreatedAt())
-                    .updatedAt(Instant.now())
-                    .build();
-
-            String textoNormalizado = normalizadorMedico.normalizar(textoTranscrito);
-            transcripcion.completar(textoNormalizado);
-        } catch (Exception e) {
-            log.error("Error procesando audio: {}", e.getMessage(), e);
-            transcripcion.marcarError(e.getMessage());
+            return transactionTemplate.execute(status -> {
+                Transcripcion saved = transcripcionRepository.save(Transcripcion.builder()
+                        .id(id)
+                        .historiaClinicaId(command.historiaClinicaId())
+                        .obstetraId(command.obstetraId())
+                        .estado(EstadoTranscripcion.PENDIENTE)
+                        .origen(OrigenTranscripcion.AUDIO_UPLOAD)
+                        .createdAt(Instant.now())
+                        .updatedAt(Instant.now())
+                        .build());
+                audioPendienteStore.registrar(id, command.contentType(), tamanoBytes);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            audioPendienteStore.eliminar(id);
+            throw e;
         }
-
-        Transcripcion saved = transcripcionRepository.save(transcripcion);
-
-        if (saved.getEstado() == EstadoTranscripcion.COMPLETADA) {
-            publishCompletadaEvent(saved);
-        }
-
-        return saved;
     }
 
     @Override
@@ -0,0 +1,10 @@
+package com.clinica.transcripcion.domain.exception;
+
+import com.clinica.shared.exception.DomainException;
+
+public class AudioDemasiadoGrandeException extends DomainException {
+
+    public AudioDemasiadoGrandeException(long maxBytes) {
+        super("El audio supera el tamano maximo permitido de " + maxBytes + " bytes");
+    }
+}
@@ -0,0 +1,10 @@
+package com.clinica.transcripcion.domain.exception;
+
+import com.clinica.shared.exception.DomainException;
+
+public class LimiteDictadoException extends DomainException {
+
+    public LimiteDictadoException(String message) {
+        super(message);
+    }
+}
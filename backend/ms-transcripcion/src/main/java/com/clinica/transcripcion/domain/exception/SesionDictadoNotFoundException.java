@@ -0,0 +1,12 @@
+package com.clinica.transcripcion.domain.exception;
+
+import com.clinica.shared.exception.ResourceNotFoundException;
+
+import java.util.UUID;
+
+public class SesionDictadoNotFoundException extends ResourceNotFoundException {
+
+    public SesionDictadoNotFoundException(UUID id) {
+        super("Sesion de dictado", id);
+    }
+}
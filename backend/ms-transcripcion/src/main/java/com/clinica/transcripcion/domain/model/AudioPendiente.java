@@ -0,0 +1,24 @@
+package com.clinica.transcripcion.domain.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Audio subido que espera ser transcrito por el worker. El contenido no se mantiene en memoria:
+ * se abre como stream cuando se va a transcribir.
+ */
+public record AudioPendiente(
+        String contentType,
+        long tamanoBytes,
+        Contenido contenido
+) {
+
+    @FunctionalInterface
+    public interface Contenido {
+        InputStream abrir() throws IOException;
+    }
+
+    public InputStream abrir() throws IOException {
+        return contenido.abrir();
+    }
+}
@@ -0,0 +1,14 @@
+package com.clinica.transcripcion.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Estado de la version del diccionario medico cargada en memoria.
+ */
+public record DiccionarioMedicoInfo(
+        long version,
+        int terminos,
+        Instant cargadoAt,
+        long duracionCargaMs
+) {
+}
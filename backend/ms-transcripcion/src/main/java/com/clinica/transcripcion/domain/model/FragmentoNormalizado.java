@@ -0,0 +1,11 @@
+package com.clinica.transcripcion.domain.model;
+
+import java.util.UUID;
+
+public record FragmentoNormalizado(
+        UUID sesionId,
+        int secuencia,
+        String textoOriginal,
+        String textoNormalizado
+) {
+}
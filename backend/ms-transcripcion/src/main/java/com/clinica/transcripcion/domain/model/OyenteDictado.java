@@ -0,0 +1,15 @@
+package com.clinica.transcripcion.domain.model;
+
+/**
+ * Recibe los resultados de una sesion de dictado a la que se suscribio.
+ */
+public interface OyenteDictado {
+
+    void fragmento(FragmentoNormalizado fragmento);
+
+    /** Ultimo aviso de la sesion: la transcripcion quedo guardada. */
+    void finalizado(Transcripcion transcripcion);
+
+    /** Ultimo aviso de la sesion: expiro sin texto y no se guardo nada. */
+    void descartado();
+}
@@ -0,0 +1,59 @@
+package com.clinica.transcripcion.domain.model;
+
+import com.clinica.transcripcion.domain.exception.LimiteDictadoException;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dictado en curso: acumula los fragmentos de texto que envia el cliente hasta que se finaliza
+ * y se persiste como una unica transcripcion.
+ */
+@Getter
+public class SesionDictado {
+
+    private final UUID id;
+    private final UUID historiaClinicaId;
+    private final UUID obstetraId;
+    private final Instant createdAt;
+    private final List<String> fragmentos = new ArrayList<>();
+    private int ultimaSecuencia = -1;
+    private Instant ultimaActividad;
+
+    public SesionDictado(UUID id, UUID historiaClinicaId, UUID obstetraId) {
+        this.id = id;
+        this.historiaClinicaId = historiaClinicaId;
+        this.obstetraId = obstetraId;
+        this.createdAt = Instant.now();
+        this.ultimaActividad = createdAt;
+    }
+
+    /**
+     * Agrega el fragmento si su secuencia es posterior a la ultima recibida; devuelve false para
+     * los reintentos de fragmentos ya agregados.
+     */
+    public synchronized boolean agregarFragmento(int secuencia, String texto, int maxFragmentos) {
+        ultimaActividad = Instant.now();
+        if (secuencia <= ultimaSecuencia) {
+            return false;
+        }
+        if (fragmentos.size() >= maxFragmentos) {
+            throw new LimiteDictadoException("El dictado alcanzo el maximo de " + maxFragmentos
+                    + " fragmentos; finalicelo e inicie uno nuevo");
+        }
+        ultimaSecuencia = secuencia;
+        fragmentos.add(texto.strip());
+        return true;
+    }
+
+    public synchronized String textoCompleto() {
+        return String.join(" ", fragmentos);
+    }
+
+    public synchronized boolean inactivaDesde(Instant limite) {
+        return ultimaActividad.isBefore(limite);
+    }
+}
@@ -22,6 +22,13 @@ public class Transcripcion {
     private String errorDetalle;
     private Instant createdAt;
     private Instant updatedAt;
+    /** Intento con el que el worker reclamo la transcripcion; identifica su reclamo frente a uno posterior. */
+    private int intentos;
+
+    public void registrarTextoOriginal(String textoOriginal) {
+        this.textoOriginal = textoOriginal;
+        this.updatedAt = Instant.now();
+    }
 
     public void completar(String textoNormalizado) {
         this.textoNormalizado = textoNormalizado;
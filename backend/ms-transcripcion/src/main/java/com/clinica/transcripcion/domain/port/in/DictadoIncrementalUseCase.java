@@ -0,0 +1,34 @@
+package com.clinica.transcripcion.domain.port.in;
+
+import com.clinica.transcripcion.domain.model.FragmentoNormalizado;
+import com.clinica.transcripcion.domain.model.OyenteDictado;
+import com.clinica.transcripcion.domain.model.SesionDictado;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public interface DictadoIncrementalUseCase {
+
+    SesionDictado iniciar(UUID historiaClinicaId, UUID obstetraId);
+
+    SesionDictado obtener(UUID sesionId, UUID obstetraId);
+
+    /**
+     * Suscribe un oyente a los resultados de la sesion, que debe pertenecer al obstetra. La accion
+     * devuelta lo da de baja.
+     */
+    Runnable suscribir(UUID sesionId, UUID obstetraId, OyenteDictado oyente);
+
+    FragmentoNormalizado agregarFragmento(UUID sesionId, UUID obstetraId, int secuencia, String texto);
+
+    /**
+     * Cierra el dictado y persiste la transcripcion con el texto completo.
+     */
+    Transcripcion finalizar(UUID sesionId, UUID obstetraId);
+
+    /**
+     * Finaliza los dictados sin actividad durante {@code inactividadMaxima}; los vacios se descartan.
+     */
+    int expirarInactivas(Duration inactividadMaxima);
+}
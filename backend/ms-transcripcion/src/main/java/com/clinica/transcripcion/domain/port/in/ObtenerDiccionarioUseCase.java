@@ -0,0 +1,8 @@
+package com.clinica.transcripcion.domain.port.in;
+
+import com.clinica.transcripcion.domain.model.DiccionarioMedicoInfo;
+
+public interface ObtenerDiccionarioUseCase {
+
+    DiccionarioMedicoInfo obtenerInfo();
+}
@@ -0,0 +1,8 @@
+package com.clinica.transcripcion.domain.port.in;
+
+import com.clinica.transcripcion.domain.model.Transcripcion;
+
+public interface ProcesarAudioPendienteUseCase {
+
+    void procesarPendiente(Transcripcion transcripcion);
+}
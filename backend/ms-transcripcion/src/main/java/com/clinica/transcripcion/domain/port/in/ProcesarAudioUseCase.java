@@ -2,6 +2,7 @@ package com.clinica.transcripcion.domain.port.in;
 
 import com.clinica.transcripcion.domain.model.Transcripcion;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 public interface ProcesarAudioUseCase {
@@ -11,7 +12,7 @@ public interface ProcesarAudioUseCase {
     record ProcesarAudioCommand(
             UUID historiaClinicaId,
             UUID obstetraId,
-            byte[] audioData,
+            InputStream audio,
             String contentType
     ) {
     }
@@ -0,0 +1,18 @@
+package com.clinica.transcripcion.domain.port.in;
+
+import com.clinica.transcripcion.domain.model.DiccionarioMedicoInfo;
+
+import java.util.UUID;
+
+public interface RecargarDiccionarioUseCase {
+
+    /**
+     * Recarga el diccionario de esta instancia y avisa al resto para que hagan lo mismo.
+     */
+    DiccionarioMedicoInfo recargar(UUID usuarioId);
+
+    /**
+     * Atiende el aviso de otra instancia; se ignora si lo emitio esta misma.
+     */
+    void recargarPorAviso(UUID instanciaOrigen);
+}
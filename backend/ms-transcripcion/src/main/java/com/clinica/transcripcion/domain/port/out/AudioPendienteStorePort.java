@@ -0,0 +1,33 @@
+package com.clinica.transcripcion.domain.port.out;
+
+import com.clinica.transcripcion.domain.model.AudioPendiente;
+
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AudioPendienteStorePort {
+
+    /**
+     * Copia el audio al almacen sin cargarlo completo en memoria y devuelve los bytes escritos.
+     * No requiere transaccion; el audio no queda visible para el worker hasta {@link #registrar}.
+     */
+    long guardarContenido(UUID transcripcionId, InputStream audio);
+
+    void registrar(UUID transcripcionId, String contentType, long tamanoBytes);
+
+    Optional<AudioPendiente> buscar(UUID transcripcionId);
+
+    void eliminar(UUID transcripcionId);
+
+    /**
+     * Elimina el audio de las transcripciones que ya terminaron sin llegar a borrarlo, por ejemplo
+     * las marcadas con error al agotar los intentos.
+     */
+    int purgarFinalizados();
+
+    /**
+     * Elimina el audio guardado que nunca llego a registrarse.
+     */
+    int purgarHuerfanos();
+}
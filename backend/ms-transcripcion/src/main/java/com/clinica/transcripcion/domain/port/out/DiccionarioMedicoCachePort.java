@@ -0,0 +1,14 @@
+package com.clinica.transcripcion.domain.port.out;
+
+import com.clinica.transcripcion.domain.model.DiccionarioMedicoInfo;
+
+public interface DiccionarioMedicoCachePort {
+
+    /**
+     * Vuelve a leer los terminos y reemplaza la version en memoria; si la carga falla se conserva
+     * la version anterior.
+     */
+    DiccionarioMedicoInfo recargar();
+
+    DiccionarioMedicoInfo actual();
+}
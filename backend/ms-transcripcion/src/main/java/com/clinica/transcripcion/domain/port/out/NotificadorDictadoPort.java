@@ -0,0 +1,24 @@
+package com.clinica.transcripcion.domain.port.out;
+
+import com.clinica.transcripcion.domain.model.FragmentoNormalizado;
+import com.clinica.transcripcion.domain.model.OyenteDictado;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+
+import java.util.UUID;
+
+/**
+ * Envia los resultados parciales y el final de un dictado a los clientes suscritos.
+ */
+public interface NotificadorDictadoPort {
+
+    /**
+     * Registra un oyente de la sesion; la accion devuelta lo da de baja.
+     */
+    Runnable suscribir(UUID sesionId, OyenteDictado oyente);
+
+    void fragmento(FragmentoNormalizado fragmento);
+
+    void finalizado(UUID sesionId, Transcripcion transcripcion);
+
+    void descartado(UUID sesionId);
+}
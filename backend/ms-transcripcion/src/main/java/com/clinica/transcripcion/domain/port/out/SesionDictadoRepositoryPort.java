@@ -0,0 +1,21 @@
+package com.clinica.transcripcion.domain.port.out;
+
+import com.clinica.transcripcion.domain.model.SesionDictado;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SesionDictadoRepositoryPort {
+
+    void guardar(SesionDictado sesion);
+
+    Optional<SesionDictado> buscar(UUID sesionId);
+
+    /**
+     * Quita la sesion y la devuelve; solo un llamador la obtiene aunque finalicen dos a la vez.
+     */
+    Optional<SesionDictado> quitar(UUID sesionId);
+
+    List<SesionDictado> listar();
+}
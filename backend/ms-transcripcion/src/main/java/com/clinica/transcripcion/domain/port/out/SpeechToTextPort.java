@@ -0,0 +1,17 @@
+package com.clinica.transcripcion.domain.port.out;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface SpeechToTextPort {
+
+    String transcribir(byte[] audioData, String contentType);
+
+    /**
+     * Transcribe leyendo el audio como stream. Los proveedores que aceptan envio por partes deben
+     * sobrescribirlo; por defecto se lee el audio completo y se delega en la variante byte[].
+     */
+    default String transcribir(InputStream audio, String contentType) throws IOException {
+        return transcribir(audio.readAllBytes(), contentType);
+    }
+}
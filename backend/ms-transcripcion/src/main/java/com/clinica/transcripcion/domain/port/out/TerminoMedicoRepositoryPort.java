@@ -0,0 +1,10 @@
+package com.clinica.transcripcion.domain.port.out;
+
+import com.clinica.transcripcion.domain.model.TerminoMedico;
+
+import java.util.List;
+
+public interface TerminoMedicoRepositoryPort {
+
+    List<TerminoMedico> findAll();
+}
@@ -0,0 +1,30 @@
+package com.clinica.transcripcion.domain.port.out;
+
+import com.clinica.transcripcion.domain.model.Transcripcion;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cola de transcripciones de audio pendientes, compartida por todas las instancias.
+ */
+public interface TranscripcionColaPort {
+
+    /**
+     * Marca como PROCESANDO hasta {@code limite} transcripciones pendientes y las devuelve.
+     */
+    List<Transcripcion> reclamar(int limite);
+
+    /**
+     * Guarda el resultado de una transcripcion reclamada. Devuelve false si ya no estaba en
+     * PROCESANDO con el mismo reclamo, por ejemplo porque se recupero por vencida y la tomo otro
+     * worker; en ese caso el audio pertenece al nuevo reclamo y no debe eliminarse.
+     */
+    boolean finalizar(Transcripcion transcripcion);
+
+    /**
+     * Devuelve a la cola las transcripciones en PROCESANDO desde hace mas de {@code plazo}, o las
+     * marca con error si agotaron los intentos.
+     */
+    int recuperarVencidas(Duration plazo);
+}
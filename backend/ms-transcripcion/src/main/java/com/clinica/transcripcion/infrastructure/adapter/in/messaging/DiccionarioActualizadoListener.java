@@ -0,0 +1,22 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.messaging;
+
+import com.clinica.shared.domain.event.AuditableEvent;
+import com.clinica.transcripcion.domain.port.in.RecargarDiccionarioUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recarga el diccionario medico cuando otra instancia avisa que lo actualizo.
+ */
+@Component
+@RequiredArgsConstructor
+public class DiccionarioActualizadoListener {
+
+    private final RecargarDiccionarioUseCase recargarDiccionarioUseCase;
+
+    @RabbitListener(queues = "#{transcripcionDiccionarioQueue.name}")
+    public void onDiccionarioActualizado(AuditableEvent event) {
+        recargarDiccionarioUseCase.recargarPorAviso(event.getResourceId());
+    }
+}
@@ -0,0 +1,38 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.rest;
+
+import com.clinica.shared.security.AuthenticatedUser;
+import com.clinica.transcripcion.domain.port.in.ObtenerDiccionarioUseCase;
+import com.clinica.transcripcion.domain.port.in.RecargarDiccionarioUseCase;
+import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.DiccionarioMedicoResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/transcripciones/diccionario")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Diccionario médico", description = "Administración del diccionario de normalización (solo ADMIN)")
+public class DiccionarioMedicoController {
+
+    private final RecargarDiccionarioUseCase recargarDiccionarioUseCase;
+    private final ObtenerDiccionarioUseCase obtenerDiccionarioUseCase;
+
+    @GetMapping
+    @Operation(summary = "Consultar la versión del diccionario en memoria")
+    public DiccionarioMedicoResponse obtener() {
+        return DiccionarioMedicoResponse.fromDomain(obtenerDiccionarioUseCase.obtenerInfo());
+    }
+
+    @PostMapping("/recargar")
+    @Operation(summary = "Recargar el diccionario en todas las instancias")
+    public DiccionarioMedicoResponse recargar(@AuthenticationPrincipal AuthenticatedUser user) {
+        return DiccionarioMedicoResponse.fromDomain(recargarDiccionarioUseCase.recargar(user.userId()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.rest;
+
+import com.clinica.shared.security.AuthenticatedUser;
+import com.clinica.transcripcion.domain.port.in.DictadoIncrementalUseCase;
+import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.FragmentoDictadoRequest;
+import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.FragmentoNormalizadoResponse;
+import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.IniciarDictadoRequest;
+import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.SesionDictadoResponse;
+import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.TranscripcionResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/transcripciones/dictados")
+@Tag(name = "Dictado incremental", description = "Normalización en vivo mientras la obstetra dicta")
+public class DictadoController {
+
+    private final DictadoIncrementalUseCase dictadoIncrementalUseCase;
+    private final long sseTimeoutMs;
+
+    public DictadoController(DictadoIncrementalUseCase dictadoIncrementalUseCase,
+                             @Value("${transcripcion.dictado.sse-timeout:PT30M}") Duration sseTimeout) {
+        this.dictadoIncrementalUseCase = dictadoIncrementalUseCase;
+        this.sseTimeoutMs = sseTimeout.toMillis();
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Iniciar un dictado")
+    public SesionDictadoResponse iniciar(
+            @Valid @RequestBody IniciarDictadoRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        return SesionDictadoResponse.fromDomain(
+                dictadoIncrementalUseCase.iniciar(request.historiaClinicaId(), user.userId()));
+    }
+
+    @GetMapping(value = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suscribirse a los resultados parciales del dictado (SSE)",
+            description = "Eventos: parcial, final y descartado")
+    public SseEmitter eventos(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Runnable baja = dictadoIncrementalUseCase.suscribir(id, user.userId(), new SseOyenteDictado(id, emitter));
+        emitter.onCompletion(baja);
+        emitter.onTimeout(baja);
+        emitter.onError(e -> baja.run());
+        return emitter;
+    }
+
+    @PostMapping("/{id}/fragmentos")
+    @Operation(summary = "Enviar un fragmento de texto y obtener su versión normalizada")
+    public FragmentoNormalizadoResponse agregarFragmento(
+            @PathVariable UUID id,
+            @Valid @RequestBody FragmentoDictadoRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        return FragmentoNormalizadoResponse.fromDomain(dictadoIncrementalUseCase.agregarFragmento(
+                id, user.userId(), request.secuencia(), request.texto()));
+    }
+
+    @PostMapping("/{id}/finalizar")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Finalizar el dictado y guardar la transcripción")
+    public TranscripcionResponse finalizar(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        return TranscripcionResponse.fromDomain(dictadoIncrementalUseCase.finalizar(id, user.userId()));
+    }
+}
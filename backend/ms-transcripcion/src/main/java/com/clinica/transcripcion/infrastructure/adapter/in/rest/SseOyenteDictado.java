@@ -0,0 +1,57 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.rest;
+
+import com.clinica.transcripcion.domain.model.FragmentoNormalizado;
+import com.clinica.transcripcion.domain.model.OyenteDictado;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.FragmentoNormalizadoResponse;
+import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.TranscripcionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Reenvia los avisos de un dictado por el stream SSE abierto en {@link DictadoController}.
+ * Eventos: "parcial" con cada fragmento normalizado, "final" con la transcripcion guardada y
+ * "descartado" si la sesion expira sin texto; los dos ultimos cierran el stream.
+ */
+@Slf4j
+class SseOyenteDictado implements OyenteDictado {
+
+    private final UUID sesionId;
+    private final SseEmitter emitter;
+
+    SseOyenteDictado(UUID sesionId, SseEmitter emitter) {
+        this.sesionId = sesionId;
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void fragmento(FragmentoNormalizado fragmento) {
+        enviar("parcial", FragmentoNormalizadoResponse.fromDomain(fragmento), false);
+    }
+
+    @Override
+    public void finalizado(Transcripcion transcripcion) {
+        enviar("final", TranscripcionResponse.fromDomain(transcripcion), true);
+    }
+
+    @Override
+    public void descartado() {
+        enviar("descartado", sesionId, true);
+    }
+
+    private void enviar(String nombre, Object datos, boolean cerrar) {
+        try {
+            emitter.send(SseEmitter.event().name(nombre).data(datos));
+            if (cerrar) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // completeWithError dispara onError, que da de baja al oyente
+            log.debug("Cliente de la sesion de dictado {} desconectado: {}", sesionId, e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+}
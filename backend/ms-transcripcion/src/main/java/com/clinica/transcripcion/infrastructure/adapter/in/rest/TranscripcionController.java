@@ -9,17 +9,22 @@ import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.ProcesarText
 import com.clinica.transcripcion.infrastructure.adapter.in.rest.dto.TranscripcionResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.UUID;
 
 @RestController
@@ -50,22 +55,30 @@ public class TranscripcionController {
     }
 
     @PostMapping(value = "/audio", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @ResponseStatus(HttpStatus.CREATED)
-    @Operation(summary = "Procesar archivo de audio (fallback)")
-    public TranscripcionResponse procesarAudio(
+    @Operation(summary = "Procesar archivo de audio (fallback)",
+            description = "Encola el audio y responde de inmediato; el resultado se consulta en GET /{id}")
+    public ResponseEntity<TranscripcionResponse> procesarAudio(
             @RequestParam UUID historiaClinicaId,
             @RequestParam("archivo") MultipartFile archivo,
             @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
 
-        Transcripcion result = procesarAudioUseCase.procesar(
-                new ProcesarAudioUseCase.ProcesarAudioCommand(
-                        historiaClinicaId,
-                        user.userId(),
-                        archivo.getBytes(),
-                        archivo.getContentType()
-                )
-        );
-        return TranscripcionResponse.fromDomain(result);
+        try (InputStream audio = archivo.getInputStream()) {
+            return encolarAudio(historiaClinicaId, user, audio, archivo.getContentType());
+        }
+    }
+
+    @PostMapping(value = "/audio", consumes = {"audio/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "Procesar audio enviado como cuerpo de la petición",
+            description = "El audio se copia al almacén a medida que llega, sin pasar por multipart")
+    public ResponseEntity<TranscripcionResponse> procesarAudioStream(
+            @RequestParam UUID historiaClinicaId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+
+        try (InputStream audio = request.getInputStream()) {
+            return encolarAudio(historiaClinicaId, user, audio, contentType);
+        }
     }
 
     @GetMapping("/{id}")
@@ -88,4 +101,19 @@ public class TranscripcionController {
         return obtenerTranscripcionUseCase.listarPorHistoria(historiaClinicaId, user.userId(), pageable)
                 .map(TranscripcionResponse::fromDomain);
     }
+
+    private ResponseEntity<TranscripcionResponse> encolarAudio(UUID historiaClinicaId, AuthenticatedUser user,
+                                                               InputStream audio, String contentType) {
+        Transcripcion result = procesarAudioUseCase.procesar(
+                new ProcesarAudioUseCase.ProcesarAudioCommand(
+                        historiaClinicaId,
+                        user.userId(),
+                        audio,
+                        contentType
+                )
+        );
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/transcripciones/" + result.getId()))
+                .body(TranscripcionResponse.fromDomain(result));
+    }
 }
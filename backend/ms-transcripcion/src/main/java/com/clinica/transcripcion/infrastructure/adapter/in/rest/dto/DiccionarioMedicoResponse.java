@@ -0,0 +1,23 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.rest.dto;
+
+import com.clinica.transcripcion.domain.model.DiccionarioMedicoInfo;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Versión del diccionario médico cargada en memoria")
+public record DiccionarioMedicoResponse(
+        long version,
+        int terminos,
+        Instant cargadoAt,
+        long duracionCargaMs
+) {
+    public static DiccionarioMedicoResponse fromDomain(DiccionarioMedicoInfo info) {
+        return new DiccionarioMedicoResponse(
+                info.version(),
+                info.terminos(),
+                info.cargadoAt(),
+                info.duracionCargaMs()
+        );
+    }
+}
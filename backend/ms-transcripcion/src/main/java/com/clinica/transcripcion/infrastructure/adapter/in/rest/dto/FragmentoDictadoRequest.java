@@ -0,0 +1,21 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Fragmento de texto reconocido durante el dictado")
+public record FragmentoDictadoRequest(
+
+        @NotNull(message = "La secuencia es obligatoria")
+        @PositiveOrZero(message = "La secuencia no puede ser negativa")
+        @Schema(description = "Número de orden del fragmento; los repetidos se ignoran")
+        Integer secuencia,
+
+        @NotBlank(message = "El texto es obligatorio")
+        @Size(max = 2000, message = "El fragmento no puede superar 2000 caracteres")
+        @Schema(description = "Texto parcial capturado por Web Speech API")
+        String texto
+) {}
@@ -0,0 +1,18 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.rest.dto;
+
+import com.clinica.transcripcion.domain.model.FragmentoNormalizado;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Resultado parcial de un fragmento de dictado")
+public record FragmentoNormalizadoResponse(
+        UUID sesionId,
+        int secuencia,
+        String textoOriginal,
+        String textoNormalizado
+) {
+    public static FragmentoNormalizadoResponse fromDomain(FragmentoNormalizado f) {
+        return new FragmentoNormalizadoResponse(f.sesionId(), f.secuencia(), f.textoOriginal(), f.textoNormalizado());
+    }
+}
@@ -0,0 +1,14 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+@Schema(description = "Solicitud para iniciar un dictado incremental")
+public record IniciarDictadoRequest(
+
+        @NotNull(message = "El ID de historia clínica es obligatorio")
+        @Schema(description = "ID de la historia clínica asociada")
+        UUID historiaClinicaId
+) {}
@@ -0,0 +1,18 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.rest.dto;
+
+import com.clinica.transcripcion.domain.model.SesionDictado;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "Dictado incremental en curso")
+public record SesionDictadoResponse(
+        UUID id,
+        UUID historiaClinicaId,
+        Instant createdAt
+) {
+    public static SesionDictadoResponse fromDomain(SesionDictado s) {
+        return new SesionDictadoResponse(s.getId(), s.getHistoriaClinicaId(), s.getCreatedAt());
+    }
+}
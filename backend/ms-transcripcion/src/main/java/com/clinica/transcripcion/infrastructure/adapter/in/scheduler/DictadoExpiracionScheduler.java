@@ -0,0 +1,36 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.scheduler;
+
+import com.clinica.transcripcion.domain.port.in.DictadoIncrementalUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class DictadoExpiracionScheduler {
+
+    private final DictadoIncrementalUseCase dictadoIncrementalUseCase;
+    private final Duration inactividadMaxima;
+
+    public DictadoExpiracionScheduler(
+            DictadoIncrementalUseCase dictadoIncrementalUseCase,
+            @Value("${transcripcion.dictado.inactividad-maxima:PT10M}") Duration inactividadMaxima) {
+        this.dictadoIncrementalUseCase = dictadoIncrementalUseCase;
+        this.inactividadMaxima = inactividadMaxima;
+    }
+
+    @Scheduled(fixedDelayString = "${transcripcion.dictado.expiracion-ms:60000}")
+    public void expirar() {
+        try {
+            int expiradas = dictadoIncrementalUseCase.expirarInactivas(inactividadMaxima);
+            if (expiradas > 0) {
+                log.info("{} dictados inactivos cerrados", expiradas);
+            }
+        } catch (Exception e) {
+            log.error("Error cerrando dictados inactivos: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.clinica.transcripcion.infrastructure.adapter.in.worker;
+
+import com.clinica.transcripcion.domain.model.Transcripcion;
+import com.clinica.transcripcion.domain.port.in.ProcesarAudioPendienteUseCase;
+import com.clinica.transcripcion.domain.port.out.AudioPendienteStorePort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionColaPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consume los audios pendientes con un pool acotado de hilos virtuales. Solo reclama tantas
+ * transcripciones como permisos libres tenga, de modo que el resto queda disponible para otras
+ * instancias.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "transcripcion.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class TranscripcionAudioWorker {
+
+    private final ProcesarAudioPendienteUseCase procesarAudioPendienteUseCase;
+    private final TranscripcionColaPort transcripcionCola;
+    private final AudioPendienteStorePort audioPendienteStore;
+    private final Duration plazoProcesamiento;
+    private final Semaphore permisos;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TranscripcionAudioWorker(ProcesarAudioPendienteUseCase procesarAudioPendienteUseCase,
+                                    TranscripcionColaPort transcripcionCola,
+                                    AudioPendienteStorePort audioPendienteStore,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${transcripcion.worker.concurrencia:4}") int concurrencia,
+                                    @Value("${transcripcion.worker.plazo-procesamiento:PT10M}") Duration plazoProcesamiento) {
+        this.procesarAudioPendienteUseCase = procesarAudioPendienteUseCase;
+        this.transcripcionCola = transcripcionCola;
+        this.audioPendienteStore = audioPendienteStore;
+        this.plazoProcesamiento = plazoProcesamiento;
+        this.permisos = new Semaphore(concurrencia);
+        Gauge.builder("transcripcion.worker.activos", permisos, p -> concurrencia - p.availablePermits())
+                .description("Audios en transcripcion en esta instancia")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${transcripcion.worker.intervalo-ms:1000}")
+    public void sondear() {
+        int libres = permisos.availablePermits();
+        if (libres == 0 || executor.isShutdown()) {
+            return;
+        }
+
+        List<Transcripcion> pendientes;
+        try {
+            pendientes = transcripcionCola.reclamar(libres);
+        } catch (Exception e) {
+            log.warn("No se pudo reclamar audios pendientes: {}", e.getMessage());
+            return;
+        }
+
+        for (Transcripcion transcripcion : pendientes) {
+            permisos.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    procesarAudioPendienteUseCase.procesarPendiente(transcripcion);
+                } catch (Exception e) {
+                    log.error("Error inesperado procesando la transcripcion {}: {}",
+                            transcripcion.getId(), e.getMessage(), e);
+                } finally {
+                    permisos.release();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${transcripcion.worker.recuperacion-ms:60000}")
+    public void recuperarVencidas() {
+        try {
+            int recuperadas = transcripcionCola.recuperarVencidas(plazoProcesamiento);
+            if (recuperadas > 0) {
+                log.warn("{} transcripciones vencidas devueltas a la cola", recuperadas);
+            }
+            audioPendienteStore.purgarFinalizados();
+            audioPendienteStore.purgarHuerfanos();
+        } catch (Exception e) {
+            log.warn("No se pudieron recuperar transcripciones vencidas: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Transcripciones en curso interrumpidas al detener el worker");
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.dictado;
+
+import com.clinica.transcripcion.domain.model.FragmentoNormalizado;
+import com.clinica.transcripcion.domain.model.OyenteDictado;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+import com.clinica.transcripcion.domain.port.out.NotificadorDictadoPort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Oyentes suscritos a cada sesion de dictado. Como las sesiones, viven en la instancia que
+ * atiende el dictado; finalizado y descartado son el ultimo aviso y dan de baja a todos.
+ */
+@Component
+public class InMemoryNotificadorDictadoAdapter implements NotificadorDictadoPort {
+
+    private final Map<UUID, List<OyenteDictado>> oyentes = new ConcurrentHashMap<>();
+
+    @Override
+    public Runnable suscribir(UUID sesionId, OyenteDictado oyente) {
+        oyentes.computeIfAbsent(sesionId, id -> new CopyOnWriteArrayList<>()).add(oyente);
+        return () -> oyentes.computeIfPresent(sesionId, (id, suscritos) -> {
+            suscritos.remove(oyente);
+            return suscritos.isEmpty() ? null : suscritos;
+        });
+    }
+
+    @Override
+    public void fragmento(FragmentoNormalizado fragmento) {
+        oyentes.getOrDefault(fragmento.sesionId(), List.of()).forEach(oyente -> oyente.fragmento(fragmento));
+    }
+
+    @Override
+    public void finalizado(UUID sesionId, Transcripcion transcripcion) {
+        List<OyenteDictado> suscritos = oyentes.remove(sesionId);
+        if (suscritos != null) {
+            suscritos.forEach(oyente -> oyente.finalizado(transcripcion));
+        }
+    }
+
+    @Override
+    public void descartado(UUID sesionId) {
+        List<OyenteDictado> suscritos = oyentes.remove(sesionId);
+        if (suscritos != null) {
+            suscritos.forEach(OyenteDictado::descartado);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.dictado;
+
+import com.clinica.transcripcion.domain.model.SesionDictado;
+import com.clinica.transcripcion.domain.port.out.SesionDictadoRepositoryPort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Los dictados en curso viven en memoria de la instancia que los inicio; el gateway debe enrutar
+ * todas las peticiones de una sesion a la misma instancia.
+ */
+@Component
+public class InMemorySesionDictadoRepositoryAdapter implements SesionDictadoRepositoryPort {
+
+    private final Map<UUID, SesionDictado> sesiones = new ConcurrentHashMap<>();
+
+    @Override
+    public void guardar(SesionDictado sesion) {
+        sesiones.put(sesion.getId(), sesion);
+    }
+
+    @Override
+    public Optional<SesionDictado> buscar(UUID sesionId) {
+        return Optional.ofNullable(sesiones.get(sesionId));
+    }
+
+    @Override
+    public Optional<SesionDictado> quitar(UUID sesionId) {
+        return Optional.ofNullable(sesiones.remove(sesionId));
+    }
+
+    @Override
+    public List<SesionDictado> listar() {
+        return List.copyOf(sesiones.values());
+    }
+}
@@ -0,0 +1,27 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.messaging;
+
+import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
+import com.clinica.shared.domain.event.AuditableEvent;
+import com.clinica.shared.outbox.OutboxEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica los eventos a traves de la outbox transaccional en lugar de enviarlos directo a RabbitMQ.
+ * Con {@code clinica.outbox.enabled=false} no se crea y se usa el adaptador directo.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "clinica.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OutboxTranscripcionEventPublisherAdapter implements TranscripcionEventPublisherPort {
+
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    @Override
+    public void publish(AuditableEvent event) {
+        outboxEventPublisher.publish(event);
+    }
+}
@@ -0,0 +1,94 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.normalizacion;
+
+import com.clinica.transcripcion.domain.model.DiccionarioMedicoInfo;
+import com.clinica.transcripcion.domain.model.TerminoMedico;
+import com.clinica.transcripcion.domain.port.out.DiccionarioMedicoCachePort;
+import com.clinica.transcripcion.domain.port.out.NormalizadorMedicoPort;
+import com.clinica.transcripcion.domain.port.out.TerminoMedicoRepositoryPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Normaliza con un automata construido en memoria a partir de terminos_medicos. Cada carga
+ * produce una version inmutable que se publica con un unico cambio de referencia, por lo que
+ * las normalizaciones en curso no se bloquean ni ven un diccionario a medio construir. Las
+ * recargas se serializan entre si.
+ */
+@Slf4j
+@Primary
+@Component
+public class AhoCorasickNormalizadorMedicoAdapter implements NormalizadorMedicoPort, DiccionarioMedicoCachePort {
+
+    private record Version(AutomataTerminos automata, DiccionarioMedicoInfo info) {
+    }
+
+    private final TerminoMedicoRepositoryPort terminoMedicoRepository;
+    private final AtomicReference<Version> actual = new AtomicReference<>(
+            new Version(AutomataTerminos.construir(List.of()), new DiccionarioMedicoInfo(0, 0, null, 0)));
+    private final ReentrantLock cargaLock = new ReentrantLock();
+    private final Timer tiempoCarga;
+
+    public AhoCorasickNormalizadorMedicoAdapter(TerminoMedicoRepositoryPort terminoMedicoRepository,
+                                                MeterRegistry meterRegistry) {
+        this.terminoMedicoRepository = terminoMedicoRepository;
+        this.tiempoCarga = Timer.builder("transcripcion.diccionario.carga")
+                .description("Tiempo de carga y construccion del diccionario medico")
+                .register(meterRegistry);
+        Gauge.builder("transcripcion.diccionario.terminos", actual, v -> v.get().info().terminos())
+                .description("Terminos del diccionario medico en memoria")
+                .register(meterRegistry);
+        Gauge.builder("transcripcion.diccionario.version", actual, v -> v.get().info().version())
+                .description("Version del diccionario medico en memoria")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void cargarInicial() {
+        recargar();
+    }
+
+    @Override
+    public DiccionarioMedicoInfo recargar() {
+        cargaLock.lock();
+        try {
+            long inicio = System.nanoTime();
+            List<TerminoMedico> terminos = terminoMedicoRepository.findAll();
+            AutomataTerminos automata = AutomataTerminos.construir(terminos);
+            long duracionNanos = System.nanoTime() - inicio;
+            tiempoCarga.record(duracionNanos, TimeUnit.NANOSECONDS);
+
+            DiccionarioMedicoInfo info = new DiccionarioMedicoInfo(
+                    actual.get().info().version() + 1,
+                    automata.cantidadTerminos(),
+                    Instant.now(),
+                    TimeUnit.NANOSECONDS.toMillis(duracionNanos));
+            actual.set(new Version(automata, info));
+            log.info("Diccionario medico v{} cargado: {} terminos en {} ms",
+                    info.version(), info.terminos(), info.duracionCargaMs());
+            return info;
+        } finally {
+            cargaLock.unlock();
+        }
+    }
+
+    @Override
+    public DiccionarioMedicoInfo actual() {
+        return actual.get().info();
+    }
+
+    @Override
+    public String normalizar(String texto) {
+        return actual.get().automata().normalizar(texto);
+    }
+}
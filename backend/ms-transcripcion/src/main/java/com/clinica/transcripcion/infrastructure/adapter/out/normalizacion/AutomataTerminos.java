@@ -0,0 +1,205 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.normalizacion;
+
+import com.clinica.transcripcion.domain.model.TerminoMedico;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Automata de Aho-Corasick sobre los terminos del diccionario. Recorre el texto una sola vez,
+ * sin importar cuantos terminos tenga el diccionario, y reemplaza cada ocurrencia por su termino
+ * normalizado seguido del codigo CIE-10 cuando lo tiene.
+ * <p>
+ * La comparacion ignora mayusculas y tildes (la enie se conserva), solo acepta
+ * palabras completas y ante solapamientos elige la coincidencia que empieza antes y, entre
+ * esas, la mas larga. Es inmutable tras construirse y puede compartirse entre hilos.
+ */
+public final class AutomataTerminos {
+
+    private static final int SIN_PATRON = -1;
+
+    /** Transiciones de cada nodo: caracteres ordenados y nodo destino, buscados con busqueda binaria. */
+    private final char[][] claves;
+    private final int[][] hijos;
+    private final int[] fallo;
+    /** Patron que termina exactamente en el nodo, o SIN_PATRON. */
+    private final int[] patron;
+    /** Nodo mas cercano en la cadena de fallos que termina un patron, o 0. */
+    private final int[] salida;
+    private final int[] longitudes;
+    private final String[] reemplazos;
+
+    private AutomataTerminos(char[][] claves, int[][] hijos, int[] fallo, int[] patron, int[] salida,
+                             int[] longitudes, String[] reemplazos) {
+        this.claves = claves;
+        this.hijos = hijos;
+        this.fallo = fallo;
+        this.patron = patron;
+        this.salida = salida;
+        this.longitudes = longitudes;
+        this.reemplazos = reemplazos;
+    }
+
+    public static AutomataTerminos construir(Collection<TerminoMedico> terminos) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        trie.add(new HashMap<>());
+        List<Integer> patronPorNodo = new ArrayList<>();
+        patronPorNodo.add(SIN_PATRON);
+        List<Integer> longitudes = new ArrayList<>();
+        List<String> reemplazos = new ArrayList<>();
+
+        for (TerminoMedico termino : terminos) {
+            String clave = plegar(termino.getTermino().strip());
+            if (clave.isEmpty() || termino.getTerminoNormalizado() == null) {
+                continue;
+            }
+            int nodo = 0;
+            for (int i = 0; i < clave.length(); i++) {
+                Integer siguiente = trie.get(nodo).get(clave.charAt(i));
+                if (siguiente == null) {
+                    siguiente = trie.size();
+                    trie.get(nodo).put(clave.charAt(i), siguiente);
+                    trie.add(new HashMap<>());
+                    patronPorNodo.add(SIN_PATRON);
+                }
+                nodo = siguiente;
+            }
+            if (patronPorNodo.get(nodo) == SIN_PATRON) {
+                patronPorNodo.set(nodo, longitudes.size());
+                longitudes.add(clave.length());
+                reemplazos.add(reemplazo(termino));
+            }
+        }
+
+        int nodos = trie.size();
+        char[][] claves = new char[nodos][];
+        int[][] hijos = new int[nodos][];
+        for (int n = 0; n < nodos; n++) {
+            Character[] caracteres = trie.get(n).keySet().toArray(new Character[0]);
+            Arrays.sort(caracteres);
+            claves[n] = new char[caracteres.length];
+            hijos[n] = new int[caracteres.length];
+            for (int i = 0; i < caracteres.length; i++) {
+                claves[n][i] = caracteres[i];
+                hijos[n][i] = trie.get(n).get(caracteres[i]);
+            }
+        }
+
+        int[] patron = patronPorNodo.stream().mapToInt(Integer::intValue).toArray();
+        int[] fallo = new int[nodos];
+        int[] salida = new int[nodos];
+        ArrayDeque<Integer> cola = new ArrayDeque<>();
+        for (int hijo : hijos[0]) {
+            cola.add(hijo);
+        }
+        while (!cola.isEmpty()) {
+            int nodo = cola.poll();
+            for (int i = 0; i < claves[nodo].length; i++) {
+                int hijo = hijos[nodo][i];
+                int f = fallo[nodo];
+                int destino;
+                while ((destino = transicion(claves, hijos, f, claves[nodo][i])) < 0 && f != 0) {
+                    f = fallo[f];
+                }
+                fallo[hijo] = destino >= 0 && destino != hijo ? destino : 0;
+                salida[hijo] = patron[fallo[hijo]] != SIN_PATRON ? fallo[hijo] : salida[fallo[hijo]];
+                cola.add(hijo);
+            }
+        }
+
+        return new AutomataTerminos(claves, hijos, fallo, patron, salida,
+                longitudes.stream().mapToInt(Integer::intValue).toArray(), reemplazos.toArray(new String[0]));
+    }
+
+    public int cantidadTerminos() {
+        return reemplazos.length;
+    }
+
+    public String normalizar(String texto) {
+        if (texto == null || texto.isEmpty() || reemplazos.length == 0) {
+            return texto;
+        }
+
+        // mejor coincidencia que empieza en cada posicion: indice de patron o SIN_PATRON
+        int[] mejorDesde = null;
+        int nodo = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = plegar(texto.charAt(i));
+            int destino;
+            while ((destino = transicion(claves, hijos, nodo, c)) < 0 && nodo != 0) {
+                nodo = fallo[nodo];
+            }
+            nodo = Math.max(destino, 0);
+
+            for (int n = patron[nodo] != SIN_PATRON ? nodo : salida[nodo]; n != 0; n = salida[n]) {
+                int p = patron[n];
+                int inicio = i - longitudes[p] + 1;
+                if (esLimite(texto, inicio - 1) && esLimite(texto, i + 1)) {
+                    if (mejorDesde == null) {
+                        mejorDesde = new int[texto.length()];
+                        Arrays.fill(mejorDesde, SIN_PATRON);
+                    }
+                    if (mejorDesde[inicio] == SIN_PATRON || longitudes[mejorDesde[inicio]] < longitudes[p]) {
+                        mejorDesde[inicio] = p;
+                    }
+                }
+            }
+        }
+
+        if (mejorDesde == null) {
+            return texto;
+        }
+        StringBuilder resultado = new StringBuilder(texto.length() + 16);
+        int i = 0;
+        while (i < texto.length()) {
+            int p = mejorDesde[i];
+            if (p != SIN_PATRON) {
+                resultado.append(reemplazos[p]);
+                i += longitudes[p];
+            } else {
+                resultado.append(texto.charAt(i++));
+            }
+        }
+        return resultado.toString();
+    }
+
+    private static String reemplazo(TerminoMedico termino) {
+        return termino.getCodigoCie10() == null || termino.getCodigoCie10().isBlank()
+                ? termino.getTerminoNormalizado()
+                : termino.getTerminoNormalizado() + " (CIE-10: " + termino.getCodigoCie10() + ")";
+    }
+
+    private static int transicion(char[][] claves, int[][] hijos, int nodo, char c) {
+        int i = Arrays.binarySearch(claves[nodo], c);
+        return i >= 0 ? hijos[nodo][i] : (nodo == 0 ? 0 : -1);
+    }
+
+    private static boolean esLimite(String texto, int posicion) {
+        return posicion < 0 || posicion >= texto.length() || !Character.isLetterOrDigit(texto.charAt(posicion));
+    }
+
+    static String plegar(String texto) {
+        StringBuilder plegado = new StringBuilder(texto.length());
+        for (int i = 0; i < texto.length(); i++) {
+            plegado.append(plegar(texto.charAt(i)));
+        }
+        return plegado.toString();
+    }
+
+    private static char plegar(char c) {
+        char minuscula = Character.toLowerCase(c);
+        return switch (minuscula) {
+            case '\u00e1', '\u00e0', '\u00e4', '\u00e2' -> 'a';
+            case '\u00e9', '\u00e8', '\u00eb', '\u00ea' -> 'e';
+            case '\u00ed', '\u00ec', '\u00ef', '\u00ee' -> 'i';
+            case '\u00f3', '\u00f2', '\u00f6', '\u00f4' -> 'o';
+            case '\u00fa', '\u00f9', '\u00fc', '\u00fb' -> 'u';
+            default -> minuscula;
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.persistence;
+
+import com.clinica.transcripcion.domain.model.TerminoMedico;
+import com.clinica.transcripcion.domain.port.out.TerminoMedicoRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcTerminoMedicoRepositoryAdapter implements TerminoMedicoRepositoryPort {
+
+    private static final String FIND_ALL_SQL = """
+            SELECT id, termino, termino_normalizado, codigo_cie10, categoria
+            FROM terminos_medicos
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TerminoMedico> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> TerminoMedico.builder()
+                .id(rs.getObject("id", UUID.class))
+                .termino(rs.getString("termino"))
+                .terminoNormalizado(rs.getString("termino_normalizado"))
+                .codigoCie10(rs.getString("codigo_cie10"))
+                .categoria(rs.getString("categoria"))
+                .build());
+    }
+}
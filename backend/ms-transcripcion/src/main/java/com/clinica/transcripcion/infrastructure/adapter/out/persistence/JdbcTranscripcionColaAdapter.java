@@ -0,0 +1,103 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.persistence;
+
+import com.clinica.transcripcion.domain.model.EstadoTranscripcion;
+import com.clinica.transcripcion.domain.model.OrigenTranscripcion;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+import com.clinica.transcripcion.domain.port.out.TranscripcionColaPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cola de audios pendientes sobre la propia tabla transcripciones. El reclamo usa
+ * FOR UPDATE SKIP LOCKED, por lo que varias instancias pueden consumirla sin tomar dos veces
+ * la misma transcripcion. Finalizar exige el mismo {@code intentos} del reclamo, asi un worker
+ * cuyo plazo vencio no pisa el resultado de quien la reclamo despues.
+ */
+@Component
+public class JdbcTranscripcionColaAdapter implements TranscripcionColaPort {
+
+    private static final String RECLAMAR_SQL = """
+            UPDATE transcripciones t
+            SET estado = 'PROCESANDO', intentos = t.intentos + 1, iniciado_at = now(), updated_at = now()
+            FROM (
+                SELECT id FROM transcripciones
+                WHERE estado = 'PENDIENTE' AND origen = 'AUDIO_UPLOAD'
+                ORDER BY created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) pendientes
+            WHERE t.id = pendientes.id
+            RETURNING t.id, t.historia_clinica_id, t.obstetra_id, t.estado, t.origen, t.created_at, t.updated_at,
+                      t.intentos
+            """;
+
+    private static final String FINALIZAR_SQL = """
+            UPDATE transcripciones
+            SET texto_original = ?, texto_normalizado = ?, estado = ?, error_detalle = ?,
+                updated_at = ?, iniciado_at = NULL
+            WHERE id = ? AND estado = 'PROCESANDO' AND intentos = ?
+            """;
+
+    private static final String RECUPERAR_VENCIDAS_SQL = """
+            UPDATE transcripciones
+            SET estado = CASE WHEN intentos >= ? THEN 'ERROR' ELSE 'PENDIENTE' END,
+                error_detalle = CASE WHEN intentos >= ? THEN 'Procesamiento interrumpido' END,
+                iniciado_at = NULL,
+                updated_at = now()
+            WHERE estado = 'PROCESANDO' AND origen = 'AUDIO_UPLOAD' AND iniciado_at < ?
+            """;
+
+    private static final RowMapper<Transcripcion> ROW_MAPPER = (rs, rowNum) -> Transcripcion.builder()
+            .id(rs.getObject("id", UUID.class))
+            .historiaClinicaId(rs.getObject("historia_clinica_id", UUID.class))
+            .obstetraId(rs.getObject("obstetra_id", UUID.class))
+            .estado(EstadoTranscripcion.valueOf(rs.getString("estado")))
+            .origen(OrigenTranscripcion.valueOf(rs.getString("origen")))
+            .createdAt(rs.getTimestamp("created_at").toInstant())
+            .updatedAt(rs.getTimestamp("updated_at").toInstant())
+            .intentos(rs.getInt("intentos"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxIntentos;
+
+    public JdbcTranscripcionColaAdapter(JdbcTemplate jdbcTemplate,
+                                        @Value("${transcripcion.worker.max-intentos:3}") int maxIntentos) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxIntentos = maxIntentos;
+    }
+
+    @Override
+    public List<Transcripcion> reclamar(int limite) {
+        if (limite <= 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(RECLAMAR_SQL, ROW_MAPPER, limite);
+    }
+
+    @Override
+    public boolean finalizar(Transcripcion transcripcion) {
+        return jdbcTemplate.update(FINALIZAR_SQL,
+                transcripcion.getTextoOriginal(),
+                transcripcion.getTextoNormalizado(),
+                transcripcion.getEstado().name(),
+                transcripcion.getErrorDetalle(),
+                Timestamp.from(transcripcion.getUpdatedAt()),
+                transcripcion.getId(),
+                transcripcion.getIntentos()) == 1;
+    }
+
+    @Override
+    public int recuperarVencidas(Duration plazo) {
+        return jdbcTemplate.update(RECUPERAR_VENCIDAS_SQL,
+                maxIntentos, maxIntentos, Timestamp.from(Instant.now().minus(plazo)));
+    }
+}
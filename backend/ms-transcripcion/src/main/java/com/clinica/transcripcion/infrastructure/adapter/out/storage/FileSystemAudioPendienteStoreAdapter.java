@@ -0,0 +1,273 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.storage;
+
+import com.clinica.transcripcion.domain.exception.AudioDemasiadoGrandeException;
+import com.clinica.transcripcion.domain.model.AudioPendiente;
+import com.clinica.transcripcion.domain.port.out.AudioPendienteStorePort;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Guarda el audio pendiente en un directorio de spool y sus metadatos en transcripcion_audios.
+ * El audio se copia con un buffer fijo, asi el heap por subida no depende del tamano de la
+ * grabacion. Cualquier instancia puede reclamar una transcripcion, por eso el directorio debe ser
+ * un volumen compartido: al arrancar se compara un marcador guardado en el spool con el registrado
+ * en la base y la instancia no inicia si no coinciden. Las filas anteriores al spool guardan el
+ * audio en la columna datos y se siguen leyendo de ahi.
+ */
+@Slf4j
+@Component
+public class FileSystemAudioPendienteStoreAdapter implements AudioPendienteStorePort {
+
+    private static final String EXTENSION = ".audio";
+    private static final String SUFIJO_TEMPORAL = ".tmp";
+    private static final String ARCHIVO_MARCADOR = ".spool-marcador";
+    private static final int TAMANO_BUFFER = 64 * 1024;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transcripcion_audios (transcripcion_id, content_type, tamano_bytes) VALUES (?, ?, ?)";
+
+    private static final String SELECT_SQL = """
+            SELECT content_type, tamano_bytes, datos IS NOT NULL AS en_tabla
+            FROM transcripcion_audios WHERE transcripcion_id = ?
+            """;
+
+    private static final String SELECT_DATOS_SQL =
+            "SELECT datos FROM transcripcion_audios WHERE transcripcion_id = ?";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM transcripcion_audios WHERE transcripcion_id = ?";
+
+    private static final String PURGAR_FINALIZADOS_SQL = """
+            DELETE FROM transcripcion_audios a
+            USING transcripciones t
+            WHERE t.id = a.transcripcion_id AND t.estado IN ('COMPLETADA', 'ERROR')
+            RETURNING a.transcripcion_id
+            """;
+
+    private static final String SELECT_REGISTRADOS_SQL =
+            "SELECT transcripcion_id FROM transcripcion_audios WHERE transcripcion_id = ANY (?)";
+
+    private static final String INSERT_MARCADOR_SQL =
+            "INSERT INTO transcripcion_spool (id, marcador) VALUES (1, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String SELECT_MARCADOR_SQL = "SELECT marcador FROM transcripcion_spool WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directorio;
+    private final long maxBytes;
+    private final Duration antiguedadHuerfanos;
+
+    public FileSystemAudioPendienteStoreAdapter(JdbcTemplate jdbcTemplate,
+                                                @Value("${transcripcion.audio.spool-dir}") Path directorio,
+                                                @Value("${transcripcion.audio.max-size:100MB}") DataSize maxSize,
+                                                @Value("${transcripcion.audio.antiguedad-huerfanos:PT1H}") Duration antiguedadHuerfanos)
+            throws IOException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.directorio = Files.createDirectories(directorio.toAbsolutePath().normalize());
+        this.maxBytes = maxSize.toBytes();
+        this.antiguedadHuerfanos = antiguedadHuerfanos;
+    }
+
+    /**
+     * La primera instancia registra el marcador y lo escribe en el spool; las demas deben encontrar
+     * ese mismo archivo. Si el volumen se reemplaza a proposito hay que borrar la fila de
+     * transcripcion_spool.
+     */
+    @PostConstruct
+    void verificarSpoolCompartido() throws IOException {
+        UUID propio = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_MARCADOR_SQL, propio);
+        UUID marcador = jdbcTemplate.queryForObject(SELECT_MARCADOR_SQL, UUID.class);
+        Path archivo = directorio.resolve(ARCHIVO_MARCADOR);
+        if (Files.exists(archivo)) {
+            if (!Files.readString(archivo).strip().equals(String.valueOf(marcador))) {
+                throw new IllegalStateException("El spool de audio " + directorio
+                        + " tiene un marcador distinto al registrado: no es el volumen compartido de ms-transcripcion");
+            }
+        } else if (propio.equals(marcador)) {
+            Files.writeString(archivo, marcador.toString());
+        } else {
+            throw new IllegalStateException("El spool de audio " + directorio
+                    + " no contiene el marcador de las demas instancias: monte el volumen compartido"
+                    + " en transcripcion.audio.spool-dir");
+        }
+        log.info("Spool de audio compartido verificado en {}", directorio);
+    }
+
+    @Override
+    public long guardarContenido(UUID transcripcionId, InputStream audio) {
+        Path destino = archivo(transcripcionId);
+        Path temporal = destino.resolveSibling(destino.getFileName() + SUFIJO_TEMPORAL);
+        try {
+            long escritos = 0;
+            try (OutputStream out = Files.newOutputStream(temporal, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[TAMANO_BUFFER];
+                int leidos;
+                while ((leidos = audio.read(buffer)) != -1) {
+                    escritos += leidos;
+                    if (escritos > maxBytes) {
+                        throw new AudioDemasiadoGrandeException(maxBytes);
+                    }
+                    out.write(buffer, 0, leidos);
+                }
+            }
+            Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE);
+            return escritos;
+        } catch (IOException e) {
+            eliminarArchivo(temporal);
+            throw new UncheckedIOException("No se pudo guardar el audio de la transcripcion " + transcripcionId, e);
+        } catch (RuntimeException e) {
+            eliminarArchivo(temporal);
+            throw e;
+        }
+    }
+
+    @Override
+    public void registrar(UUID transcripcionId, String contentType, long tamanoBytes) {
+        jdbcTemplate.update(INSERT_SQL, transcripcionId, contentType, tamanoBytes);
+    }
+
+    @Override
+    public Optional<AudioPendiente> buscar(UUID transcripcionId) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            String contentType = rs.getString("content_type");
+            if (rs.getBoolean("en_tabla")) {
+                return new AudioPendiente(contentType, rs.getLong("tamano_bytes"), () -> new ByteArrayInputStream(
+                        jdbcTemplate.queryForObject(SELECT_DATOS_SQL, byte[].class, transcripcionId)));
+            }
+            Path archivo = archivo(transcripcionId);
+            return new AudioPendiente(contentType, rs.getLong("tamano_bytes"),
+                    () -> new BufferedInputStream(Files.newInputStream(archivo), TAMANO_BUFFER));
+        }, transcripcionId).stream().findFirst();
+    }
+
+    /**
+     * Dentro de una transaccion el archivo se borra recien despues del commit, para no perder el
+     * audio si la transaccion se revierte.
+     */
+    @Override
+    public void eliminar(UUID transcripcionId) {
+        jdbcTemplate.update(DELETE_SQL, transcripcionId);
+        eliminarArchivosAlConfirmar(List.of(transcripcionId));
+    }
+
+    @Override
+    public int purgarFinalizados() {
+        List<UUID> ids = jdbcTemplate.queryForList(PURGAR_FINALIZADOS_SQL, UUID.class);
+        eliminarArchivosAlConfirmar(ids);
+        return ids.size();
+    }
+
+    /**
+     * Borra los archivos que no llegaron a registrarse, por ejemplo si el proceso murio entre
+     * {@link #guardarContenido} y {@link #registrar}. Solo considera los que superan
+     * {@code antiguedad-huerfanos}, para no tocar subidas en curso.
+     */
+    @Override
+    public int purgarHuerfanos() {
+        Instant limite = Instant.now().minus(antiguedadHuerfanos);
+        Map<UUID, Path> candidatos = new HashMap<>();
+        int eliminados = 0;
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            for (Path archivo : (Iterable<Path>) archivos::iterator) {
+                String nombre = archivo.getFileName().toString();
+                if (!modificadoAntesDe(archivo, limite)) {
+                    continue;
+                }
+                if (nombre.endsWith(SUFIJO_TEMPORAL)) {
+                    eliminarArchivo(archivo);
+                    eliminados++;
+                } else if (nombre.endsWith(EXTENSION)) {
+                    idDeArchivo(nombre).ifPresent(id -> candidatos.put(id, archivo));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo recorrer el spool de audio " + directorio, e);
+        }
+        if (!candidatos.isEmpty()) {
+            UUID[] ids = candidatos.keySet().toArray(UUID[]::new);
+            List<UUID> registrados = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_REGISTRADOS_SQL);
+                ps.setArray(1, con.createArrayOf("uuid", ids));
+                return ps;
+            }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+            registrados.forEach(candidatos::remove);
+            candidatos.values().forEach(FileSystemAudioPendienteStoreAdapter::eliminarArchivo);
+            eliminados += candidatos.size();
+        }
+        if (eliminados > 0) {
+            log.warn("{} audios huerfanos eliminados del spool", eliminados);
+        }
+        return eliminados;
+    }
+
+    private static Optional<UUID> idDeArchivo(String nombre) {
+        try {
+            return Optional.of(UUID.fromString(nombre.substring(0, nombre.length() - EXTENSION.length())));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean modificadoAntesDe(Path archivo, Instant limite) {
+        try {
+            return Files.getLastModifiedTime(archivo).toInstant().isBefore(limite);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void eliminarArchivosAlConfirmar(List<UUID> transcripcionIds) {
+        if (transcripcionIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transcripcionIds.forEach(id -> eliminarArchivo(archivo(id)));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                transcripcionIds.forEach(id -> eliminarArchivo(archivo(id)));
+            }
+        });
+    }
+
+    private Path archivo(UUID transcripcionId) {
+        return directorio.resolve(transcripcionId + EXTENSION);
+    }
+
+    private static void eliminarArchivo(Path archivo) {
+        try {
+            Files.deleteIfExists(archivo);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el audio {}: {}", archivo.getFileName(), e.getMessage());
+        }
+    }
+}
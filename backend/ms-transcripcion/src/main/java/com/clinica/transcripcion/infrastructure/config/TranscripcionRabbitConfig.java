@@ -0,0 +1,30 @@
+package com.clinica.transcripcion.infrastructure.config;
+
+import com.clinica.transcripcion.application.service.DiccionarioMedicoService;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TranscripcionRabbitConfig {
+
+    /**
+     * Cola exclusiva por instancia: cada instancia debe recibir el aviso de recarga, no solo una.
+     */
+    @Bean
+    public Queue transcripcionDiccionarioQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding bindingDiccionarioActualizado(Queue transcripcionDiccionarioQueue,
+                                                 TopicExchange clinicaEventsExchange) {
+        return BindingBuilder.bind(transcripcionDiccionarioQueue)
+                .to(clinicaEventsExchange)
+                .with(DiccionarioMedicoService.EVENTO_DICCIONARIO_ACTUALIZADO);
+    }
+}
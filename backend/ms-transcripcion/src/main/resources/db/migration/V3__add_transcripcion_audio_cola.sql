@@ -0,0 +1,15 @@
+-- Las transcripciones de audio se encolan como PENDIENTE y las procesa un worker fuera de la
+-- peticion HTTP; intentos e iniciado_at permiten recuperar las que quedan colgadas en PROCESANDO
+ALTER TABLE transcripciones
+    ADD COLUMN intentos    INT         NOT NULL DEFAULT 0,
+    ADD COLUMN iniciado_at TIMESTAMPTZ;
+
+CREATE INDEX idx_transcripciones_pendientes ON transcripciones (created_at) WHERE estado = 'PENDIENTE';
+
+-- Audio recibido a la espera de ser transcrito; se elimina al finalizar la transcripcion
+CREATE TABLE transcripcion_audios (
+    transcripcion_id    UUID         PRIMARY KEY REFERENCES transcripciones (id) ON DELETE CASCADE,
+    content_type        VARCHAR(100),
+    datos               BYTEA        NOT NULL,
+    created_at          TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
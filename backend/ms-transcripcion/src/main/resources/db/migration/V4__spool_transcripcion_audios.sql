@@ -0,0 +1,7 @@
+-- El audio pendiente pasa a un directorio de spool; la tabla conserva solo los metadatos.
+-- datos queda nullable para poder procesar los audios encolados antes del cambio
+ALTER TABLE transcripcion_audios
+    ALTER COLUMN datos DROP NOT NULL,
+    ADD COLUMN tamano_bytes BIGINT;
+
+UPDATE transcripcion_audios SET tamano_bytes = octet_length(datos) WHERE datos IS NOT NULL;
@@ -0,0 +1,7 @@
+-- Marcador del spool de audio: cada instancia comprueba al arrancar que su directorio contiene el
+-- mismo marcador, es decir que todas montan el mismo volumen compartido
+CREATE TABLE transcripcion_spool (
+    id          SMALLINT  PRIMARY KEY CHECK (id = 1),
+    marcador    UUID      NOT NULL,
+    created_at  TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,65 @@
+package com.clinica.transcripcion.application.service;
+
+import com.clinica.shared.domain.event.AuditableEvent;
+import com.clinica.transcripcion.domain.model.DiccionarioMedicoInfo;
+import com.clinica.transcripcion.domain.port.out.DiccionarioMedicoCachePort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiccionarioMedicoServiceTest {
+
+    @Mock
+    private DiccionarioMedicoCachePort diccionarioCache;
+    @Mock
+    private TranscripcionEventPublisherPort eventPublisher;
+
+    @InjectMocks
+    private DiccionarioMedicoService service;
+
+    @Test
+    void recargar_debeRecargarYAvisarAlRestoDeInstancias() {
+        UUID adminId = UUID.randomUUID();
+        when(diccionarioCache.recargar()).thenReturn(new DiccionarioMedicoInfo(3, 120, Instant.now(), 15));
+
+        DiccionarioMedicoInfo info = service.recargar(adminId);
+
+        assertThat(info.version()).isEqualTo(3);
+        ArgumentCaptor<AuditableEvent> captor = ArgumentCaptor.forClass(AuditableEvent.class);
+        verify(eventPublisher).publish(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(DiccionarioMedicoService.EVENTO_DICCIONARIO_ACTUALIZADO);
+        assertThat(captor.getValue().getUserId()).isEqualTo(adminId);
+        assertThat(captor.getValue().getNewValue()).isEqualTo("version=3, terminos=120");
+    }
+
+    @Test
+    void recargarPorAviso_debeIgnorarElAvisoPropio() {
+        when(diccionarioCache.recargar()).thenReturn(new DiccionarioMedicoInfo(1, 10, Instant.now(), 5));
+        service.recargar(UUID.randomUUID());
+        ArgumentCaptor<AuditableEvent> captor = ArgumentCaptor.forClass(AuditableEvent.class);
+        verify(eventPublisher).publish(captor.capture());
+
+        service.recargarPorAviso(captor.getValue().getResourceId());
+
+        verify(diccionarioCache, times(1)).recargar();
+    }
+
+    @Test
+    void recargarPorAviso_debeRecargarSiElAvisoEsDeOtraInstancia() {
+        service.recargarPorAviso(UUID.randomUUID());
+
+        verify(diccionarioCache).recargar();
+        verifyNoInteractions(eventPublisher);
+    }
+}
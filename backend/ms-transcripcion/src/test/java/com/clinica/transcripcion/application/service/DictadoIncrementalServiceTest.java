@@ -0,0 +1,205 @@
+package com.clinica.transcripcion.application.service;
+
+import com.clinica.shared.exception.DomainException;
+import com.clinica.transcripcion.domain.exception.LimiteDictadoException;
+import com.clinica.transcripcion.domain.exception.SesionDictadoNotFoundException;
+import com.clinica.transcripcion.domain.model.EstadoTranscripcion;
+import com.clinica.transcripcion.domain.model.FragmentoNormalizado;
+import com.clinica.transcripcion.domain.model.OrigenTranscripcion;
+import com.clinica.transcripcion.domain.model.OyenteDictado;
+import com.clinica.transcripcion.domain.model.SesionDictado;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+import com.clinica.transcripcion.domain.port.out.NormalizadorMedicoPort;
+import com.clinica.transcripcion.domain.port.out.NotificadorDictadoPort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionRepositoryPort;
+import com.clinica.transcripcion.infrastructure.adapter.out.dictado.InMemorySesionDictadoRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DictadoIncrementalServiceTest {
+
+    @Mock
+    private TranscripcionRepositoryPort transcripcionRepository;
+    @Mock
+    private TranscripcionEventPublisherPort eventPublisher;
+    @Mock
+    private NormalizadorMedicoPort normalizadorMedico;
+    @Mock
+    private NotificadorDictadoPort notificador;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final InMemorySesionDictadoRepositoryAdapter sesionRepository = new InMemorySesionDictadoRepositoryAdapter();
+    private DictadoIncrementalService service;
+    private UUID historiaId;
+    private UUID obstetraId;
+
+    @BeforeEach
+    void setUp() {
+        service = new DictadoIncrementalService(sesionRepository, transcripcionRepository, eventPublisher,
+                normalizadorMedico, notificador, transactionTemplate, 2, 3);
+        historiaId = UUID.randomUUID();
+        obstetraId = UUID.randomUUID();
+        lenient().when(normalizadorMedico.normalizar(any())).thenAnswer(inv -> inv.<String>getArgument(0).toUpperCase());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus()));
+        lenient().when(transcripcionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void agregarFragmento_debeNormalizarYNotificarParcial() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+
+        FragmentoNormalizado fragmento = service.agregarFragmento(sesion.getId(), obstetraId, 0, "paciente con hta");
+
+        assertThat(fragmento.textoNormalizado()).isEqualTo("PACIENTE CON HTA");
+        verify(notificador).fragmento(fragmento);
+        verifyNoInteractions(transcripcionRepository);
+    }
+
+    @Test
+    void agregarFragmento_repetido_noDebeAcumularseDosVeces() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+
+        service.agregarFragmento(sesion.getId(), obstetraId, 0, "paciente");
+        service.agregarFragmento(sesion.getId(), obstetraId, 0, "paciente");
+
+        assertThat(sesion.textoCompleto()).isEqualTo("paciente");
+        verify(notificador, times(1)).fragmento(any());
+    }
+
+    @Test
+    void agregarFragmento_sobreElMaximo_debeLanzarExcepcion() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+        for (int i = 0; i < 3; i++) {
+            service.agregarFragmento(sesion.getId(), obstetraId, i, "texto " + i);
+        }
+
+        assertThatThrownBy(() -> service.agregarFragmento(sesion.getId(), obstetraId, 3, "otro"))
+                .isInstanceOf(LimiteDictadoException.class);
+        assertThat(sesion.textoCompleto()).isEqualTo("texto 0 texto 1 texto 2");
+    }
+
+    @Test
+    void iniciar_sobreElMaximoDeSesionesDeLaObstetra_debeLanzarExcepcion() {
+        service.iniciar(historiaId, obstetraId);
+        service.iniciar(historiaId, obstetraId);
+
+        assertThatThrownBy(() -> service.iniciar(historiaId, obstetraId))
+                .isInstanceOf(LimiteDictadoException.class);
+        assertThat(service.iniciar(historiaId, UUID.randomUUID())).isNotNull();
+    }
+
+    @Test
+    void agregarFragmento_deOtraObstetra_debeLanzarExcepcion() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+
+        assertThatThrownBy(() -> service.agregarFragmento(sesion.getId(), UUID.randomUUID(), 0, "texto"))
+                .isInstanceOf(SesionDictadoNotFoundException.class);
+    }
+
+    @Test
+    void suscribir_deOtraObstetra_noDebeRegistrarAlOyente() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+        OyenteDictado oyente = mock(OyenteDictado.class);
+
+        assertThatThrownBy(() -> service.suscribir(sesion.getId(), UUID.randomUUID(), oyente))
+                .isInstanceOf(SesionDictadoNotFoundException.class);
+        verify(notificador, never()).suscribir(any(), any());
+
+        service.suscribir(sesion.getId(), obstetraId, oyente);
+        verify(notificador).suscribir(sesion.getId(), oyente);
+    }
+
+    @Test
+    void finalizar_debePersistirUnaVezConElTextoCompletoNormalizado() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+        service.agregarFragmento(sesion.getId(), obstetraId, 0, "cuadro de preeclampsia");
+        service.agregarFragmento(sesion.getId(), obstetraId, 1, "severa en curso");
+
+        Transcripcion result = service.finalizar(sesion.getId(), obstetraId);
+
+        assertThat(result.getEstado()).isEqualTo(EstadoTranscripcion.COMPLETADA);
+        assertThat(result.getOrigen()).isEqualTo(OrigenTranscripcion.WEB_SPEECH_API);
+        assertThat(result.getTextoOriginal()).isEqualTo("cuadro de preeclampsia severa en curso");
+        verify(normalizadorMedico).normalizar("cuadro de preeclampsia severa en curso");
+        verify(transcripcionRepository, times(1)).save(any());
+        verify(eventPublisher).publish(any());
+        verify(notificador).finalizado(sesion.getId(), result);
+        assertThat(sesionRepository.buscar(sesion.getId())).isEmpty();
+    }
+
+    @Test
+    void finalizar_siFallaLaPersistencia_debeConservarLaSesion() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+        service.agregarFragmento(sesion.getId(), obstetraId, 0, "texto dictado");
+        when(transcripcionRepository.save(any())).thenThrow(new IllegalStateException("db caida"));
+
+        assertThatThrownBy(() -> service.finalizar(sesion.getId(), obstetraId))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(sesionRepository.buscar(sesion.getId())).contains(sesion);
+        verify(notificador, never()).finalizado(any(), any());
+    }
+
+    @Test
+    void finalizar_sinTexto_debeLanzarExcepcion() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+
+        assertThatThrownBy(() -> service.finalizar(sesion.getId(), obstetraId))
+                .isInstanceOf(DomainException.class);
+        verifyNoInteractions(transcripcionRepository);
+    }
+
+    @Test
+    void expirarInactivas_debeGuardarLasConTextoYDescartarLasVacias() {
+        SesionDictado conTexto = service.iniciar(historiaId, obstetraId);
+        service.agregarFragmento(conTexto.getId(), obstetraId, 0, "texto dictado");
+        SesionDictado vacia = service.iniciar(historiaId, obstetraId);
+
+        int expiradas = service.expirarInactivas(Duration.ofMillis(-1));
+
+        assertThat(expiradas).isEqualTo(2);
+        ArgumentCaptor<Transcripcion> captor = ArgumentCaptor.forClass(Transcripcion.class);
+        verify(transcripcionRepository).save(captor.capture());
+        assertThat(captor.getValue().getTextoOriginal()).isEqualTo("texto dictado");
+        verify(notificador).finalizado(eq(conTexto.getId()), any());
+        verify(notificador).descartado(vacia.getId());
+        assertThat(sesionRepository.listar()).isEmpty();
+    }
+
+    @Test
+    void expirarInactivas_siFallaLaPersistencia_debeConservarLaSesionParaReintentar() {
+        SesionDictado sesion = service.iniciar(historiaId, obstetraId);
+        service.agregarFragmento(sesion.getId(), obstetraId, 0, "texto dictado");
+        when(transcripcionRepository.save(any())).thenThrow(new IllegalStateException("db caida"));
+
+        assertThat(service.expirarInactivas(Duration.ofMillis(-1))).isZero();
+        assertThat(sesionRepository.buscar(sesion.getId())).contains(sesion);
+        verify(notificador, never()).descartado(any());
+    }
+
+    @Test
+    void expirarInactivas_noDebeCerrarSesionesActivas() {
+        service.iniciar(historiaId, obstetraId);
+
+        assertThat(service.expirarInactivas(Duration.ofMinutes(10))).isZero();
+        assertThat(sesionRepository.listar()).hasSize(1);
+    }
+}
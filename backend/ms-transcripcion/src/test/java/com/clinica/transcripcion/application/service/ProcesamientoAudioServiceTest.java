@@ -0,0 +1,131 @@
+package com.clinica.transcripcion.application.service;
+
+import com.clinica.transcripcion.domain.model.AudioPendiente;
+import com.clinica.transcripcion.domain.model.EstadoTranscripcion;
+import com.clinica.transcripcion.domain.model.OrigenTranscripcion;
+import com.clinica.transcripcion.domain.model.Transcripcion;
+import com.clinica.transcripcion.domain.port.out.AudioPendienteStorePort;
+import com.clinica.transcripcion.domain.port.out.NormalizadorMedicoPort;
+import com.clinica.transcripcion.domain.port.out.SpeechToTextPort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionColaPort;
+import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProcesamientoAudioServiceTest {
+
+    @Mock
+    private TranscripcionColaPort transcripcionCola;
+    @Mock
+    private AudioPendienteStorePort audioPendienteStore;
+    @Mock
+    private TranscripcionEventPublisherPort eventPublisher;
+    @Mock
+    private NormalizadorMedicoPort normalizadorMedico;
+    @Mock
+    private SpeechToTextPort speechToText;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ProcesamientoAudioService service;
+    private Transcripcion transcripcion;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProcesamientoAudioService(transcripcionCola, audioPendienteStore, eventPublisher,
+                normalizadorMedico, speechToText, transactionTemplate);
+        lenient().doAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus()))
+                .when(transactionTemplate).execute(any());
+        lenient().doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+        transcripcion = Transcripcion.builder()
+                .id(UUID.randomUUID())
+                .historiaClinicaId(UUID.randomUUID())
+                .obstetraId(UUID.randomUUID())
+                .estado(EstadoTranscripcion.PROCESANDO)
+                .origen(OrigenTranscripcion.AUDIO_UPLOAD)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    @Test
+    void procesarPendiente_debeTranscribirNormalizarYFinalizar() throws IOException {
+        when(audioPendienteStore.buscar(transcripcion.getId())).thenReturn(Optional.of(audio(1, 2, 3)));
+        when(speechToText.transcribir(any(InputStream.class), eq("audio/wav"))).thenReturn("texto del audio");
+        when(normalizadorMedico.normalizar("texto del audio")).thenReturn("texto normalizado del audio");
+        when(transcripcionCola.finalizar(transcripcion)).thenReturn(true);
+
+        service.procesarPendiente(transcripcion);
+
+        assertThat(transcripcion.getEstado()).isEqualTo(EstadoTranscripcion.COMPLETADA);
+        assertThat(transcripcion.getTextoOriginal()).isEqualTo("texto del audio");
+        assertThat(transcripcion.getTextoNormalizado()).isEqualTo("texto normalizado del audio");
+        verify(audioPendienteStore).eliminar(transcripcion.getId());
+        verify(eventPublisher).publish(any());
+    }
+
+    @Test
+    void procesarPendiente_conErrorSpeechToText_debeMarcarError() throws IOException {
+        when(audioPendienteStore.buscar(transcripcion.getId())).thenReturn(Optional.of(audio(1)));
+        when(speechToText.transcribir(any(InputStream.class), any())).thenThrow(new RuntimeException("STT error"));
+        when(transcripcionCola.finalizar(transcripcion)).thenReturn(true);
+
+        service.procesarPendiente(transcripcion);
+
+        assertThat(transcripcion.getEstado()).isEqualTo(EstadoTranscripcion.ERROR);
+        assertThat(transcripcion.getErrorDetalle()).contains("STT error");
+        verify(audioPendienteStore).eliminar(transcripcion.getId());
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void procesarPendiente_sinAudio_debeMarcarError() {
+        when(audioPendienteStore.buscar(transcripcion.getId())).thenReturn(Optional.empty());
+        when(transcripcionCola.finalizar(transcripcion)).thenReturn(true);
+
+        service.procesarPendiente(transcripcion);
+
+        assertThat(transcripcion.getEstado()).isEqualTo(EstadoTranscripcion.ERROR);
+        verifyNoInteractions(speechToText);
+    }
+
+    @Test
+    void procesarPendiente_yaNoEnProceso_debeDescartarResultado() throws IOException {
+        when(audioPendienteStore.buscar(transcripcion.getId())).thenReturn(Optional.of(audio(1)));
+        when(speechToText.transcribir(any(InputStream.class), eq("audio/wav"))).thenReturn("texto");
+        when(normalizadorMedico.normalizar("texto")).thenReturn("texto");
+        when(transcripcionCola.finalizar(transcripcion)).thenReturn(false);
+
+        service.procesarPendiente(transcripcion);
+
+        verify(audioPendienteStore, never()).eliminar(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static AudioPendiente audio(int... bytes) {
+        byte[] datos = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            datos[i] = (byte) bytes[i];
+        }
+        return new AudioPendiente("audio/wav", datos.length, () -> new ByteArrayInputStream(datos));
+    }
+}
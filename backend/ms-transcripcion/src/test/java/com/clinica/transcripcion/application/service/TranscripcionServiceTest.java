@@ -6,8 +6,8 @@ import com.clinica.transcripcion.domain.model.OrigenTranscripcion;
 import com.clinica.transcripcion.domain.model.Transcripcion;
 import com.clinica.transcripcion.domain.port.in.ProcesarAudioUseCase;
 import com.clinica.transcripcion.domain.port.in.ProcesarTextoUseCase;
+import com.clinica.transcripcion.domain.port.out.AudioPendienteStorePort;
 import com.clinica.transcripcion.domain.port.out.NormalizadorMedicoPort;
-import com.clinica.transcripcion.domain.port.out.SpeechToTextPort;
 import com.clinica.transcripcion.domain.port.out.TranscripcionEventPublisherPort;
 import com.clinica.transcripcion.domain.port.out.TranscripcionRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +19,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +32,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +46,9 @@ class TranscripcionServiceTest {
     @Mock
     private NormalizadorMedicoPort normalizadorMedico;
     @Mock
-    private SpeechToTextPort speechToText;
+    private AudioPendienteStorePort audioPendienteStore;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private TranscripcionService service;
@@ -87,38 +96,35 @@ class TranscripcionServiceTest {
     }
 
     @Test
-    void procesarAudio_debeTranscribirNormalizarYGuardar() {
-        byte[] audio = new byte[]{1, 2, 3};
-        String textoTranscrito = "texto del audio";
-        String textoNormalizado = "texto normalizado del audio";
-
-        when(speechToText.transcribir(audio, "audio/wav")).thenReturn(textoTranscrito);
-        when(normalizadorMedico.normalizar(textoTranscrito)).thenReturn(textoNormalizado);
+    void procesarAudio_debeGuardarAudioYEncolarPendiente() {
+        InputStream audio = new ByteArrayInputStream(new byte[]{1, 2, 3});
+        when(audioPendienteStore.guardarContenido(any(), eq(audio))).thenReturn(3L);
         when(transcripcionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        enTransaccion();
 
         Transcripcion result = service.procesar(
                 new ProcesarAudioUseCase.ProcesarAudioCommand(historiaId, obstetraId, audio, "audio/wav")
         );
 
-        assertThat(result.getEstado()).isEqualTo(EstadoTranscripcion.COMPLETADA);
-        assertThat(result.getTextoOriginal()).isEqualTo(textoTranscrito);
-        assertThat(result.getTextoNormalizado()).isEqualTo(textoNormalizado);
+        assertThat(result.getEstado()).isEqualTo(EstadoTranscripcion.PENDIENTE);
         assertThat(result.getOrigen()).isEqualTo(OrigenTranscripcion.AUDIO_UPLOAD);
-        verify(eventPublisher).publish(any());
+        verify(audioPendienteStore).guardarContenido(result.getId(), audio);
+        verify(audioPendienteStore).registrar(result.getId(), "audio/wav", 3L);
+        verifyNoInteractions(normalizadorMedico, eventPublisher);
     }
 
     @Test
-    void procesarAudio_conErrorSpeechToText_debeMarcarError() {
-        when(speechToText.transcribir(any(), any())).thenThrow(new RuntimeException("STT error"));
-        when(transcripcionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    void procesarAudio_siFallaElRegistro_debeEliminarElAudio() {
+        when(audioPendienteStore.guardarContenido(any(), any())).thenReturn(3L);
+        when(transcripcionRepository.save(any())).thenThrow(new RuntimeException("db error"));
+        enTransaccion();
 
-        Transcripcion result = service.procesar(
-                new ProcesarAudioUseCase.ProcesarAudioCommand(historiaId, obstetraId, new byte[]{1}, "audio/wav")
-        );
+        assertThatThrownBy(() -> service.procesar(new ProcesarAudioUseCase.ProcesarAudioCommand(
+                historiaId, obstetraId, new ByteArrayInputStream(new byte[]{1}), "audio/wav")))
+                .hasMessage("db error");
 
-        assertThat(result.getEstado()).isEqualTo(EstadoTranscripcion.ERROR);
-        assertThat(result.getErrorDetalle()).contains("STT error");
-        verify(eventPublisher, never()).publish(any());
+        verify(audioPendienteStore).eliminar(any());
+        verify(audioPendienteStore, never()).registrar(any(), any(), anyLong());
     }
 
     @Test
@@ -178,4 +184,9 @@ class TranscripcionServiceTest {
                 .updatedAt(Instant.now())
                 .build();
     }
+
+    private void enTransaccion() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus()));
+    }
 }
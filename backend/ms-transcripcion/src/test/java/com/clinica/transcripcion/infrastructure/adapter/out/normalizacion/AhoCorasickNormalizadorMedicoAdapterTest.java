@@ -0,0 +1,59 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.normalizacion;
+
+import com.clinica.transcripcion.domain.model.DiccionarioMedicoInfo;
+import com.clinica.transcripcion.domain.model.TerminoMedico;
+import com.clinica.transcripcion.domain.port.out.TerminoMedicoRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AhoCorasickNormalizadorMedicoAdapterTest {
+
+    private final TerminoMedicoRepositoryPort repository = mock(TerminoMedicoRepositoryPort.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AhoCorasickNormalizadorMedicoAdapter adapter =
+            new AhoCorasickNormalizadorMedicoAdapter(repository, meterRegistry);
+
+    @Test
+    void recargar_debePublicarNuevaVersionYMetricas() {
+        when(repository.findAll()).thenReturn(List.of(termino("hta", "hipertension arterial", "I10")));
+        adapter.recargar();
+        when(repository.findAll()).thenReturn(List.of(
+                termino("hta", "hipertension arterial", "I10"),
+                termino("fum", "fecha de ultima menstruacion", null)));
+
+        DiccionarioMedicoInfo info = adapter.recargar();
+
+        assertThat(info.version()).isEqualTo(2);
+        assertThat(info.terminos()).isEqualTo(2);
+        assertThat(adapter.actual()).isEqualTo(info);
+        assertThat(adapter.normalizar("fum reciente")).isEqualTo("fecha de ultima menstruacion reciente");
+        assertThat(meterRegistry.get("transcripcion.diccionario.terminos").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("transcripcion.diccionario.version").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("transcripcion.diccionario.carga").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void recargar_debeConservarLaVersionAnteriorSiLaCargaFalla() {
+        when(repository.findAll()).thenReturn(List.of(termino("hta", "hipertension arterial", "I10")));
+        DiccionarioMedicoInfo anterior = adapter.recargar();
+        when(repository.findAll()).thenThrow(new IllegalStateException("sin conexion"));
+
+        assertThatThrownBy(adapter::recargar).isInstanceOf(IllegalStateException.class);
+
+        assertThat(adapter.actual()).isEqualTo(anterior);
+        assertThat(adapter.normalizar("hta")).isEqualTo("hipertension arterial (CIE-10: I10)");
+    }
+
+    private static TerminoMedico termino(String termino, String normalizado, String cie10) {
+        return TerminoMedico.builder()
+                .termino(termino)
+                .terminoNormalizado(normalizado)
+                .codigoCie10(cie10)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.normalizacion;
+
+import com.clinica.transcripcion.domain.model.TerminoMedico;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AutomataTerminosTest {
+
+    private final AutomataTerminos automata = AutomataTerminos.construir(List.of(
+            termino("preeclampsia", "preeclampsia", "O14"),
+            termino("preeclampsia severa", "preeclampsia severa", "O14.1"),
+            termino("hta", "hipertension arterial", "I10"),
+            termino("fum", "fecha de ultima menstruacion", null),
+            termino("cesárea", "cesarea", "O82"),
+            termino("eclampsia", "eclampsia", "O15")
+    ));
+
+    @Test
+    void normalizar_debeReemplazarTerminoYAgregarCie10() {
+        assertThat(automata.normalizar("paciente con hta cronica"))
+                .isEqualTo("paciente con hipertension arterial (CIE-10: I10) cronica");
+    }
+
+    @Test
+    void normalizar_debePreferirLaCoincidenciaMasLarga() {
+        assertThat(automata.normalizar("cuadro de preeclampsia severa en curso"))
+                .isEqualTo("cuadro de preeclampsia severa (CIE-10: O14.1) en curso");
+    }
+
+    @Test
+    void normalizar_debeIgnorarMayusculasYTildes() {
+        assertThat(automata.normalizar("Antecedente de CESAREA y FUM 01/02"))
+                .isEqualTo("Antecedente de cesarea (CIE-10: O82) y fecha de ultima menstruacion 01/02");
+    }
+
+    @Test
+    void normalizar_noDebeReemplazarDentroDeOtraPalabra() {
+        assertThat(automata.normalizar("shtar fumador")).isEqualTo("shtar fumador");
+        assertThat(automata.normalizar("preeclampsia")).isEqualTo("preeclampsia (CIE-10: O14)");
+    }
+
+    @Test
+    void normalizar_debeReconocerTerminoQueEsSufijoDeOtro() {
+        assertThat(automata.normalizar("riesgo de eclampsia."))
+                .isEqualTo("riesgo de eclampsia (CIE-10: O15).");
+    }
+
+    @Test
+    void normalizar_debeDevolverTextoSinCambiosSiNoHayTerminos() {
+        AutomataTerminos vacio = AutomataTerminos.construir(List.of());
+
+        assertThat(vacio.normalizar("texto libre")).isEqualTo("texto libre");
+        assertThat(automata.normalizar("")).isEmpty();
+    }
+
+    private static TerminoMedico termino(String termino, String normalizado, String cie10) {
+        return TerminoMedico.builder()
+                .termino(termino)
+                .terminoNormalizado(normalizado)
+                .codigoCie10(cie10)
+                .build();
+    }
+}
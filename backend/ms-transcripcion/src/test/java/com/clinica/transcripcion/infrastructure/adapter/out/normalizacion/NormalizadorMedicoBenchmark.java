@@ -0,0 +1,100 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.normalizacion;
+
+import com.clinica.transcripcion.domain.model.TerminoMedico;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compara {@link AutomataTerminos} con el enfoque de una expresion regular por termino sobre
+ * diccionarios de distinto tamano. No se ejecuta con los tests; lanzar manualmente:
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     com.clinica.transcripcion.infrastructure.adapter.out.normalizacion.NormalizadorMedicoBenchmark [palabras]
+ * </pre>
+ * Cada medicion descarta las primeras iteraciones como calentamiento del JIT y reporta la media.
+ */
+class NormalizadorMedicoBenchmark {
+
+    private static final int CALENTAMIENTO = 5;
+    private static final int ITERACIONES = 20;
+
+    private static volatile int sumidero;
+
+    public static void main(String[] args) {
+        int palabras = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        Random random = new Random(42);
+
+        for (int cantidad : new int[]{100, 1000, 5000}) {
+            List<TerminoMedico> terminos = diccionario(cantidad);
+            String texto = texto(terminos, palabras, random);
+
+            long construccion = System.nanoTime();
+            AutomataTerminos automata = AutomataTerminos.construir(terminos);
+            construccion = System.nanoTime() - construccion;
+            List<Reemplazo> ingenuo = terminos.stream()
+                    .map(t -> new Reemplazo(
+                            Pattern.compile("\\b" + Pattern.quote(t.getTermino()) + "\\b",
+                                    Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE),
+                            Matcher.quoteReplacement(t.getTerminoNormalizado() + " (CIE-10: " + t.getCodigoCie10() + ")")))
+                    .toList();
+
+            double aho = medir(() -> automata.normalizar(texto));
+            double regex = medir(() -> {
+                String resultado = texto;
+                for (Reemplazo reemplazo : ingenuo) {
+                    resultado = reemplazo.patron().matcher(resultado).replaceAll(reemplazo.texto());
+                }
+                return resultado;
+            });
+            System.out.printf(Locale.ROOT,
+                    "%5d terminos, %d palabras: aho-corasick %8.3f ms (construccion %5.1f ms), regex por termino %9.3f ms (x%.0f)%n",
+                    cantidad, palabras, aho, construccion / 1e6, regex, regex / aho);
+        }
+    }
+
+    private static double medir(Normalizacion normalizacion) {
+        long total = 0;
+        for (int i = 0; i < CALENTAMIENTO + ITERACIONES; i++) {
+            long inicio = System.nanoTime();
+            sumidero += normalizacion.ejecutar().length();
+            if (i >= CALENTAMIENTO) {
+                total += System.nanoTime() - inicio;
+            }
+        }
+        return total / (ITERACIONES * 1e6);
+    }
+
+    private static List<TerminoMedico> diccionario(int cantidad) {
+        List<TerminoMedico> terminos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            terminos.add(TerminoMedico.builder()
+                    .termino("termino" + i + (i % 3 == 0 ? " gestacional" : ""))
+                    .terminoNormalizado("Termino Normalizado " + i)
+                    .codigoCie10("O" + (i % 100))
+                    .build());
+        }
+        return terminos;
+    }
+
+    private static String texto(List<TerminoMedico> terminos, int palabras, Random random) {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < palabras; i++) {
+            texto.append(i % 10 == 0 ? terminos.get(random.nextInt(terminos.size())).getTermino() : "paciente")
+                    .append(' ');
+        }
+        return texto.toString();
+    }
+
+    private record Reemplazo(Pattern patron, String texto) {
+    }
+
+    @FunctionalInterface
+    private interface Normalizacion {
+        String ejecutar();
+    }
+}
@@ -0,0 +1,124 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.storage;
+
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Mide el heap de N subidas simultaneas de audio: leyendo la grabacion completa a byte[] (como
+ * hacia {@code MultipartFile.getBytes()}) frente a copiarla al spool con
+ * {@link FileSystemAudioPendienteStoreAdapter#guardarContenido}. No se ejecuta con los tests;
+ * lanzar manualmente:
+ * <pre>
+ * java -Xmx2g -cp target/test-classes:target/classes:$(cat cp.txt) \
+ *     com.clinica.transcripcion.infrastructure.adapter.out.storage.AudioUploadMemoryBenchmark [subidas] [MB]
+ * </pre>
+ * Reporta el pico de heap (suma de picos de los pools tras un GC) durante cada tanda.
+ */
+class AudioUploadMemoryBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int subidas = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        long tamano = DataSize.ofMegabytes(args.length > 1 ? Long.parseLong(args[1]) : 50).toBytes();
+        Path directorio = Files.createTempDirectory("audio-benchmark");
+        FileSystemAudioPendienteStoreAdapter adapter =
+                new FileSystemAudioPendienteStoreAdapter(null, directorio, DataSize.ofGigabytes(1), Duration.ofHours(1));
+
+        System.out.printf("%d subidas simultaneas de %d MB, Xmx %d MB%n",
+                subidas, tamano / (1024 * 1024), Runtime.getRuntime().maxMemory() / (1024 * 1024));
+
+        medir("byte[] completo", subidas, () -> {
+            Path destino = directorio.resolve(UUID.randomUUID() + ".bin");
+            Files.write(destino, new AudioSintetico(tamano).readAllBytes());
+            Files.delete(destino);
+        });
+        medir("streaming al spool", subidas, () -> {
+            UUID id = UUID.randomUUID();
+            adapter.guardarContenido(id, new AudioSintetico(tamano));
+            Files.delete(directorio.resolve(id + ".audio"));
+        });
+        Files.delete(directorio);
+    }
+
+    private static void medir(String nombre, int subidas, Subida subida) throws Exception {
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(p -> p.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        long base = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long inicio = System.nanoTime();
+
+        CountDownLatch largada = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(subidas)) {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int i = 0; i < subidas; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    subida.ejecutar();
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        }
+
+        long duracion = (System.nanoTime() - inicio) / 1_000_000;
+        long pico = pools.stream().mapToLong(p -> p.getPeakUsage().getUsed()).sum();
+        System.out.printf("%-20s pico heap %5d MB (sobre base %4d MB), %6d ms%n",
+                nombre, (pico - base) / (1024 * 1024), base / (1024 * 1024), duracion);
+    }
+
+    /**
+     * Genera bytes sin mantenerlos en memoria y los entrega en bloques de 8 KB, como un socket.
+     */
+    private static final class AudioSintetico extends InputStream {
+
+        private static final int BLOQUE = 8 * 1024;
+
+        private final long tamano;
+        private long leidos;
+
+        AudioSintetico(long tamano) {
+            this.tamano = tamano;
+        }
+
+        @Override
+        public int read() {
+            return leidos < tamano ? (int) (leidos++ & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (leidos >= tamano) {
+                return -1;
+            }
+            int n = (int) Math.min(Math.min(len, BLOQUE), tamano - leidos);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) (leidos + i);
+            }
+            leidos += n;
+            return n;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Subida {
+        void ejecutar() throws Exception;
+    }
+}
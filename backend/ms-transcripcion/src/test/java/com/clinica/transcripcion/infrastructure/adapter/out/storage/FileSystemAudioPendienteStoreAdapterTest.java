@@ -0,0 +1,109 @@
+package com.clinica.transcripcion.infrastructure.adapter.out.storage;
+
+import com.clinica.transcripcion.domain.exception.AudioDemasiadoGrandeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FileSystemAudioPendienteStoreAdapterTest {
+
+    @TempDir
+    Path directorio;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void guardarContenido_debeCopiarElAudioAlSpool() throws IOException {
+        FileSystemAudioPendienteStoreAdapter adapter = adapter(DataSize.ofKilobytes(512));
+        byte[] audio = new byte[200_000];
+        audio[199_999] = 7;
+        UUID id = UUID.randomUUID();
+
+        long escritos = adapter.guardarContenido(id, new ByteArrayInputStream(audio));
+
+        assertThat(escritos).isEqualTo(audio.length);
+        assertThat(Files.readAllBytes(directorio.resolve(id + ".audio"))).isEqualTo(audio);
+    }
+
+    @Test
+    void guardarContenido_superandoElMaximo_debeFallarSinDejarArchivos() throws IOException {
+        FileSystemAudioPendienteStoreAdapter adapter = adapter(DataSize.ofKilobytes(64));
+
+        assertThatThrownBy(() -> adapter.guardarContenido(UUID.randomUUID(), new ByteArrayInputStream(new byte[100_000])))
+                .isInstanceOf(AudioDemasiadoGrandeException.class);
+
+        try (var archivos = Files.list(directorio)) {
+            assertThat(archivos).isEmpty();
+        }
+    }
+
+    @Test
+    void eliminar_fueraDeTransaccion_debeBorrarElArchivo() {
+        FileSystemAudioPendienteStoreAdapter adapter = adapter(DataSize.ofKilobytes(64));
+        UUID id = UUID.randomUUID();
+        adapter.guardarContenido(id, new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        adapter.eliminar(id);
+
+        assertThat(directorio.resolve(id + ".audio")).doesNotExist();
+    }
+
+    @Test
+    void purgarHuerfanos_debeBorrarSoloLosArchivosViejosSinRegistrar() throws IOException {
+        FileSystemAudioPendienteStoreAdapter adapter = adapter(DataSize.ofKilobytes(64));
+        UUID registrado = UUID.randomUUID();
+        UUID huerfano = UUID.randomUUID();
+        UUID reciente = UUID.randomUUID();
+        for (UUID id : List.of(registrado, huerfano, reciente)) {
+            adapter.guardarContenido(id, new ByteArrayInputStream(new byte[]{1}));
+        }
+        Path temporal = Files.writeString(directorio.resolve(UUID.randomUUID() + ".audio.tmp"), "x");
+        FileTime viejo = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        for (Path archivo : List.of(directorio.resolve(registrado + ".audio"), directorio.resolve(huerfano + ".audio"), temporal)) {
+            Files.setLastModifiedTime(archivo, viejo);
+        }
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of(registrado));
+
+        assertThat(adapter.purgarHuerfanos()).isEqualTo(2);
+
+        assertThat(directorio.resolve(registrado + ".audio")).exists();
+        assertThat(directorio.resolve(reciente + ".audio")).exists();
+        assertThat(directorio.resolve(huerfano + ".audio")).doesNotExist();
+        assertThat(temporal).doesNotExist();
+    }
+
+    @Test
+    void verificarSpoolCompartido_conOtroMarcadorRegistrado_debeImpedirElArranque() {
+        FileSystemAudioPendienteStoreAdapter adapter = adapter(DataSize.ofKilobytes(64));
+        when(jdbcTemplate.queryForObject(anyString(), eq(UUID.class))).thenReturn(UUID.randomUUID());
+
+        assertThatThrownBy(adapter::verificarSpoolCompartido).isInstanceOf(IllegalStateException.class);
+    }
+
+    private FileSystemAudioPendienteStoreAdapter adapter(DataSize maxSize) {
+        try {
+            return new FileSystemAudioPendienteStoreAdapter(jdbcTemplate, directorio, maxSize, Duration.ofHours(1));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.clinica.shared.exception;
+
+public class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
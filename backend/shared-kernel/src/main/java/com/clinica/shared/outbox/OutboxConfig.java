@@ -0,0 +1,13 @@
+package com.clinica.shared.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "clinica.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    public static final String TABLA = "outbox_eventos";
+}
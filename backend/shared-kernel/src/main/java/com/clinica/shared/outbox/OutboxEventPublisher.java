@@ -0,0 +1,46 @@
+package com.clinica.shared.outbox;
+
+import com.clinica.shared.domain.event.AuditableEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+
+/**
+ * Registra el evento en la tabla outbox dentro de la transaccion de negocio en curso.
+ * El evento solo llega a RabbitMQ (via {@link OutboxRelay}) si esa transaccion hace commit.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "clinica.outbox.enabled", havingValue = "true")
+public class OutboxEventPublisher {
+
+    private static final String INSERT_SQL = "INSERT INTO " + OutboxConfig.TABLA
+            + " (event_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(AuditableEvent event) {
+        jdbcTemplate.update(INSERT_SQL,
+                event.getEventId(),
+                event.getEventType(),
+                serializar(event),
+                Timestamp.from(event.getOccurredOn()));
+    }
+
+    private String serializar(AuditableEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + event.getEventType(), e);
+        }
+    }
+}
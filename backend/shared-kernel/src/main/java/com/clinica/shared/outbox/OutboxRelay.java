@@ -0,0 +1,156 @@
+package com.clinica.shared.outbox;
+
+import com.clinica.shared.config.RabbitMQConfig;
+import com.clinica.shared.domain.event.AuditableEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publica en lotes los eventos pendientes de la tabla outbox usando publisher confirms.
+ * Las filas se bloquean con SKIP LOCKED, por lo que varias instancias del servicio pueden
+ * ejecutar el relay en paralelo sin publicar dos veces el mismo lote. Si el broker no confirma,
+ * la transaccion se revierte y el lote se reintenta en la siguiente ejecucion; los consumidores
+ * deben ser idempotentes por eventId. Una fila ilegible no frena el lote: se le suma un intento y,
+ * al llegar a {@code max-intentos}, queda en la tabla como fallida para revision manual. Los intentos
+ * se registran en su propia transaccion, despues del lote, para que un rollback no los pierda.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "clinica.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final String SELECT_PENDIENTES_SQL = "SELECT id, event_type, payload FROM " + OutboxConfig.TABLA
+            + " WHERE intentos < ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String DELETE_SQL = "DELETE FROM " + OutboxConfig.TABLA + " WHERE id = ANY (?)";
+    private static final String FALLIDO_SQL = "UPDATE " + OutboxConfig.TABLA
+            + " SET intentos = intentos + 1, ultimo_error = ? WHERE id = ? RETURNING intentos";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final int maxIntentos;
+    private final Counter publicados;
+    private final Counter fallidos;
+
+    private record MensajeOutbox(long id, String eventType, String payload) {
+    }
+
+    private record Fallo(MensajeOutbox mensaje, Exception causa) {
+    }
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       RabbitTemplate rabbitTemplate,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${clinica.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${clinica.outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                       @Value("${clinica.outbox.relay.max-intentos:5}") int maxIntentos) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.maxIntentos = maxIntentos;
+        this.publicados = Counter.builder("outbox.eventos.publicados")
+                .description("Eventos de la outbox confirmados por RabbitMQ")
+                .register(meterRegistry);
+        this.fallidos = Counter.builder("outbox.eventos.fallidos")
+                .description("Eventos de la outbox descartados por agotar sus intentos")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${clinica.outbox.relay.interval-ms:500}")
+    public void publicarPendientes() {
+        try {
+            Integer enviados;
+            do {
+                List<Fallo> fallos = new ArrayList<>();
+                try {
+                    enviados = transactionTemplate.execute(status -> publicarLote(fallos));
+                } finally {
+                    // Fuera de la transaccion del lote: sus filas ya no estan bloqueadas y el
+                    // incremento sobrevive aunque el broker no haya confirmado
+                    if (!fallos.isEmpty()) {
+                        transactionTemplate.executeWithoutResult(status -> fallos.forEach(this::registrarFallo));
+                    }
+                }
+            } while (enviados != null && enviados == batchSize);
+        } catch (Exception e) {
+            log.warn("No se pudo publicar la outbox, se reintentara: {}", e.getMessage());
+        }
+    }
+
+    private int publicarLote(List<Fallo> fallos) {
+        List<MensajeOutbox> pendientes = jdbcTemplate.query(SELECT_PENDIENTES_SQL,
+                (rs, rowNum) -> new MensajeOutbox(rs.getLong("id"), rs.getString("event_type"), rs.getString("payload")),
+                maxIntentos, batchSize);
+        if (pendientes.isEmpty()) {
+            return 0;
+        }
+
+        Map<MensajeOutbox, AuditableEvent> legibles = new LinkedHashMap<>();
+        for (MensajeOutbox mensaje : pendientes) {
+            try {
+                legibles.put(mensaje, objectMapper.readValue(mensaje.payload(), AuditableEvent.class));
+            } catch (JsonProcessingException e) {
+                fallos.add(new Fallo(mensaje, e));
+            }
+        }
+
+        if (!legibles.isEmpty()) {
+            rabbitTemplate.invoke(operations -> {
+                legibles.forEach((mensaje, evento) ->
+                        operations.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, mensaje.eventType(), evento));
+                operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+
+            Long[] ids = legibles.keySet().stream().map(MensajeOutbox::id).toArray(Long[]::new);
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(DELETE_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", ids));
+                return ps;
+            });
+            publicados.increment(legibles.size());
+            log.debug("Outbox: {} eventos publicados", legibles.size());
+        }
+        return pendientes.size();
+    }
+
+    private void registrarFallo(Fallo fallo) {
+        MensajeOutbox mensaje = fallo.mensaje();
+        Exception causa = fallo.causa();
+        String error = causa.getMessage() == null ? causa.getClass().getName() : causa.getMessage();
+        Integer intentos = jdbcTemplate.queryForObject(FALLIDO_SQL, Integer.class,
+                error.length() > 500 ? error.substring(0, 500) : error, mensaje.id());
+        if (intentos != null && intentos >= maxIntentos) {
+            fallidos.increment();
+            log.error("Evento de outbox {} ({}) descartado tras {} intentos: {}",
+                    mensaje.id(), mensaje.eventType(), intentos, error);
+        } else {
+            log.warn("Evento de outbox {} ({}) ilegible, intento {}: {}", mensaje.id(), mensaje.eventType(), intentos, error);
+        }
+    }
+}